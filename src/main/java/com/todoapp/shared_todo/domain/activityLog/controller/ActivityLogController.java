@@ -0,0 +1,42 @@
+package com.todoapp.shared_todo.domain.activityLog.controller;
+
+import com.todoapp.shared_todo.domain.activityLog.dto.ActivityLogPageResponse;
+import com.todoapp.shared_todo.domain.activityLog.service.ActivityLogService;
+import com.todoapp.shared_todo.global.security.CustomePrincipal;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Activity Log API", description = "보드 활동 기록(감사 로그) 조회 API")
+@RestController
+@RequestMapping("/boards/{boardId}/activities")
+@RequiredArgsConstructor
+@SuppressWarnings("unused") // Spring이 런타임에 자동으로 등록하고 사용하는 Controller
+public class ActivityLogController {
+
+    private final ActivityLogService activityLogService;
+
+    /**
+     * 보드 활동 기록 조회
+     * GET /boards/{boardId}/activities?cursor={nextCursor}&size=50
+     */
+    @Operation(summary = "보드 활동 기록 조회", description = "보드와 할 일의 변경 기록을 최신순으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 사용합니다.")
+    @GetMapping
+    public ResponseEntity<ActivityLogPageResponse> getActivities(
+            @Parameter(description = "보드 ID", example = "1") @PathVariable Long boardId,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomePrincipal userDetails,
+            @Parameter(description = "이전 페이지의 nextCursor (첫 페이지는 생략)", example = "500") @RequestParam(required = false) Long cursor,
+            @Parameter(description = "페이지 크기 (기본 50, 최대 200)", example = "50") @RequestParam(required = false) Integer size) {
+
+        ActivityLogPageResponse response = activityLogService.getActivities(boardId, userDetails.getUserId(), cursor, size);
+        return ResponseEntity.ok(response);
+    }
+}
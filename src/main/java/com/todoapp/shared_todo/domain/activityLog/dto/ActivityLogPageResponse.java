@@ -0,0 +1,14 @@
+package com.todoapp.shared_todo.domain.activityLog.dto;
+
+import java.util.List;
+
+/**
+ * 활동 기록 커서 기반 페이지 응답 (최신순)
+ * nextCursor를 다음 요청의 cursor로 그대로 넘기면 이어서 조회됩니다. (마지막 페이지면 null)
+ */
+public record ActivityLogPageResponse(
+        List<ActivityLogResponse> activities,
+        Long nextCursor,
+        boolean hasNext
+) {
+}
@@ -0,0 +1,17 @@
+package com.todoapp.shared_todo.domain.activityLog.dto;
+
+import com.todoapp.shared_todo.domain.boardEvent.dto.BoardEventType;
+import com.todoapp.shared_todo.domain.task.entity.TaskStatus;
+
+import java.time.LocalDateTime;
+
+public record ActivityLogResponse(
+        Long id,
+        Long taskId,
+        Long actorId,
+        Long targetUserId,
+        BoardEventType activityType,
+        TaskStatus taskStatus,
+        LocalDateTime occurredAt
+) {
+}
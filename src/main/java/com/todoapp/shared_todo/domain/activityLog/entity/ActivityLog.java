@@ -0,0 +1,56 @@
+package com.todoapp.shared_todo.domain.activityLog.entity;
+
+import com.todoapp.shared_todo.domain.boardEvent.dto.BoardEventType;
+import com.todoapp.shared_todo.domain.task.entity.TaskStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보드/Task 활동 기록 (추가만 하는 감사 로그)
+ * 쓰기는 ActivityLogWriter 가 JDBC 배치로 모아서 하며, 엔티티는 조회와 스키마 정의에만 사용합니다.
+ * board_id, task_id 는 FK 없이 값만 보관합니다. (보드/Task 삭제 후에도 기록 유지)
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "activity_log", indexes = {
+        @Index(name = "idx_activity_log_board_id_id", columnList = "board_id, id")
+})
+public class ActivityLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "board_id", nullable = false)
+    private Long boardId;
+
+    @Column(name = "task_id")
+    private Long taskId;
+
+    // 변경한 사용자 (시스템 작업이면 null)
+    @Column(name = "actor_id")
+    private Long actorId;
+
+    // 멤버 참여/탈퇴 대상 사용자
+    @Column(name = "target_user_id")
+    private Long targetUserId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "activity_type", nullable = false, length = 30)
+    private BoardEventType activityType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "task_status", length = 20)
+    private TaskStatus taskStatus;
+
+    @Column(name = "change_version")
+    private Long changeVersion;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,48 @@
+package com.todoapp.shared_todo.domain.activityLog.repository;
+
+import com.todoapp.shared_todo.domain.boardEvent.dto.BoardEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * 활동 기록 일괄 INSERT (JDBC 배치)
+ * rewriteBatchedStatements 설정으로 드라이버가 여러 행을 INSERT 한 문장으로 묶어 보냅니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ActivityLogJdbcRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO activity_log " +
+            "(board_id, task_id, actor_id, target_user_id, activity_type, task_status, change_version, occurred_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<BoardEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, event) -> {
+            ps.setLong(1, event.boardId());
+            setNullableLong(ps, 2, event.taskId());
+            setNullableLong(ps, 3, event.actorId());
+            setNullableLong(ps, 4, event.memberUserId());
+            ps.setString(5, event.type().name());
+            ps.setString(6, event.taskStatus() == null ? null : event.taskStatus().name());
+            setNullableLong(ps, 7, event.changeVersion());
+            ps.setTimestamp(8, Timestamp.valueOf(event.occurredAt()));
+        });
+    }
+
+    private static void setNullableLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.BIGINT);
+        } else {
+            ps.setLong(index, value);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.todoapp.shared_todo.domain.activityLog.repository;
+
+import com.todoapp.shared_todo.domain.activityLog.dto.ActivityLogResponse;
+import com.todoapp.shared_todo.domain.activityLog.entity.ActivityLog;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ActivityLogRepository extends JpaRepository<ActivityLog, Long> {
+
+    /**
+     * 보드 활동 기록 첫 페이지 (최신순, (board_id, id) 인덱스 역순 스캔)
+     */
+    @Query("SELECT new com.todoapp.shared_todo.domain.activityLog.dto.ActivityLogResponse(" +
+            "a.id, a.taskId, a.actorId, a.targetUserId, a.activityType, a.taskStatus, a.occurredAt) " +
+            "FROM ActivityLog a WHERE a.boardId = :boardId ORDER BY a.id DESC")
+    List<ActivityLogResponse> findPageByBoardId(@Param("boardId") Long boardId, Limit limit);
+
+    /**
+     * 커서(마지막으로 받은 기록 id) 이전 페이지 조회
+     */
+    @Query("SELECT new com.todoapp.shared_todo.domain.activityLog.dto.ActivityLogResponse(" +
+            "a.id, a.taskId, a.actorId, a.targetUserId, a.activityType, a.taskStatus, a.occurredAt) " +
+            "FROM ActivityLog a WHERE a.boardId = :boardId AND a.id < :cursor ORDER BY a.id DESC")
+    List<ActivityLogResponse> findPageByBoardIdBefore(@Param("boardId") Long boardId,
+                                                      @Param("cursor") Long cursor,
+                                                      Limit limit);
+}
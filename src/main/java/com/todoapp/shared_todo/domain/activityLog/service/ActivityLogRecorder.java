@@ -0,0 +1,23 @@
+package com.todoapp.shared_todo.domain.activityLog.service;
+
+import com.todoapp.shared_todo.domain.boardEvent.dto.BoardEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋된 보드 이벤트를 활동 기록으로 남김
+ * 서비스 트랜잭션 안에서 쓰지 않고, 커밋 이후 쓰기 큐에만 넣습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ActivityLogRecorder {
+
+    private final ActivityLogWriter activityLogWriter;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBoardEvent(BoardEvent event) {
+        activityLogWriter.enqueue(event);
+    }
+}
@@ -0,0 +1,54 @@
+package com.todoapp.shared_todo.domain.activityLog.service;
+
+import com.todoapp.shared_todo.domain.activityLog.dto.ActivityLogPageResponse;
+import com.todoapp.shared_todo.domain.activityLog.dto.ActivityLogResponse;
+import com.todoapp.shared_todo.domain.activityLog.repository.ActivityLogRepository;
+import com.todoapp.shared_todo.domain.board.repository.BoardRepository;
+import com.todoapp.shared_todo.domain.boardMember.repository.BoardMemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ActivityLogService {
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private final ActivityLogRepository activityLogRepository;
+    private final BoardRepository boardRepository;
+    private final BoardMemberRepository boardMemberRepository;
+
+    /**
+     * 보드 활동 기록 조회 (최신순, 커서 기반 페이지네이션)
+     * 요구사항: 보드 멤버만 조회 가능
+     * 기록은 비동기로 저장되므로 방금 일어난 변경은 잠시 후에 보일 수 있습니다.
+     */
+    public ActivityLogPageResponse getActivities(Long boardId, Long userId, Long cursor, Integer size) {
+        if (!boardRepository.existsById(boardId)) {
+            throw new IllegalArgumentException("보드를 찾을 수 없습니다.");
+        }
+
+        // 권한 확인: 보드 멤버만 접근 가능
+        if (!boardMemberRepository.existsByBoardIdAndUserId(boardId, userId)) {
+            throw new IllegalArgumentException("보드에 접근할 권한이 없습니다.");
+        }
+
+        int pageSize = (size == null || size <= 0) ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        Limit limit = Limit.of(pageSize + 1);
+        List<ActivityLogResponse> activities = (cursor == null)
+                ? activityLogRepository.findPageByBoardId(boardId, limit)
+                : activityLogRepository.findPageByBoardIdBefore(boardId, cursor, limit);
+
+        boolean hasNext = activities.size() > pageSize;
+        List<ActivityLogResponse> page = hasNext ? activities.subList(0, pageSize) : activities;
+        Long nextCursor = hasNext ? page.get(page.size() - 1).id() : null;
+
+        return new ActivityLogPageResponse(page, nextCursor, hasNext);
+    }
+}
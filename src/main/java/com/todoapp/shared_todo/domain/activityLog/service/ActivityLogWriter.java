@@ -0,0 +1,147 @@
+package com.todoapp.shared_todo.domain.activityLog.service;
+
+import com.todoapp.shared_todo.domain.activityLog.repository.ActivityLogJdbcRepository;
+import com.todoapp.shared_todo.domain.boardEvent.dto.BoardEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 활동 기록 지연 쓰기(write-behind)
+ * - 요청 스레드는 고정 크기 큐에 넣기만 하고, 전용 쓰기 스레드가 쌓인 만큼 묶어 여러 행 INSERT 로 저장합니다.
+ * - 큐가 가득 차면 짧게 기다린 뒤 버립니다. 요청 지연이 감사 로그 때문에 늘어나지 않게 하기 위함이며,
+ *   버린 건수는 activity_log.dropped 메트릭으로 확인합니다.
+ * - 메트릭: activity_log.queue.size / activity_log.queue.remaining / activity_log.enqueued /
+ *   activity_log.dropped / activity_log.written / activity_log.failed / activity_log.flush
+ */
+@Slf4j
+@Component
+public class ActivityLogWriter {
+
+    private static final int MAX_WRITE_ATTEMPTS = 3;
+
+    private final ActivityLogJdbcRepository activityLogJdbcRepository;
+    private final BlockingQueue<BoardEvent> queue;
+    private final Counter enqueuedCounter;
+    private final Counter droppedCounter;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+    private final Timer flushTimer;
+    private final AtomicLong droppedSinceLastReport = new AtomicLong();
+    private final Thread writerThread;
+    private volatile boolean running = true;
+
+    @Value("${board.activity-log.max-batch-size:500}")
+    private int maxBatchSize;
+
+    @Value("${board.activity-log.offer-timeout-ms:5}")
+    private long offerTimeoutMs;
+
+    public ActivityLogWriter(ActivityLogJdbcRepository activityLogJdbcRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${board.activity-log.queue-capacity:10000}") int queueCapacity) {
+        this.activityLogJdbcRepository = activityLogJdbcRepository;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+
+        Gauge.builder("activity_log.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+        Gauge.builder("activity_log.queue.remaining", queue, BlockingQueue::remainingCapacity).register(meterRegistry);
+        this.enqueuedCounter = meterRegistry.counter("activity_log.enqueued");
+        this.droppedCounter = meterRegistry.counter("activity_log.dropped");
+        this.writtenCounter = meterRegistry.counter("activity_log.written");
+        this.failedCounter = meterRegistry.counter("activity_log.failed");
+        this.flushTimer = meterRegistry.timer("activity_log.flush");
+
+        this.writerThread = new Thread(this::runWriter, "activity-log-writer");
+        this.writerThread.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        writerThread.start();
+    }
+
+    /**
+     * 활동 기록 등록 (요청 스레드에서 호출, DB를 기다리지 않음)
+     */
+    public void enqueue(BoardEvent event) {
+        boolean accepted;
+        try {
+            accepted = queue.offer(event, offerTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+
+        if (accepted) {
+            enqueuedCounter.increment();
+        } else {
+            droppedCounter.increment();
+            droppedSinceLastReport.incrementAndGet();
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        // 남은 기록을 비울 시간을 줌
+        writerThread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    private void runWriter() {
+        List<BoardEvent> batch = new ArrayList<>();
+        while (running || !queue.isEmpty()) {
+            try {
+                BoardEvent first = queue.poll(1, TimeUnit.SECONDS);
+                reportDropped();
+                if (first == null) {
+                    continue;
+                }
+                // 기다리지 않고 지금 쌓여 있는 만큼만 묶음 (부하가 클수록 배치가 커짐)
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<BoardEvent> batch) throws InterruptedException {
+        for (int attempt = 1; attempt <= MAX_WRITE_ATTEMPTS; attempt++) {
+            try {
+                flushTimer.record(() -> activityLogJdbcRepository.insertAll(batch));
+                writtenCounter.increment(batch.size());
+                return;
+            } catch (Exception e) {
+                log.warn("[Activity Log] 활동 기록 저장 실패 ({}/{}) - {}건",
+                        attempt, MAX_WRITE_ATTEMPTS, batch.size(), e);
+                TimeUnit.MILLISECONDS.sleep(200L * attempt);
+            }
+        }
+        failedCounter.increment(batch.size());
+        log.error("[Activity Log] 활동 기록 {}건을 저장하지 못하고 버립니다.", batch.size());
+    }
+
+    private void reportDropped() {
+        long dropped = droppedSinceLastReport.getAndSet(0);
+        if (dropped > 0) {
+            log.warn("[Activity Log] 큐가 가득 차 활동 기록 {}건을 버렸습니다.", dropped);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.todoapp.shared_todo.domain.attachment.repository;
 
+import com.todoapp.shared_todo.domain.attachment.dto.AttachmentResponse;
 import com.todoapp.shared_todo.domain.attachment.entity.Attachment;
 import com.todoapp.shared_todo.domain.board.entity.Board;
 import com.todoapp.shared_todo.domain.user.entity.User;
@@ -26,6 +27,15 @@ public interface AttachmentRepository extends JpaRepository<Attachment, Long> {
      */
     List<Attachment> findByBoardIdAndIsDeletedFalse(Long boardId);
 
+    /**
+     * 보드 ID로 첨부파일 목록 조회 (논리 삭제 제외, DTO 프로젝션)
+     * 업로더를 함께 조인하므로 첨부파일마다 사용자 조회가 추가로 나가지 않습니다.
+     */
+    @Query("SELECT new com.todoapp.shared_todo.domain.attachment.dto.AttachmentResponse(" +
+            "a.id, a.originFilename, a.fileSize, a.contentType, u.id, u.nickname, a.isDeleted, a.createdAt) " +
+            "FROM Attachment a LEFT JOIN a.uploader u WHERE a.board.id = :boardId AND a.isDeleted = false ORDER BY a.id")
+    List<AttachmentResponse> findResponsesByBoardId(@Param("boardId") Long boardId);
+
     /**
      * 첨부파일 ID와 보드로 조회 (권한 확인용, 논리 삭제 제외)
      */
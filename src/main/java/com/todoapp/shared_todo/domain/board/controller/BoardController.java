@@ -1,11 +1,18 @@
 package com.todoapp.shared_todo.domain.board.controller;
 
+import com.todoapp.shared_todo.domain.board.dto.BoardChangesResponse;
+import com.todoapp.shared_todo.domain.board.dto.BoardCloneRequest;
 import com.todoapp.shared_todo.domain.board.dto.BoardCreateRequest;
 import com.todoapp.shared_todo.domain.board.dto.BoardResponse;
+import com.todoapp.shared_todo.domain.board.dto.BoardSnapshotResponse;
 import com.todoapp.shared_todo.domain.board.dto.BoardUpdateTitleRequest;
+import com.todoapp.shared_todo.domain.board.service.BoardCloneService;
 import com.todoapp.shared_todo.domain.board.service.BoardService;
+import com.todoapp.shared_todo.domain.board.service.BoardSnapshotService;
+import com.todoapp.shared_todo.domain.board.service.BoardSyncService;
 import com.todoapp.shared_todo.global.dto.ApiResponse;
 import com.todoapp.shared_todo.global.security.CustomePrincipal;
+import com.todoapp.shared_todo.global.util.ETagUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -15,6 +22,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -26,6 +34,9 @@ import java.util.List;
 public class BoardController {
 
     private final BoardService boardService;
+    private final BoardSyncService boardSyncService;
+    private final BoardSnapshotService boardSnapshotService;
+    private final BoardCloneService boardCloneService;
 
     /**
      * 보드 생성
@@ -56,15 +67,65 @@ public class BoardController {
      * 보드 단건 조회
      * GET /boards/{boardId}
      */
-    @Operation(summary = "보드 단건 조회", description = "특정 보드의 상세 정보를 조회합니다.")
+    @Operation(summary = "보드 단건 조회", description = "특정 보드의 상세 정보를 조회합니다. ETag를 응답하며 If-None-Match가 일치하면 304를 반환합니다.")
     @GetMapping("/{boardId}")
     public ApiResponse<BoardResponse> getBoard(
             @Parameter(description = "조회할 보드의 ID", example = "1") @PathVariable Long boardId,
-            @AuthenticationPrincipal CustomePrincipal userId) { // TODO: JWT 인증 후 SecurityContext에서 가져오도록 변경
+            @AuthenticationPrincipal CustomePrincipal userId, // TODO: JWT 인증 후 SecurityContext에서 가져오도록 변경
+            @Parameter(hidden = true) WebRequest webRequest) {
+        // 변경 버전을 본문보다 먼저 읽으므로, 본문이 ETag보다 최신일 수는 있어도 오래될 수는 없음
+        String eTag = ETagUtils.boardETag(boardId, boardService.getChangeVersion(boardId, userId.getUserId()));
+        if (webRequest.checkNotModified(eTag)) {
+            return null; // 304 Not Modified
+        }
+
         BoardResponse response = boardService.getBoard(boardId, userId.getUserId());
         return ApiResponse.onSuccess(response);
     }
 
+    /**
+     * 보드 스냅샷 조회
+     * GET /boards/{boardId}/snapshot
+     */
+    @Operation(summary = "보드 스냅샷 조회", description = "보드 정보, 할 일 첫 페이지, 멤버 목록, 첨부파일 목록(소유자만)을 한 번에 조회합니다. "
+            + "응답의 changeVersion을 since로 변경분 조회를 이어가면 됩니다.")
+    @GetMapping("/{boardId}/snapshot")
+    public ApiResponse<BoardSnapshotResponse> getSnapshot(
+            @Parameter(description = "보드 ID", example = "1") @PathVariable Long boardId,
+            @Parameter(description = "할 일 첫 페이지 크기 (기본 50, 최대 200)", example = "50") @RequestParam(required = false) Integer taskSize,
+            @AuthenticationPrincipal CustomePrincipal userId) {
+        BoardSnapshotResponse response = boardSnapshotService.getSnapshot(boardId, userId.getUserId(), taskSize);
+        return ApiResponse.onSuccess(response);
+    }
+
+    /**
+     * 보드 델타 동기화
+     * GET /boards/{boardId}/changes?since={cursor}
+     */
+    @Operation(summary = "보드 변경분 조회", description = "since(이전 응답의 cursor) 이후에 생성/수정/삭제된 할 일만 조회합니다. 처음에는 0을 보냅니다.")
+    @GetMapping("/{boardId}/changes")
+    public ApiResponse<BoardChangesResponse> getChanges(
+            @Parameter(description = "보드 ID", example = "1") @PathVariable Long boardId,
+            @Parameter(description = "이전 응답의 cursor (보드 변경 버전)", example = "0") @RequestParam Long since,
+            @AuthenticationPrincipal CustomePrincipal userId) {
+        BoardChangesResponse response = boardSyncService.getChanges(boardId, userId.getUserId(), since);
+        return ApiResponse.onSuccess(response);
+    }
+
+    /**
+     * 보드 복제
+     * POST /boards/{boardId}/clone
+     */
+    @Operation(summary = "보드 복제", description = "보드와 할 일 전체를 새 보드로 복제합니다. 복제한 사용자가 새 보드의 소유자가 됩니다. (휴지통/보관된 할 일 제외)")
+    @PostMapping("/{boardId}/clone")
+    public ApiResponse<BoardResponse> cloneBoard(
+            @Parameter(description = "복제할 보드의 ID", example = "1") @PathVariable Long boardId,
+            @AuthenticationPrincipal CustomePrincipal userId,
+            @Valid @RequestBody BoardCloneRequest request) {
+        BoardResponse response = boardCloneService.cloneBoard(boardId, userId.getUserId(), request);
+        return ApiResponse.onSuccess(response);
+    }
+
     /**
      * 보드 제목 수정
      * PUT /boards/{boardId}/title
@@ -0,0 +1,30 @@
+package com.todoapp.shared_todo.domain.board.dto;
+
+import com.todoapp.shared_todo.domain.task.dto.TaskResponse;
+
+import java.util.List;
+
+/**
+ * 보드 델타 동기화 응답
+ * - cursor: 다음 요청의 since로 그대로 넘길 값 (보드 변경 버전)
+ * - resyncRequired: 변경 이력이 너무 많거나 보관 기간이 지나 델타를 줄 수 없음 → 전체 다시 조회
+ * - boardChanged: 제목/멤버 등 보드 단위 변경이 있었음 → 보드 정보 다시 조회
+ * - changedTasks: 생성/수정된 Task의 현재 상태
+ * - deletedTaskIds: 삭제된 Task ID (툼스톤)
+ */
+public record BoardChangesResponse(
+        Long boardId,
+        Long cursor,
+        boolean resyncRequired,
+        boolean boardChanged,
+        List<TaskResponse> changedTasks,
+        List<Long> deletedTaskIds
+) {
+    public static BoardChangesResponse unchanged(Long boardId, Long cursor) {
+        return new BoardChangesResponse(boardId, cursor, false, false, List.of(), List.of());
+    }
+
+    public static BoardChangesResponse resync(Long boardId, Long cursor) {
+        return new BoardChangesResponse(boardId, cursor, true, false, List.of(), List.of());
+    }
+}
@@ -0,0 +1,21 @@
+package com.todoapp.shared_todo.domain.board.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * 보드 복제 요청
+ *
+ * @param resetStatus true면 복제한 Task를 모두 미완료로 시작 (템플릿 용도)
+ */
+public record BoardCloneRequest(
+        @NotBlank(message = "보드 제목은 필수입니다.")
+        @Size(min = 1, max = 50, message = "보드 제목은 1~50자 사이여야 합니다.")
+        @Schema(description = "새 보드 제목", example = "주간 회의 체크리스트")
+        String title,
+
+        @Schema(description = "Task 완료 상태 초기화 여부", example = "true")
+        boolean resetStatus
+) {
+}
@@ -1,5 +1,6 @@
 package com.todoapp.shared_todo.domain.board.dto;
 
+import com.todoapp.shared_todo.domain.board.entity.Board;
 import lombok.*;
 
 @Getter
@@ -12,4 +13,12 @@ public class BoardResponse {
     private String title;
     private Long authorId;
     private Float completionRate;
+
+    // JPQL 생성자 프로젝션용: 카운터 컬럼만 읽어 완료율을 계산
+    public BoardResponse(Long id, String title, Long authorId, Integer totalTasks, Integer checkedTasks) {
+        this.id = id;
+        this.title = title;
+        this.authorId = authorId;
+        this.completionRate = Board.calculateCompletionRate(totalTasks, checkedTasks);
+    }
 }
@@ -0,0 +1,28 @@
+package com.todoapp.shared_todo.domain.board.dto;
+
+import com.todoapp.shared_todo.domain.attachment.dto.AttachmentListResponse;
+import com.todoapp.shared_todo.domain.boardMember.dto.BoardMemberResponse;
+import com.todoapp.shared_todo.domain.boardMember.entity.BoardMemberRole;
+import com.todoapp.shared_todo.domain.task.dto.TaskPageResponse;
+
+import java.util.List;
+
+/**
+ * 보드 스냅샷 (보드를 열 때 필요한 데이터를 한 번에 응답)
+ * 각 항목은 따로 읽으므로 서로 완전히 같은 시점은 아닙니다. changeVersion은 다른 항목보다 먼저 읽으므로,
+ * 이 값을 since로 GET /boards/{boardId}/changes 를 호출하면 빠진 변경 없이 이어 받을 수 있습니다.
+ *
+ * @param changeVersion 스냅샷을 읽기 시작한 시점의 보드 변경 버전
+ * @param myRole        요청한 사용자의 보드 역할
+ * @param tasks         Task 첫 페이지 (다음 페이지는 GET /boards/{boardId}/tasks?cursor= 로 조회)
+ * @param attachments   첨부파일 목록 (첨부파일 조회 권한이 있는 소유자에게만 포함, 그 외에는 null)
+ */
+public record BoardSnapshotResponse(
+        BoardResponse board,
+        Long changeVersion,
+        BoardMemberRole myRole,
+        TaskPageResponse tasks,
+        List<BoardMemberResponse> members,
+        AttachmentListResponse attachments
+) {
+}
@@ -1,18 +1,17 @@
 package com.todoapp.shared_todo.domain.board.entity;
 
-import com.todoapp.shared_todo.domain.task.entity.Task;
 import com.todoapp.shared_todo.domain.user.entity.User;
 import com.todoapp.shared_todo.global.common.BaseTimeEntity;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.util.Assert;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
 
 @Getter
 @Entity
+@DynamicUpdate // 변경된 컬럼만 UPDATE → 제목 수정 등이 Task 카운터(원자적 증감)를 덮어쓰지 않도록
 @Table(name = "board")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Board extends BaseTimeEntity {
@@ -29,12 +28,16 @@ public class Board extends BaseTimeEntity {
     @JoinColumn(name = "author_id", nullable = false)
     private User author;
 
-    @Column(name = "completion_rate")
-    private Float completionRate = 0.0f;
+    // Task 수 카운터: TaskService에서 UPDATE board SET ... = ... + n 으로만 증감 (엔티티에서 직접 수정하지 않음)
+    @Column(name = "total_tasks", nullable = false)
+    private int totalTasks = 0;
 
-    // 이 보드에 속한 Task 리스트들
-    @OneToMany(mappedBy = "board", cascade = CascadeType.ALL, orphanRemoval = true)
-    private final List<Task> tasks = new ArrayList<>();
+    @Column(name = "checked_tasks", nullable = false)
+    private int checkedTasks = 0;
+
+    // 보드 변경 버전: 제목/멤버/Task가 바뀔 때마다 1씩 증가 (ETag, 변경 감지용)
+    @Column(name = "change_version", nullable = false)
+    private long changeVersion = 0L;
 
     @Override
     public boolean equals(Object o) {
@@ -45,7 +48,7 @@ public class Board extends BaseTimeEntity {
     }
 
     @Builder
-    public Board(String title, User author, Float completionRate) {
+    public Board(String title, User author) {
         this.title = title;
         this.author = author;
     }
@@ -55,6 +58,18 @@ public class Board extends BaseTimeEntity {
         return Objects.hash(id);
     }
 
+    // 완료율(%) - 카운터에서 계산하므로 task 테이블을 COUNT 하지 않음
+    public Float getCompletionRate() {
+        return calculateCompletionRate(totalTasks, checkedTasks);
+    }
+
+    public static Float calculateCompletionRate(long totalTasks, long checkedTasks) {
+        if (totalTasks <= 0) {
+            return 0.0f;
+        }
+        return Math.round(checkedTasks * 1000f / totalTasks) / 10f;
+    }
+
     //타이틀 업데이트
     public void updateTitle(String title) {
         Assert.hasText(title, "닉네임은 필수입니다.");
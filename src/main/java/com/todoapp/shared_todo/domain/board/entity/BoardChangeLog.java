@@ -0,0 +1,68 @@
+package com.todoapp.shared_todo.domain.board.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보드 변경 로그 (델타 동기화용, append-only)
+ * 보드 변경 버전이 올라갈 때마다 한 건 이상 기록됩니다.
+ * 보드/Task가 삭제된 뒤에도 툼스톤을 알려줘야 하므로 FK 없이 ID 값만 저장합니다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "board_change_log", indexes = {
+        @Index(name = "idx_board_change_log_board_version", columnList = "board_id, board_version"),
+        @Index(name = "idx_board_change_log_created_at", columnList = "created_at")
+})
+public class BoardChangeLog {
+
+    public static BoardChangeLog create(Long boardId, Long taskId, BoardChangeType changeType, Long boardVersion) {
+        BoardChangeLog log = new BoardChangeLog();
+        log.boardId = boardId;
+        log.taskId = taskId;
+        log.changeType = changeType;
+        log.boardVersion = boardVersion;
+        return log;
+    }
+
+    // Task 일괄 변경 시 로그도 여러 건이 생기므로 배치 INSERT가 가능한 pooled 생성기 사용
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "board_change_log_id_generator")
+    @TableGenerator(
+            name = "board_change_log_id_generator",
+            table = "id_generator",
+            pkColumnName = "sequence_name",
+            valueColumnName = "next_val",
+            pkColumnValue = "board_change_log",
+            allocationSize = 100
+    )
+    private Long id;
+
+    @Column(name = "board_id", nullable = false)
+    private Long boardId;
+
+    // 보드 단위 변경(제목, 멤버)은 null
+    @Column(name = "task_id")
+    private Long taskId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 30)
+    private BoardChangeType changeType;
+
+    // 이 변경이 반영된 보드 변경 버전 (board.change_version)
+    @Column(name = "board_version", nullable = false)
+    private Long boardVersion;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,9 @@
+package com.todoapp.shared_todo.domain.board.entity;
+
+public enum BoardChangeType {
+    TASK_CREATED,
+    TASK_UPDATED,
+    TASK_DELETED,
+    BOARD_UPDATED,
+    MEMBER_CHANGED
+}
@@ -0,0 +1,59 @@
+package com.todoapp.shared_todo.domain.board.repository;
+
+import com.todoapp.shared_todo.domain.board.entity.BoardChangeLog;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface BoardChangeLogRepository extends JpaRepository<BoardChangeLog, Long> {
+
+    /**
+     * (since, until] 버전 구간에서 변경된 task ID 목록 (중복 제거)
+     */
+    @Query("SELECT DISTINCT l.taskId FROM BoardChangeLog l " +
+            "WHERE l.boardId = :boardId AND l.boardVersion > :since AND l.boardVersion <= :until " +
+            "AND l.taskId IS NOT NULL")
+    List<Long> findChangedTaskIds(@Param("boardId") Long boardId,
+                                  @Param("since") Long since,
+                                  @Param("until") Long until,
+                                  Limit limit);
+
+    /**
+     * (since, until] 버전 구간에 보드 단위 변경(제목, 멤버)이 있었는지 여부
+     */
+    @Query("SELECT CASE WHEN COUNT(l) > 0 THEN true ELSE false END FROM BoardChangeLog l " +
+            "WHERE l.boardId = :boardId AND l.boardVersion > :since AND l.boardVersion <= :until " +
+            "AND l.taskId IS NULL")
+    boolean existsBoardLevelChange(@Param("boardId") Long boardId,
+                                   @Param("since") Long since,
+                                   @Param("until") Long until);
+
+    /**
+     * 보드에 남아 있는 가장 오래된 로그 버전 (보관 기간이 지나 삭제된 구간 판별용)
+     */
+    @Query("SELECT MIN(l.boardVersion) FROM BoardChangeLog l WHERE l.boardId = :boardId")
+    Long findMinBoardVersion(@Param("boardId") Long boardId);
+
+    /**
+     * 보드 삭제 시 로그 정리
+     */
+    @Modifying
+    @Query("DELETE FROM BoardChangeLog l WHERE l.boardId = :boardId")
+    int deleteByBoardId(@Param("boardId") Long boardId);
+
+    /**
+     * 보관 기간이 지난 로그를 limit 건씩 삭제 (정리 작업용, 호출마다 별도 트랜잭션)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM board_change_log WHERE created_at < :before LIMIT :limit", nativeQuery = true)
+    int deleteOlderThan(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
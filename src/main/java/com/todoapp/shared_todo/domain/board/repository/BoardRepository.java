@@ -1,10 +1,17 @@
 package com.todoapp.shared_todo.domain.board.repository;
 
+import com.todoapp.shared_todo.domain.board.dto.BoardResponse;
 import com.todoapp.shared_todo.domain.board.entity.Board;
 import com.todoapp.shared_todo.domain.user.entity.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,5 +23,97 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
 
     // 사용자가 소유한 보드 목록 조회
     List<Board> findByAuthor(User author);
-}
 
+    // 보드 소유 여부 확인
+    boolean existsByIdAndAuthorId(Long id, Long authorId);
+
+    /**
+     * 보드 조회 및 행 잠금 (SELECT ... FOR UPDATE)
+     * - 같은 보드의 task 정렬 키를 만드는 작업(생성/이동/재정렬)을 한 번에 하나씩 처리하기 위함
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Board b WHERE b.id = :boardId")
+    Optional<Board> findByIdForUpdate(@Param("boardId") Long boardId);
+
+    /**
+     * 보드 행 공유 잠금 (SELECT ... FOR SHARE)
+     * - 보드 복제 중 원본 보드에 Task가 추가/복원되지 않도록 막음 (Task 추가는 보드 행 배타 잠금을 잡음)
+     */
+    @Query(value = "SELECT b.id FROM board b WHERE b.id = :boardId FOR SHARE", nativeQuery = true)
+    Optional<Long> lockIdForShare(@Param("boardId") Long boardId);
+
+    /**
+     * 보드 단건 조회 (DTO 프로젝션)
+     * - author는 FK 컬럼(author_id)만 읽으므로 users 테이블을 조인하지 않음
+     */
+    @Query("SELECT new com.todoapp.shared_todo.domain.board.dto.BoardResponse(" +
+            "b.id, b.title, b.author.id, b.totalTasks, b.checkedTasks) " +
+            "FROM Board b WHERE b.id = :boardId")
+    Optional<BoardResponse> findResponseById(@Param("boardId") Long boardId);
+
+    /**
+     * 사용자가 멤버로 참여 중인 보드 목록 조회 (DTO 프로젝션)
+     */
+    @Query("SELECT new com.todoapp.shared_todo.domain.board.dto.BoardResponse(" +
+            "b.id, b.title, b.author.id, b.totalTasks, b.checkedTasks) " +
+            "FROM BoardMember bm JOIN bm.board b WHERE bm.user.id = :userId ORDER BY b.id")
+    List<BoardResponse> findResponsesByMemberUserId(@Param("userId") Long userId);
+
+    /**
+     * 보드의 Task 카운터를 원자적으로 증감하고 변경 버전을 1 올림
+     * - 읽고-계산하고-쓰지 않고 DB에서 바로 더하므로 동시 요청에도 누락이 없음
+     */
+    @Modifying
+    @Query("UPDATE Board b SET b.totalTasks = b.totalTasks + :totalDelta, " +
+            "b.checkedTasks = b.checkedTasks + :checkedDelta, " +
+            "b.changeVersion = b.changeVersion + 1 WHERE b.id = :boardId")
+    int adjustTaskCounters(@Param("boardId") Long boardId,
+                           @Param("totalDelta") int totalDelta,
+                           @Param("checkedDelta") int checkedDelta);
+
+    /**
+     * 보드 변경 버전만 1 올림 (제목 수정, 멤버 변경, Task 내용 수정 등)
+     */
+    @Modifying
+    @Query("UPDATE Board b SET b.changeVersion = b.changeVersion + 1 WHERE b.id = :boardId")
+    int increaseChangeVersion(@Param("boardId") Long boardId);
+
+    /**
+     * 보드 변경 버전 조회 (ETag 비교용, 보드 행의 PK 조회 한 번)
+     */
+    @Query("SELECT b.changeVersion FROM Board b WHERE b.id = :boardId")
+    Optional<Long> findChangeVersionById(@Param("boardId") Long boardId);
+
+    // 카운터 보정 작업의 보드 ID 범위 계산용
+    @Query("SELECT MAX(b.id) FROM Board b")
+    Long findMaxId();
+
+    /**
+     * 보드 ID 구간 잠금 (카운터 보정 전)
+     * - 카운터를 증감 중인 트랜잭션이 끝날 때까지 기다린 뒤 집계하기 위함
+     */
+    @Query(value = "SELECT b.id FROM board b WHERE b.id BETWEEN :fromId AND :toId FOR UPDATE", nativeQuery = true)
+    List<Long> lockIdsBetween(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * 지정한 보드 행 잠금 (다른 트랜잭션이 잠근 보드는 기다리지 않고 건너뜀)
+     * - Task 보관 작업이 삭제 중이거나 Task를 추가 중인 보드와 엇갈려 기다리지 않도록 사용합니다.
+     */
+    @Query(value = "SELECT b.id FROM board b WHERE b.id IN (:ids) ORDER BY b.id FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockIdsInSkipLocked(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 보드 ID 구간의 Task 카운터를 실제 task 행 기준으로 다시 계산 (보정 작업 전용)
+     * 휴지통에 있는 Task는 세지 않습니다.
+     */
+    @Modifying
+    @Query(value = "UPDATE board b " +
+            "LEFT JOIN (SELECT t.board_id, COUNT(*) AS total, " +
+            "SUM(CASE WHEN t.status = 'CHECKED' THEN 1 ELSE 0 END) AS checked " +
+            "FROM task t WHERE t.board_id BETWEEN :fromId AND :toId AND t.deleted_at IS NULL GROUP BY t.board_id) c " +
+            "ON c.board_id = b.id " +
+            "SET b.total_tasks = COALESCE(c.total, 0), b.checked_tasks = COALESCE(c.checked, 0) " +
+            "WHERE b.id BETWEEN :fromId AND :toId",
+            nativeQuery = true)
+    int reconcileTaskCounters(@Param("fromId") Long fromId, @Param("toId") Long toId);
+}
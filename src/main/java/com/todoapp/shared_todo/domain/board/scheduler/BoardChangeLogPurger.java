@@ -0,0 +1,43 @@
+package com.todoapp.shared_todo.domain.board.scheduler;
+
+import com.todoapp.shared_todo.domain.board.repository.BoardChangeLogRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보드 변경 로그 정리 작업
+ * 보관 기간이 지난 로그를 작은 단위로 나눠 삭제합니다.
+ * 그보다 오래된 since로 요청한 클라이언트는 resyncRequired 응답을 받고 전체를 다시 조회합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardChangeLogPurger {
+
+    private final BoardChangeLogRepository boardChangeLogRepository;
+
+    @Value("${board.change-log.retention-days:30}")
+    private long retentionDays;
+
+    @Value("${board.change-log.purge-chunk-size:5000}")
+    private int chunkSize;
+
+    @Scheduled(cron = "${board.change-log.purge-cron:0 0 5 * * *}")
+    public void purge() {
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+
+        long purged = 0;
+        int deleted;
+        do {
+            deleted = boardChangeLogRepository.deleteOlderThan(before, chunkSize);
+            purged += deleted;
+        } while (deleted == chunkSize);
+
+        log.info("[Board Change Log] 보관 기간이 지난 변경 로그 삭제 완료 - {}건", purged);
+    }
+}
@@ -0,0 +1,39 @@
+package com.todoapp.shared_todo.domain.board.scheduler;
+
+import com.todoapp.shared_todo.domain.board.service.BoardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 보드 Task 카운터 보정 작업
+ * 증감 방식의 카운터가 어긋났을 경우(수동 데이터 수정, 장애 등)를 대비해 주기적으로 실제 값으로 맞춥니다.
+ * 보드 ID 구간별로 짧은 트랜잭션을 나눠 실행해 한 번에 많은 행을 잠그지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardTaskCounterReconciler {
+
+    private final BoardService boardService;
+
+    @Value("${board.task-counter.reconcile-chunk-size:500}")
+    private long chunkSize;
+
+    @Scheduled(cron = "${board.task-counter.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        Long maxBoardId = boardService.getMaxBoardId();
+        if (maxBoardId == null) {
+            return;
+        }
+
+        int reconciled = 0;
+        for (long fromId = 1; fromId <= maxBoardId; fromId += chunkSize) {
+            reconciled += boardService.reconcileTaskCounters(fromId, fromId + chunkSize - 1);
+        }
+
+        log.info("[Board Counter] 보드 Task 카운터 보정 완료 - 대상 보드 수: {}", reconciled);
+    }
+}
@@ -0,0 +1,80 @@
+package com.todoapp.shared_todo.domain.board.service;
+
+import com.todoapp.shared_todo.domain.board.entity.BoardChangeLog;
+import com.todoapp.shared_todo.domain.board.entity.BoardChangeType;
+import com.todoapp.shared_todo.domain.board.repository.BoardChangeLogRepository;
+import com.todoapp.shared_todo.domain.board.repository.BoardRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 보드 변경 기록
+ * 보드의 내용이 바뀌는 모든 쓰기 작업은 이 클래스를 거쳐 변경 버전을 올리고 변경 로그를 남깁니다.
+ * 호출하는 쪽의 트랜잭션에 함께 참여하므로 본 작업이 롤백되면 기록도 함께 롤백됩니다.
+ * (보드 행 UPDATE가 커밋까지 잠금을 잡으므로 같은 보드의 변경 버전은 커밋 순서대로 증가합니다)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class BoardChangeRecorder {
+
+    private final BoardRepository boardRepository;
+    private final BoardChangeLogRepository boardChangeLogRepository;
+
+    /**
+     * Task 변경 기록: Task 카운터 증감 + 변경 버전 증가 + Task별 변경 로그
+     *
+     * @return 변경 후 보드 변경 버전
+     */
+    public long recordTaskChanges(Long boardId, BoardChangeType changeType, Collection<Long> taskIds,
+                                  int totalDelta, int checkedDelta) {
+        boardRepository.adjustTaskCounters(boardId, totalDelta, checkedDelta);
+        long changeVersion = currentVersion(boardId);
+
+        List<BoardChangeLog> logs = taskIds.stream()
+                .map(taskId -> BoardChangeLog.create(boardId, taskId, changeType, changeVersion))
+                .collect(Collectors.toList());
+        boardChangeLogRepository.saveAll(logs);
+
+        return changeVersion;
+    }
+
+    /**
+     * 같은 변경에 딸려 바뀐 Task 기록 (예: 하위 Task 변경으로 카운터가 바뀐 조상 Task)
+     * 변경 버전은 올리지 않고 changeVersion 에 TASK_UPDATED 로그만 추가합니다.
+     */
+    public void recordRelatedTaskUpdates(Long boardId, long changeVersion, Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+        List<BoardChangeLog> logs = taskIds.stream()
+                .map(taskId -> BoardChangeLog.create(boardId, taskId, BoardChangeType.TASK_UPDATED, changeVersion))
+                .collect(Collectors.toList());
+        boardChangeLogRepository.saveAll(logs);
+    }
+
+    /**
+     * 보드 단위 변경 기록 (제목 수정, 멤버 변경): 변경 버전 증가 + 변경 로그 한 건
+     *
+     * @return 변경 후 보드 변경 버전
+     */
+    public long recordBoardChange(Long boardId, BoardChangeType changeType) {
+        boardRepository.increaseChangeVersion(boardId);
+        long changeVersion = currentVersion(boardId);
+
+        boardChangeLogRepository.save(BoardChangeLog.create(boardId, null, changeType, changeVersion));
+
+        return changeVersion;
+    }
+
+    private long currentVersion(Long boardId) {
+        return boardRepository.findChangeVersionById(boardId)
+                .orElseThrow(() -> new IllegalArgumentException("보드를 찾을 수 없습니다."));
+    }
+}
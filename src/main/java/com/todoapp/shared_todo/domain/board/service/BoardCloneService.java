@@ -0,0 +1,84 @@
+package com.todoapp.shared_todo.domain.board.service;
+
+import com.todoapp.shared_todo.domain.board.dto.BoardCloneRequest;
+import com.todoapp.shared_todo.domain.board.dto.BoardResponse;
+import com.todoapp.shared_todo.domain.board.entity.Board;
+import com.todoapp.shared_todo.domain.board.repository.BoardRepository;
+import com.todoapp.shared_todo.domain.boardMember.entity.BoardMember;
+import com.todoapp.shared_todo.domain.boardMember.entity.BoardMemberRole;
+import com.todoapp.shared_todo.domain.boardMember.repository.BoardMemberRepository;
+import com.todoapp.shared_todo.domain.task.repository.TaskCloneJdbcRepository;
+import com.todoapp.shared_todo.domain.task.repository.TaskRepository;
+import com.todoapp.shared_todo.domain.user.entity.User;
+import com.todoapp.shared_todo.domain.user.repository.UsersRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보드 복제
+ * 새 보드와 소유자 멤버를 만든 뒤, 원본 보드의 Task를 INSERT ... SELECT 한 문장으로 복사합니다.
+ * Task 엔티티를 읽지 않으므로 복사 비용이 Task 수에 비해 거의 늘지 않습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BoardCloneService {
+
+    private final BoardRepository boardRepository;
+    private final BoardMemberRepository boardMemberRepository;
+    private final UsersRepository usersRepository;
+    private final TaskRepository taskRepository;
+    private final TaskCloneJdbcRepository taskCloneJdbcRepository;
+
+    @Value("${board.clone.max-tasks:50000}")
+    private int maxTasks;
+
+    /**
+     * 보드 복제
+     * 요구사항: 원본 보드의 멤버라면 복제 가능, 복제한 사용자가 새 보드의 소유자가 됨
+     * 휴지통에 있는 Task와 보관된 Task는 복사하지 않습니다.
+     */
+    @Transactional
+    public BoardResponse cloneBoard(Long sourceBoardId, Long userId, BoardCloneRequest request) {
+        // 원본 보드 공유 잠금: 복사하는 동안 Task가 추가되어 예약한 ID 수를 넘지 않도록 함
+        boardRepository.lockIdForShare(sourceBoardId)
+                .orElseThrow(() -> new IllegalArgumentException("보드를 찾을 수 없습니다."));
+
+        // 권한 확인: 보드 멤버만 복제 가능
+        if (!boardMemberRepository.existsByBoardIdAndUserId(sourceBoardId, userId)) {
+            throw new IllegalArgumentException("보드에 접근할 권한이 없습니다.");
+        }
+
+        User author = usersRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+
+        int taskCount = (int) taskRepository.countByBoardId(sourceBoardId);
+        if (taskCount > maxTasks) {
+            throw new IllegalArgumentException("Task가 " + maxTasks + "개를 넘는 보드는 복제할 수 없습니다.");
+        }
+
+        Board board = Board.builder()
+                .title(request.title())
+                .author(author)
+                .build();
+        Board savedBoard = boardRepository.save(board);
+        boardMemberRepository.save(BoardMember.create(savedBoard, author, BoardMemberRole.OWNER));
+
+        if (taskCount > 0) {
+            long firstId = taskCloneJdbcRepository.reserveIds(taskCount);
+            taskCloneJdbcRepository.copyTasks(sourceBoardId, savedBoard.getId(), firstId, taskCount,
+                    request.resetStatus(), LocalDateTime.now());
+            taskCloneJdbcRepository.copyDescriptions(sourceBoardId, firstId, taskCount);
+            taskCloneJdbcRepository.rebuildPaths(savedBoard.getId());
+            // 복사한 행 기준으로 새 보드의 카운터 계산 (새 보드라 다른 트랜잭션과 겹치지 않음)
+            boardRepository.reconcileTaskCounters(savedBoard.getId(), savedBoard.getId());
+        }
+
+        return boardRepository.findResponseById(savedBoard.getId())
+                .orElseThrow(() -> new IllegalArgumentException("보드를 찾을 수 없습니다."));
+    }
+}
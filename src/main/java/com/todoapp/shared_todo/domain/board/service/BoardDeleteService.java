@@ -0,0 +1,47 @@
+package com.todoapp.shared_todo.domain.board.service;
+
+import com.todoapp.shared_todo.domain.board.entity.Board;
+import com.todoapp.shared_todo.domain.board.repository.BoardChangeLogRepository;
+import com.todoapp.shared_todo.domain.board.repository.BoardRepository;
+import com.todoapp.shared_todo.domain.task.repository.TaskArchiveRepository;
+import com.todoapp.shared_todo.domain.task.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 보드 삭제의 마지막 단계 (BoardService#deleteBoard 가 Task를 청크로 지운 뒤 호출)
+ * 보드 행을 잠근 한 트랜잭션 안에서 그 사이 추가된 Task와 보드를 함께 지워, 일부만 지워진 보드가 남지 않게 합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class BoardDeleteService {
+
+    private final BoardRepository boardRepository;
+    private final BoardChangeLogRepository boardChangeLogRepository;
+    private final TaskRepository taskRepository;
+    private final TaskArchiveRepository taskArchiveRepository;
+
+    /**
+     * 보드 행을 잠그고 남은 Task와 보드 삭제
+     * 잠금을 잡은 뒤에는 새 Task가 추가되지 않으므로, 남은 Task는 청크 삭제 도중 추가된 소수뿐입니다.
+     */
+    @Transactional
+    public void deleteLocked(Long boardId, Long userId, int chunkSize) {
+        Board board = boardRepository.findByIdForUpdate(boardId)
+                .filter(found -> found.getAuthor().getId().equals(userId))
+                .orElseThrow(() -> new IllegalArgumentException("보드를 찾을 수 없거나 삭제 권한이 없습니다."));
+
+        // 이 트랜잭션에 참여하므로 보드 잠금과 함께 커밋/롤백됨
+        int deleted;
+        do {
+            deleted = taskRepository.deleteChunkByBoardId(boardId, chunkSize);
+        } while (deleted == chunkSize);
+        do {
+            deleted = taskArchiveRepository.deleteChunkByBoardId(boardId, chunkSize);
+        } while (deleted == chunkSize);
+
+        boardRepository.delete(board);
+        boardChangeLogRepository.deleteByBoardId(boardId);
+    }
+}
@@ -3,18 +3,26 @@ package com.todoapp.shared_todo.domain.board.service;
 import com.todoapp.shared_todo.domain.board.dto.BoardCreateRequest;
 import com.todoapp.shared_todo.domain.board.dto.BoardResponse;
 import com.todoapp.shared_todo.domain.board.entity.Board;
+import com.todoapp.shared_todo.domain.board.entity.BoardChangeType;
 import com.todoapp.shared_todo.domain.board.repository.BoardRepository;
+import com.todoapp.shared_todo.domain.boardEvent.dto.BoardEvent;
+import com.todoapp.shared_todo.domain.boardEvent.dto.BoardEventType;
 import com.todoapp.shared_todo.domain.boardMember.entity.BoardMember;
 import com.todoapp.shared_todo.domain.boardMember.entity.BoardMemberRole;
 import com.todoapp.shared_todo.domain.boardMember.repository.BoardMemberRepository;
+import com.todoapp.shared_todo.domain.task.repository.TaskArchiveRepository;
+import com.todoapp.shared_todo.domain.task.repository.TaskRepository;
 import com.todoapp.shared_todo.domain.user.entity.User;
 import com.todoapp.shared_todo.domain.user.repository.UsersRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -24,6 +32,15 @@ public class BoardService {
     private final BoardRepository boardRepository;
     private final UsersRepository usersRepository;
     private final BoardMemberRepository boardMemberRepository;
+    private final BoardChangeRecorder boardChangeRecorder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskRepository taskRepository;
+    private final TaskArchiveRepository taskArchiveRepository;
+    private final BoardDeleteService boardDeleteService;
+
+    // 보드 삭제 시 한 번에 지우는 Task 수
+    @Value("${board.task-trash.purge-chunk-size:1000}")
+    private int deleteChunkSize;
 
     /**
      * 보드 생성
@@ -62,30 +79,19 @@ public class BoardService {
      * 요구사항: 보드 목록 조회 시 소유한 보드만 조회
      */
     public List<BoardResponse> getBoards(Long userId) {
-        User user = usersRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        if (!usersRepository.existsById(userId)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+        }
 
-        // 소유한 보드 목록
-        List<BoardMember> myMemberships = boardMemberRepository.findAllByUserId(userId);
-
-        return myMemberships.stream()
-                .map(bm -> {
-                    Board board = bm.getBoard(); // 조인해와서 바로 꺼낼 수 있음
-                    return BoardResponse.builder()
-                            .id(board.getId())
-                            .title(board.getTitle())
-                            .authorId(board.getAuthor().getId())
-                            .completionRate(board.getCompletionRate())
-                            .build();
-                })
-                .collect(Collectors.toList());
+        // 참여 중인 보드 목록 (엔티티 대신 응답 컬럼만 조회)
+        return boardRepository.findResponsesByMemberUserId(userId);
     }
 
     /**
      * 보드 단건 조회
      */
     public BoardResponse getBoard(Long boardId, Long userId) {
-        Board board = boardRepository.findById(boardId)
+        BoardResponse response = boardRepository.findResponseById(boardId)
                 .orElseThrow(() -> new IllegalArgumentException("보드를 찾을 수 없습니다."));
 
         boolean exists = boardMemberRepository.existsByBoardIdAndUserId(boardId, userId);
@@ -94,12 +100,23 @@ public class BoardService {
             throw new IllegalArgumentException("보드에 접근할 권한이 없습니다.");
         }
 
-        return BoardResponse.builder()
-                .id(board.getId())
-                .title(board.getTitle())
-                .authorId(board.getAuthor().getId())
-                .completionRate(board.getCompletionRate())
-                .build();
+        return response;
+    }
+
+    /**
+     * 보드 변경 버전 조회 (조건부 GET용)
+     * Task 행은 읽지 않고 보드 PK 조회와 멤버 확인만 수행합니다.
+     */
+    public Long getChangeVersion(Long boardId, Long userId) {
+        Long changeVersion = boardRepository.findChangeVersionById(boardId)
+                .orElseThrow(() -> new IllegalArgumentException("보드를 찾을 수 없습니다."));
+
+        // 권한 확인: 보드 멤버만 접근 가능
+        if (!boardMemberRepository.existsByBoardIdAndUserId(boardId, userId)) {
+            throw new IllegalArgumentException("보드에 접근할 권한이 없습니다.");
+        }
+
+        return changeVersion;
     }
 
     /**
@@ -120,6 +137,8 @@ public class BoardService {
 
         board.updateTitle(newTitle);
         Board updatedBoard = boardRepository.save(board);
+        long changeVersion = boardChangeRecorder.recordBoardChange(boardId, BoardChangeType.BOARD_UPDATED);
+        eventPublisher.publishEvent(BoardEvent.board(boardId, BoardEventType.BOARD_UPDATED, changeVersion, userId));
 
         return BoardResponse.builder()
                 .id(updatedBoard.getId())
@@ -132,15 +151,43 @@ public class BoardService {
     /**
      * 보드 삭제
      * 요구사항: 보드 삭제 시 소유자만 가능
+     * 트랜잭션 밖에서 Task를 청크마다 따로 커밋하며 지운 뒤(커넥션은 청크마다 잠깐만 씀),
+     * 보드 행을 잠근 마지막 트랜잭션에서 남은 Task와 보드를 함께 지웁니다.
+     * 도중에 실패해도 보드는 남아 있으므로 다시 삭제하면 이어서 지워지고, 카운터는 보정 작업이 맞춥니다.
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void deleteBoard(Long boardId, Long userId) {
-        Board board = boardRepository.findByIdAndAuthor(boardId, 
-                usersRepository.findById(userId)
-                        .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다.")))
-                .orElseThrow(() -> new IllegalArgumentException("보드를 찾을 수 없거나 삭제 권한이 없습니다."));
+        if (!boardRepository.existsByIdAndAuthorId(boardId, userId)) {
+            throw new IllegalArgumentException("보드를 찾을 수 없거나 삭제 권한이 없습니다.");
+        }
+
+        // Task는 엔티티로 읽지 않고 DELETE ... LIMIT 청크로 지움 (보드 잠금 없이, 청크마다 커밋)
+        int deleted;
+        do {
+            deleted = taskRepository.deleteChunkByBoardId(boardId, deleteChunkSize);
+        } while (deleted == deleteChunkSize);
+        // 보관된 Task는 보드 FK가 없으므로 같은 방식으로 직접 지움
+        do {
+            deleted = taskArchiveRepository.deleteChunkByBoardId(boardId, deleteChunkSize);
+        } while (deleted == deleteChunkSize);
+
+        boardDeleteService.deleteLocked(boardId, userId, deleteChunkSize);
+    }
 
-        boardRepository.delete(board);
+    /**
+     * 보드 Task 카운터 보정 (fromId ~ toId 구간)
+     * 보드 행을 먼저 잠가 진행 중인 증감이 끝나길 기다린 뒤, READ COMMITTED로 최신 task 행을 집계해 덮어씁니다.
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public int reconcileTaskCounters(Long fromId, Long toId) {
+        boardRepository.lockIdsBetween(fromId, toId);
+        return boardRepository.reconcileTaskCounters(fromId, toId);
     }
 
+    /**
+     * 카운터 보정 대상 보드 ID 상한
+     */
+    public Long getMaxBoardId() {
+        return boardRepository.findMaxId();
+    }
 }
@@ -0,0 +1,128 @@
+package com.todoapp.shared_todo.domain.board.service;
+
+import com.todoapp.shared_todo.domain.attachment.dto.AttachmentListResponse;
+import com.todoapp.shared_todo.domain.attachment.dto.AttachmentResponse;
+import com.todoapp.shared_todo.domain.attachment.repository.AttachmentRepository;
+import com.todoapp.shared_todo.domain.board.dto.BoardResponse;
+import com.todoapp.shared_todo.domain.board.dto.BoardSnapshotResponse;
+import com.todoapp.shared_todo.domain.board.repository.BoardRepository;
+import com.todoapp.shared_todo.domain.boardMember.dto.BoardMemberAccess;
+import com.todoapp.shared_todo.domain.boardMember.dto.BoardMemberResponse;
+import com.todoapp.shared_todo.domain.boardMember.entity.BoardMemberRole;
+import com.todoapp.shared_todo.domain.boardMember.repository.BoardMemberRepository;
+import com.todoapp.shared_todo.domain.task.dto.TaskPageResponse;
+import com.todoapp.shared_todo.domain.task.service.TaskService;
+import com.todoapp.shared_todo.global.exception.ErrorCode;
+import com.todoapp.shared_todo.global.exception.GeneralException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 보드 스냅샷 조회
+ * 보드/Task/멤버/첨부파일 조회를 한 요청으로 묶어, 접근 확인은 한 번만 하고 나머지 조회는 동시에 실행합니다.
+ * - 조회는 크기가 제한된 전용 스레드 풀에서 실행합니다. 큐까지 가득 차면 요청 스레드가 직접 실행하므로
+ *   부하가 몰려도 요청을 거절하지 않고 순차 실행으로 느려질 뿐입니다.
+ * - 각 조회는 쿼리 하나짜리 짧은 읽기 전용 트랜잭션이므로 클래스에 트랜잭션을 걸지 않습니다.
+ *   (요청 스레드가 결과를 기다리는 동안 DB 커넥션을 잡고 있지 않도록)
+ */
+@Slf4j
+@Service
+public class BoardSnapshotService {
+
+    private final BoardRepository boardRepository;
+    private final BoardMemberRepository boardMemberRepository;
+    private final AttachmentRepository attachmentRepository;
+    private final TaskService taskService;
+    private final ExecutorService readExecutor;
+
+    @Value("${board.snapshot.timeout-ms:3000}")
+    private long timeoutMs;
+
+    public BoardSnapshotService(BoardRepository boardRepository,
+                                BoardMemberRepository boardMemberRepository,
+                                AttachmentRepository attachmentRepository,
+                                TaskService taskService,
+                                @Value("${board.snapshot.reader-threads:8}") int readerThreads,
+                                @Value("${board.snapshot.queue-capacity:64}") int queueCapacity) {
+        this.boardRepository = boardRepository;
+        this.boardMemberRepository = boardMemberRepository;
+        this.attachmentRepository = attachmentRepository;
+        this.taskService = taskService;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.readExecutor = new ThreadPoolExecutor(readerThreads, readerThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "board-snapshot-reader-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * 보드 스냅샷 조회
+     * 요구사항: 보드 멤버만 조회 가능, 첨부파일은 기존 첨부파일 API와 동일하게 소유자에게만 포함
+     */
+    public BoardSnapshotResponse getSnapshot(Long boardId, Long userId, Integer taskPageSize) {
+        // 접근 확인 (멤버 역할과 변경 버전을 한 쿼리로 읽음)
+        BoardMemberAccess access = boardMemberRepository.findAccessByBoardIdAndUserId(boardId, userId)
+                .orElseThrow(() -> new IllegalArgumentException(boardRepository.existsById(boardId)
+                        ? "보드에 접근할 권한이 없습니다." : "보드를 찾을 수 없습니다."));
+
+        CompletableFuture<BoardResponse> board = CompletableFuture.supplyAsync(() -> boardRepository.findResponseById(boardId)
+                .orElseThrow(() -> new IllegalArgumentException("보드를 찾을 수 없습니다.")), readExecutor);
+        CompletableFuture<TaskPageResponse> tasks = CompletableFuture.supplyAsync(
+                () -> taskService.getFirstPage(boardId, taskPageSize), readExecutor);
+        CompletableFuture<List<BoardMemberResponse>> members = CompletableFuture.supplyAsync(
+                () -> boardMemberRepository.findResponsesByBoardId(boardId), readExecutor);
+        CompletableFuture<AttachmentListResponse> attachments = access.role() == BoardMemberRole.OWNER
+                ? CompletableFuture.supplyAsync(() -> toAttachmentList(attachmentRepository.findResponsesByBoardId(boardId)), readExecutor)
+                : CompletableFuture.completedFuture(null);
+
+        CompletableFuture<Void> all = CompletableFuture.allOf(board, tasks, members, attachments);
+        try {
+            all.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 아직 큐에 남아 있는 조회는 실행하지 않도록 취소
+            List.of(board, tasks, members, attachments).forEach(future -> future.cancel(false));
+            log.warn("[Board Snapshot] 조회 시간 초과 - boardId: {}, timeoutMs: {}", boardId, timeoutMs);
+            throw new GeneralException(ErrorCode.BOARD_SNAPSHOT_TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GeneralException(ErrorCode.BOARD_SNAPSHOT_TIMEOUT);
+        } catch (ExecutionException e) {
+            // 개별 조회에서 난 예외(보드 삭제 등)는 그대로 전달해 기존 예외 처리 흐름을 따름
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+
+        return new BoardSnapshotResponse(board.join(), access.changeVersion(), access.role(),
+                tasks.join(), members.join(), attachments.join());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        readExecutor.shutdownNow();
+    }
+
+    private AttachmentListResponse toAttachmentList(List<AttachmentResponse> attachments) {
+        return AttachmentListResponse.builder()
+                .attachments(attachments)
+                .totalCount((long) attachments.size())
+                .build();
+    }
+}
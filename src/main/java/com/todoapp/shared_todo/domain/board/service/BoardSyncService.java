@@ -0,0 +1,71 @@
+package com.todoapp.shared_todo.domain.board.service;
+
+import com.todoapp.shared_todo.domain.board.dto.BoardChangesResponse;
+import com.todoapp.shared_todo.domain.board.repository.BoardChangeLogRepository;
+import com.todoapp.shared_todo.domain.task.dto.TaskResponse;
+import com.todoapp.shared_todo.domain.task.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 보드 델타 동기화
+ * 클라이언트가 마지막으로 받은 보드 변경 버전(since) 이후에 바뀐 Task만 내려줍니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BoardSyncService {
+
+    // 한 번에 내려줄 변경 Task 수 상한 (넘으면 전체 재조회가 더 저렴함)
+    private static final int MAX_CHANGED_TASKS = 1000;
+
+    private final BoardService boardService;
+    private final BoardChangeLogRepository boardChangeLogRepository;
+    private final TaskRepository taskRepository;
+
+    /**
+     * since 이후 변경분 조회
+     */
+    public BoardChangesResponse getChanges(Long boardId, Long userId, Long since) {
+        // 보드 존재 + 멤버 권한 확인, 이번 응답의 상한 버전
+        Long until = boardService.getChangeVersion(boardId, userId);
+
+        if (since >= until) {
+            return BoardChangesResponse.unchanged(boardId, until);
+        }
+
+        // 보관 기간이 지나 since 직후의 로그가 지워졌다면 델타를 만들 수 없음
+        Long minVersion = boardChangeLogRepository.findMinBoardVersion(boardId);
+        if (since < 0 || minVersion == null || minVersion > since + 1) {
+            return BoardChangesResponse.resync(boardId, until);
+        }
+
+        List<Long> changedTaskIds = boardChangeLogRepository.findChangedTaskIds(
+                boardId, since, until, Limit.of(MAX_CHANGED_TASKS + 1));
+        if (changedTaskIds.size() > MAX_CHANGED_TASKS) {
+            return BoardChangesResponse.resync(boardId, until);
+        }
+
+        boolean boardChanged = boardChangeLogRepository.existsBoardLevelChange(boardId, since, until);
+
+        List<TaskResponse> changedTasks = changedTaskIds.isEmpty()
+                ? List.of()
+                : taskRepository.findResponsesByBoardIdAndIdIn(boardId, changedTaskIds);
+
+        // 로그에는 있지만 현재 보드에 없는 Task → 삭제됨 (툼스톤)
+        Set<Long> liveIds = changedTasks.stream()
+                .map(TaskResponse::id)
+                .collect(Collectors.toSet());
+        List<Long> deletedTaskIds = changedTaskIds.stream()
+                .filter(taskId -> !liveIds.contains(taskId))
+                .collect(Collectors.toList());
+
+        return new BoardChangesResponse(boardId, until, false, boardChanged, changedTasks, deletedTaskIds);
+    }
+}
@@ -0,0 +1,39 @@
+package com.todoapp.shared_todo.domain.boardEvent.controller;
+
+import com.todoapp.shared_todo.domain.boardEvent.service.BoardEventStreamService;
+import com.todoapp.shared_todo.global.security.CustomePrincipal;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Tag(name = "Board Event API", description = "보드 실시간 이벤트(SSE) API")
+@RestController
+@RequestMapping("/boards/{boardId}/events")
+@RequiredArgsConstructor
+@SuppressWarnings("unused") // Spring이 런타임에 자동으로 등록하고 사용하는 Controller
+public class BoardEventController {
+
+    private final BoardEventStreamService boardEventStreamService;
+
+    /**
+     * 보드 이벤트 구독
+     * GET /boards/{boardId}/events
+     */
+    @Operation(summary = "보드 이벤트 구독", description = "Task 생성/수정/토글/삭제, 멤버 참여/탈퇴 이벤트를 SSE로 받습니다. "
+            + "이벤트 id는 보드 변경 버전이며, 재접속 시 GET /boards/{boardId}/changes?since={마지막 id}로 놓친 변경을 받습니다. "
+            + "한 변경에 Task가 여러 개면 BATCH 이벤트 하나로 묶이고, 전송이 밀리면 RESYNC 이벤트의 fromVersion 부터 /changes 로 따라잡습니다.")
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(
+            @Parameter(description = "보드 ID", example = "1") @PathVariable Long boardId,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomePrincipal userDetails) {
+        return boardEventStreamService.subscribe(boardId, userDetails.getUserId());
+    }
+}
@@ -0,0 +1,46 @@
+package com.todoapp.shared_todo.domain.boardEvent.dto;
+
+import com.todoapp.shared_todo.domain.task.entity.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보드 실시간 이벤트
+ * 변경 사실만 가볍게 알리는 알림 메시지입니다. 상세 내용이 필요하면 클라이언트가
+ * changeVersion 이전 커서로 GET /boards/{boardId}/changes 를 호출해 받아갑니다.
+ *
+ * @param changeVersion 이 변경이 반영된 보드 변경 버전 (SSE 이벤트 id로 사용, 마감 알림은 null)
+ * @param actorId       변경을 일으킨 사용자 ID
+ * @param taskId        Task 이벤트일 때 대상 Task ID
+ * @param memberUserId  멤버 이벤트일 때 참여/탈퇴한 사용자 ID
+ * @param taskStatus    Task 이벤트일 때 변경 후 상태 (삭제 시 null)
+ */
+public record BoardEvent(
+        Long boardId,
+        BoardEventType type,
+        Long changeVersion,
+        Long actorId,
+        Long taskId,
+        Long memberUserId,
+        TaskStatus taskStatus,
+        LocalDateTime occurredAt
+) {
+    public static BoardEvent task(Long boardId, BoardEventType type, long changeVersion, Long actorId,
+                                  Long taskId, TaskStatus taskStatus) {
+        return new BoardEvent(boardId, type, changeVersion, actorId, taskId, null, taskStatus, LocalDateTime.now());
+    }
+
+    public static BoardEvent member(Long boardId, BoardEventType type, long changeVersion, Long actorId,
+                                    Long memberUserId) {
+        return new BoardEvent(boardId, type, changeVersion, actorId, null, memberUserId, null, LocalDateTime.now());
+    }
+
+    public static BoardEvent board(Long boardId, BoardEventType type, long changeVersion, Long actorId) {
+        return new BoardEvent(boardId, type, changeVersion, actorId, null, null, null, LocalDateTime.now());
+    }
+
+    public static BoardEvent taskDue(Long boardId, Long taskId) {
+        return new BoardEvent(boardId, BoardEventType.TASK_DUE, null, null, taskId, null, TaskStatus.UNCHECKED,
+                LocalDateTime.now());
+    }
+}
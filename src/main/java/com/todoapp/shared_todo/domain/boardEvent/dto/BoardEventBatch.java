@@ -0,0 +1,18 @@
+package com.todoapp.shared_todo.domain.boardEvent.dto;
+
+import java.util.List;
+
+/**
+ * Redis 채널로 전파되는 보드 이벤트 묶음
+ * 같은 샤드 채널에 속한 보드들의 변경을 한 메시지로 보냅니다.
+ *
+ * @param originNodeId 메시지를 발행한 노드 ID (로그 추적용)
+ * @param events       이벤트가 하나뿐인 변경
+ * @param groups       이벤트가 여러 개인 변경 (변경 버전마다 하나)
+ */
+public record BoardEventBatch(
+        String originNodeId,
+        List<BoardEvent> events,
+        List<BoardEventGroup> groups
+) {
+}
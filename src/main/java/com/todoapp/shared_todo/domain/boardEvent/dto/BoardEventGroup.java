@@ -0,0 +1,52 @@
+package com.todoapp.shared_todo.domain.boardEvent.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 한 보드 변경 버전에 속한 이벤트 묶음 (SSE "BATCH" 이벤트 본문)
+ * 일괄 생성/상태 변경, 보관, 반복 Task 갱신처럼 한 번의 변경이 Task마다 이벤트를 만들 때
+ * 구독자에게는 이벤트 하나로 보냅니다. 상세 내용은 changeVersion 이전 커서로 /changes 를 호출해 받습니다.
+ *
+ * @param changeVersion 묶인 이벤트의 보드 변경 버전 (마감 알림 묶음은 null)
+ * @param types         묶인 이벤트 종류 (발생 순서)
+ * @param taskIds       대상 Task ID (발생 순서, 중복 제거)
+ * @param memberUserIds 참여/탈퇴한 사용자 ID
+ */
+public record BoardEventGroup(
+        Long boardId,
+        Long changeVersion,
+        Long actorId,
+        Set<BoardEventType> types,
+        List<Long> taskIds,
+        List<Long> memberUserIds,
+        LocalDateTime occurredAt
+) {
+    /**
+     * 같은 보드/변경 버전의 이벤트를 묶음 (events는 비어 있지 않아야 함)
+     */
+    public static BoardEventGroup of(List<BoardEvent> events) {
+        BoardEvent first = events.get(0);
+        Set<BoardEventType> types = new LinkedHashSet<>();
+        Set<Long> taskIds = new LinkedHashSet<>();
+        Set<Long> memberUserIds = new LinkedHashSet<>();
+        LocalDateTime occurredAt = first.occurredAt();
+        for (BoardEvent event : events) {
+            types.add(event.type());
+            if (event.taskId() != null) {
+                taskIds.add(event.taskId());
+            }
+            if (event.memberUserId() != null) {
+                memberUserIds.add(event.memberUserId());
+            }
+            if (event.occurredAt() != null && (occurredAt == null || event.occurredAt().isAfter(occurredAt))) {
+                occurredAt = event.occurredAt();
+            }
+        }
+        return new BoardEventGroup(first.boardId(), first.changeVersion(), first.actorId(), types,
+                new ArrayList<>(taskIds), new ArrayList<>(memberUserIds), occurredAt);
+    }
+}
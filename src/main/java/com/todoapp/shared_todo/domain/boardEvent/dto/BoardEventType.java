@@ -0,0 +1,17 @@
+package com.todoapp.shared_todo.domain.boardEvent.dto;
+
+public enum BoardEventType {
+    TASK_CREATED,
+    TASK_UPDATED,
+    TASK_TOGGLED,
+    TASK_MOVED,
+    TASK_DELETED,
+    TASK_RESTORED,
+    // 오래된 완료 Task를 보관 테이블로 옮김 (보드 단위, 시스템 작업이므로 actorId/taskId 없음)
+    TASK_ARCHIVED,
+    MEMBER_JOINED,
+    MEMBER_LEFT,
+    BOARD_UPDATED,
+    // 마감 알림 (보드 변경이 아니므로 changeVersion 없음)
+    TASK_DUE
+}
@@ -0,0 +1,23 @@
+package com.todoapp.shared_todo.domain.boardEvent.service;
+
+import com.todoapp.shared_todo.domain.boardEvent.dto.BoardEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 서비스에서 발행한 보드 이벤트를 커밋 이후에 구독자에게 전달
+ * 롤백된 변경은 전달되지 않습니다. 다른 노드에 연결된 구독자도 받을 수 있도록 Redis 를 거쳐 전달합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BoardEventBroadcaster {
+
+    private final BoardEventRelay boardEventRelay;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBoardEvent(BoardEvent event) {
+        boardEventRelay.publish(event);
+    }
+}
@@ -0,0 +1,217 @@
+package com.todoapp.shared_todo.domain.boardEvent.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todoapp.shared_todo.domain.boardEvent.dto.BoardEvent;
+import com.todoapp.shared_todo.domain.boardEvent.dto.BoardEventBatch;
+import com.todoapp.shared_todo.domain.boardEvent.dto.BoardEventGroup;
+import com.todoapp.shared_todo.domain.boardEvent.dto.BoardEventType;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 보드 이벤트 노드 간 전파 (Redis pub/sub)
+ * - 커밋된 이벤트를 짧은 구간 동안 모아 두었다가 샤드 채널(board-events:{boardId % shardCount})로 한 번에 발행합니다.
+ * - 이벤트는 (보드, 변경 버전) 단위로 모읍니다. 한 변경에 이벤트가 여러 개면(일괄 수정, 보관 등)
+ *   Task ID만 담은 BoardEventGroup 하나로 바꿔 보내므로, 일괄 수정이 Task마다 메시지나 SSE 이벤트를 만들지 않습니다.
+ * - 구간 안에서 같은 Task 하나만 바꾼 변경이 여러 번 있으면 마지막 변경만 보냅니다. (가장 높은 버전이 남으므로
+ *   SSE 이벤트 id는 계속 증가하고, 건너뛴 변경 내용은 클라이언트가 /changes 로 함께 받아갑니다)
+ * - 모든 노드가 전체 샤드 채널을 구독하고, 수신한 이벤트를 자기 노드에 연결된 SSE 구독자에게 전달합니다.
+ *   발행한 노드도 자기 메시지를 받아 같은 경로로 전달합니다.
+ */
+@Slf4j
+@Component
+public class BoardEventRelay implements MessageListener {
+
+    private static final String CHANNEL_PREFIX = "board-events:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final BoardEventStreamService boardEventStreamService;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Object pendingLock = new Object();
+    private Map<String, List<BoardEvent>> pending = new LinkedHashMap<>();
+
+    @Value("${board.events.relay.shard-count:16}")
+    private int shardCount;
+
+    @Value("${board.events.relay.max-batch-size:500}")
+    private int maxBatchSize;
+
+    public BoardEventRelay(RedisTemplate<String, Object> redisTemplate,
+                           RedisMessageListenerContainer listenerContainer,
+                           ObjectMapper objectMapper,
+                           BoardEventStreamService boardEventStreamService) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.boardEventStreamService = boardEventStreamService;
+    }
+
+    @PostConstruct
+    public void subscribeChannels() {
+        List<ChannelTopic> topics = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            topics.add(ChannelTopic.of(CHANNEL_PREFIX + shard));
+        }
+        listenerContainer.addMessageListener(this, topics);
+    }
+
+    /**
+     * 전파할 이벤트 등록 (다음 flush 때 발행)
+     */
+    public void publish(BoardEvent event) {
+        String key = coalesceKey(event);
+        synchronized (pendingLock) {
+            pending.computeIfAbsent(key, k -> new ArrayList<>(1)).add(event);
+        }
+    }
+
+    /**
+     * 모아 둔 변경을 샤드 채널별로 묶어 발행 (메시지 하나에 최대 maxBatchSize 개 변경)
+     */
+    @Scheduled(fixedDelayString = "${board.events.relay.flush-ms:100}")
+    public void flush() {
+        Map<String, List<BoardEvent>> drained;
+        synchronized (pendingLock) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            drained = pending;
+            pending = new LinkedHashMap<>();
+        }
+
+        // Task 하나만 바꾼 변경은 Task별로 마지막(가장 높은 버전) 것만 남김
+        Map<String, List<BoardEvent>> latestByTask = new HashMap<>();
+        for (List<BoardEvent> change : drained.values()) {
+            String taskKey = singleTaskKey(change);
+            if (taskKey != null) {
+                latestByTask.put(taskKey, change);
+            }
+        }
+
+        Map<Integer, List<List<BoardEvent>>> changesByShard = new LinkedHashMap<>();
+        for (List<BoardEvent> change : drained.values()) {
+            String taskKey = singleTaskKey(change);
+            if (taskKey != null && latestByTask.get(taskKey) != change) {
+                continue;
+            }
+            changesByShard.computeIfAbsent(shardOf(change.get(0).boardId()), shard -> new ArrayList<>()).add(change);
+        }
+
+        changesByShard.forEach((shard, changes) -> {
+            for (int from = 0; from < changes.size(); from += maxBatchSize) {
+                List<List<BoardEvent>> chunk = changes.subList(from, Math.min(from + maxBatchSize, changes.size()));
+                List<BoardEvent> events = new ArrayList<>();
+                List<BoardEventGroup> groups = new ArrayList<>();
+                for (List<BoardEvent> change : chunk) {
+                    if (change.size() == 1) {
+                        events.add(change.get(0));
+                    } else {
+                        groups.add(BoardEventGroup.of(change));
+                    }
+                }
+                send(CHANNEL_PREFIX + shard, new BoardEventBatch(nodeId, events, groups));
+            }
+        });
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        BoardEventBatch batch;
+        try {
+            batch = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), BoardEventBatch.class);
+        } catch (JsonProcessingException e) {
+            log.warn("보드 이벤트 메시지 역직렬화 실패: channel={}",
+                    new String(message.getChannel(), StandardCharsets.UTF_8), e);
+            return;
+        }
+        dispatch(batch);
+    }
+
+    private void send(String channel, BoardEventBatch batch) {
+        try {
+            String payload = objectMapper.writeValueAsString(batch);
+            redisTemplate.convertAndSend(channel, payload);
+        } catch (Exception e) {
+            // Redis 장애 시 최소한 이 노드의 구독자에게는 전달
+            log.warn("보드 이벤트 발행 실패, 로컬 구독자에게만 전달합니다: channel={}, changes={}",
+                    channel, batch.events().size() + batch.groups().size(), e);
+            dispatch(batch);
+        }
+    }
+
+    /**
+     * 메시지의 단일 이벤트와 묶음을 변경 버전 순서대로 이 노드의 구독자에게 전달
+     * 두 목록은 각각 발행 순서대로 들어 있으므로 병합만 합니다. (버전 없는 마감 알림은 뒤로)
+     */
+    private void dispatch(BoardEventBatch batch) {
+        List<BoardEvent> events = batch.events();
+        List<BoardEventGroup> groups = batch.groups();
+        int eventIndex = 0;
+        int groupIndex = 0;
+        while (eventIndex < events.size() || groupIndex < groups.size()) {
+            boolean takeEvent = groupIndex >= groups.size()
+                    || (eventIndex < events.size()
+                    && versionOrder(events.get(eventIndex).changeVersion())
+                    <= versionOrder(groups.get(groupIndex).changeVersion()));
+            if (takeEvent) {
+                boardEventStreamService.dispatch(events.get(eventIndex++));
+            } else {
+                boardEventStreamService.dispatch(groups.get(groupIndex++));
+            }
+        }
+    }
+
+    private static long versionOrder(Long changeVersion) {
+        return changeVersion == null ? Long.MAX_VALUE : changeVersion;
+    }
+
+    private int shardOf(Long boardId) {
+        return (int) Math.floorMod(boardId, (long) shardCount);
+    }
+
+    /**
+     * Task 하나만 바꾼 변경이면 그 Task의 키, 아니면 null (마감 알림은 변경이 아니므로 제외)
+     */
+    private static String singleTaskKey(List<BoardEvent> change) {
+        BoardEvent event = change.get(0);
+        if (change.size() != 1 || event.taskId() == null || event.type() == BoardEventType.TASK_DUE) {
+            return null;
+        }
+        return event.boardId() + ":task:" + event.taskId();
+    }
+
+    private static String coalesceKey(BoardEvent event) {
+        if (event.type() == BoardEventType.TASK_DUE) {
+            // 마감 알림은 변경 버전이 없으므로 보드별로 따로 모음
+            return event.boardId() + ":due";
+        }
+        return event.boardId() + ":v" + event.changeVersion();
+    }
+}
@@ -0,0 +1,262 @@
+package com.todoapp.shared_todo.domain.boardEvent.service;
+
+import com.todoapp.shared_todo.domain.board.service.BoardService;
+import com.todoapp.shared_todo.domain.boardEvent.dto.BoardEvent;
+import com.todoapp.shared_todo.domain.boardEvent.dto.BoardEventGroup;
+import com.todoapp.shared_todo.domain.boardEvent.dto.BoardEventType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 보드 SSE 구독 관리 및 이벤트 전송
+ * - 연결은 서블릿 비동기(SseEmitter)로 유지되므로 연결마다 스레드를 점유하지 않습니다.
+ * - 전송은 소수의 전송 스레드가 나눠 맡고, 구독자마다 고정 크기 버퍼를 둡니다.
+ * - 한 변경 버전에 Task 이벤트가 여러 개면(일괄 생성/상태 변경, 보관 등) BATCH 이벤트 하나로 묶어 보냅니다.
+ * - 버퍼가 가득 차면(읽지 못하는 구독자) 쌓인 이벤트를 버리고 RESYNC 이벤트 하나만 보냅니다.
+ *   클라이언트는 fromVersion 이후를 /changes 로 따라잡으면 되고, 연결은 유지됩니다.
+ */
+@Slf4j
+@Service
+public class BoardEventStreamService {
+
+    private final BoardService boardService;
+    private final ExecutorService sendExecutor;
+    private final Map<Long, Set<Subscriber>> subscribersByBoard = new ConcurrentHashMap<>();
+
+    @Value("${board.events.sse.timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    @Value("${board.events.sse.buffer-size:256}")
+    private int bufferSize;
+
+    public BoardEventStreamService(BoardService boardService,
+                                   @Value("${board.events.sse.sender-threads:4}") int senderThreads) {
+        this.boardService = boardService;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.sendExecutor = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "board-sse-sender-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 보드 이벤트 구독
+     * 연결 직후 현재 보드 변경 버전을 담은 connected 이벤트를 보냅니다.
+     * 버전을 읽은 뒤 구독자를 등록하기 전에 커밋된 변경은 이벤트로 받지 못하므로, 등록 후 버전을 다시 읽어
+     * 그사이 바뀌었으면 connected 버전부터 따라잡도록 RESYNC 를 보냅니다.
+     */
+    public SseEmitter subscribe(Long boardId, Long userId) {
+        // 접근 권한 확인을 겸하므로 등록 전에 읽음 (권한 없는 사용자가 잠시라도 이벤트를 받지 않도록)
+        Long changeVersion = boardService.getChangeVersion(boardId, userId);
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Subscriber subscriber = new Subscriber(boardId, userId, emitter, new ArrayBlockingQueue<>(bufferSize),
+                changeVersion);
+        // 등록 전에 버퍼에 넣어 connected 가 항상 첫 이벤트가 되게 함
+        subscriber.offer(SseEmitter.event()
+                .id(String.valueOf(changeVersion))
+                .name("connected")
+                .data(Map.of("boardId", boardId, "changeVersion", changeVersion)), changeVersion);
+
+        subscribersByBoard.computeIfAbsent(boardId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        emitter.onCompletion(() -> unregister(subscriber));
+        emitter.onTimeout(() -> unregister(subscriber));
+        emitter.onError(e -> unregister(subscriber));
+
+        if (boardService.getChangeVersion(boardId, userId) > changeVersion) {
+            subscriber.resync(changeVersion);
+        }
+        return emitter;
+    }
+
+    /**
+     * 이 노드에 연결된 구독자에게 이벤트 전달 (커밋 이후 호출)
+     */
+    public void dispatch(BoardEvent event) {
+        Set<Subscriber> subscribers = subscribersByBoard.get(event.boardId());
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+
+        for (Subscriber subscriber : subscribers) {
+            // 보드에서 나간 멤버는 더 이상 이벤트를 받으면 안 되므로 연결 종료
+            if (event.type() == BoardEventType.MEMBER_LEFT && subscriber.userId.equals(event.memberUserId())) {
+                subscriber.close();
+                continue;
+            }
+
+            SseEmitter.SseEventBuilder sseEvent = SseEmitter.event()
+                    .name(event.type().name())
+                    .data(event);
+            if (event.changeVersion() != null) {
+                sseEvent.id(String.valueOf(event.changeVersion()));
+            }
+            subscriber.send(sseEvent, event.changeVersion());
+        }
+    }
+
+    /**
+     * 한 변경 버전의 이벤트 묶음을 BATCH 이벤트 하나로 전달 (커밋 이후 호출)
+     */
+    public void dispatch(BoardEventGroup group) {
+        Set<Subscriber> subscribers = subscribersByBoard.get(group.boardId());
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+
+        for (Subscriber subscriber : subscribers) {
+            if (group.types().contains(BoardEventType.MEMBER_LEFT) && group.memberUserIds().contains(subscriber.userId)) {
+                subscriber.close();
+                continue;
+            }
+
+            SseEmitter.SseEventBuilder sseEvent = SseEmitter.event()
+                    .name("BATCH")
+                    .data(group);
+            if (group.changeVersion() != null) {
+                sseEvent.id(String.valueOf(group.changeVersion()));
+            }
+            subscriber.send(sseEvent, group.changeVersion());
+        }
+    }
+
+    /**
+     * 중간 프록시의 유휴 연결 종료 방지 및 끊어진 연결 정리용 하트비트
+     */
+    @Scheduled(fixedDelayString = "${board.events.sse.heartbeat-ms:25000}")
+    public void sendHeartbeats() {
+        // 버퍼가 가득 차 있으면 보낼 데이터가 이미 있으므로 하트비트는 생략
+        subscribersByBoard.values().forEach(subscribers -> subscribers.forEach(subscriber ->
+                subscriber.offer(SseEmitter.event().comment("heartbeat"), null)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribersByBoard.values().forEach(subscribers -> subscribers.forEach(Subscriber::close));
+        sendExecutor.shutdownNow();
+    }
+
+    private void unregister(Subscriber subscriber) {
+        subscribersByBoard.computeIfPresent(subscriber.boardId, (boardId, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+
+    /**
+     * 전송 대기 이벤트 (changeVersion: 전송 후 클라이언트가 따라잡은 버전, 없으면 null)
+     */
+    private record Outgoing(SseEmitter.SseEventBuilder event, Long changeVersion) {
+    }
+
+    /**
+     * 구독자 한 명
+     * 버퍼에 쌓인 이벤트는 한 번에 하나의 전송 스레드만 비우도록(draining) 보장합니다.
+     */
+    private final class Subscriber {
+
+        private final Long boardId;
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Outgoing> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+        // 마지막으로 전송을 마친 변경 버전 (RESYNC 이벤트의 fromVersion)
+        private volatile long sentVersion;
+
+        private Subscriber(Long boardId, Long userId, SseEmitter emitter, BlockingQueue<Outgoing> buffer,
+                           long sentVersion) {
+            this.boardId = boardId;
+            this.userId = userId;
+            this.emitter = emitter;
+            this.buffer = buffer;
+            this.sentVersion = sentVersion;
+        }
+
+        /**
+         * 변경 이벤트 전송 요청 (버퍼가 가득 차면 쌓인 이벤트를 버리고 RESYNC 로 대체)
+         */
+        private void send(SseEmitter.SseEventBuilder event, Long changeVersion) {
+            if (offer(event, changeVersion)) {
+                return;
+            }
+            buffer.clear();
+            log.warn("[Board SSE] 버퍼 초과로 RESYNC 전송 - boardId: {}, userId: {}, fromVersion: {}",
+                    boardId, userId, sentVersion);
+            resync(sentVersion);
+        }
+
+        /**
+         * fromVersion 이후 변경을 /changes 로 따라잡으라는 RESYNC 전송 요청 (버퍼에 넣지 못하면 연결 종료)
+         */
+        private void resync(long fromVersion) {
+            // id 를 붙이지 않아 클라이언트의 Last-Event-ID 가 놓친 이벤트를 건너뛰지 않도록 함
+            SseEmitter.SseEventBuilder resync = SseEmitter.event()
+                    .name("RESYNC")
+                    .data(Map.of("boardId", boardId, "fromVersion", fromVersion));
+            if (!offer(resync, null)) {
+                close();
+            }
+        }
+
+        private boolean offer(SseEmitter.SseEventBuilder event, Long changeVersion) {
+            if (closed.get()) {
+                return true;
+            }
+            if (!buffer.offer(new Outgoing(event, changeVersion))) {
+                return false;
+            }
+            scheduleDrain();
+            return true;
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                sendExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                Outgoing outgoing;
+                while (!closed.get() && (outgoing = buffer.poll()) != null) {
+                    emitter.send(outgoing.event());
+                    if (outgoing.changeVersion() != null) {
+                        sentVersion = Math.max(sentVersion, outgoing.changeVersion());
+                    }
+                }
+            } catch (Exception e) {
+                // 클라이언트가 연결을 끊은 경우 등
+                close();
+            } finally {
+                draining.set(false);
+                if (!closed.get() && !buffer.isEmpty()) {
+                    scheduleDrain();
+                }
+            }
+        }
+
+        private void close() {
+            if (closed.compareAndSet(false, true)) {
+                buffer.clear();
+                unregister(this);
+                emitter.complete();
+            }
+        }
+    }
+}
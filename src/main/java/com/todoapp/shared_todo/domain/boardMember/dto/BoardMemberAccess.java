@@ -0,0 +1,12 @@
+package com.todoapp.shared_todo.domain.boardMember.dto;
+
+import com.todoapp.shared_todo.domain.boardMember.entity.BoardMemberRole;
+
+/**
+ * 보드 접근 확인 결과 (요청한 사용자의 역할 + 보드 변경 버전)
+ */
+public record BoardMemberAccess(
+        BoardMemberRole role,
+        Long changeVersion
+) {
+}
@@ -1,5 +1,7 @@
 package com.todoapp.shared_todo.domain.boardMember.repository;
 
+import com.todoapp.shared_todo.domain.boardMember.dto.BoardMemberAccess;
+import com.todoapp.shared_todo.domain.boardMember.dto.BoardMemberResponse;
 import com.todoapp.shared_todo.domain.boardMember.entity.BoardMember;
 import com.todoapp.shared_todo.domain.boardMember.entity.BoardMemberRole;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -7,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -47,4 +50,26 @@ public interface BoardMemberRepository extends JpaRepository<BoardMember, Long>
      * - GUEST 본인 나가기
      */
     void deleteByBoardIdAndUserId(Long boardId, Long userId);
-}
\ No newline at end of file
+
+    /**
+     * 특정 보드에서 주어진 유저 중 멤버인 수 (Task 담당자 검증용)
+     */
+    long countByBoardIdAndUserIdIn(Long boardId, Collection<Long> userIds);
+
+    /**
+     * 보드 멤버 목록 조회 (DTO 프로젝션)
+     * - users 를 조인해 한 번에 읽으므로 멤버 수만큼 사용자 조회가 추가로 나가지 않음
+     */
+    @Query("SELECT new com.todoapp.shared_todo.domain.boardMember.dto.BoardMemberResponse(u.id, u.nickname, bm.role) " +
+            "FROM BoardMember bm JOIN bm.user u WHERE bm.board.id = :boardId ORDER BY bm.id")
+    List<BoardMemberResponse> findResponsesByBoardId(@Param("boardId") Long boardId);
+
+    /**
+     * 멤버 역할과 보드 변경 버전을 한 번에 조회 (보드 스냅샷의 접근 확인용)
+     * - 멤버가 아니거나 보드가 없으면 빈 값
+     */
+    @Query("SELECT new com.todoapp.shared_todo.domain.boardMember.dto.BoardMemberAccess(bm.role, b.changeVersion) " +
+            "FROM BoardMember bm JOIN bm.board b WHERE b.id = :boardId AND bm.user.id = :userId")
+    Optional<BoardMemberAccess> findAccessByBoardIdAndUserId(@Param("boardId") Long boardId,
+                                                              @Param("userId") Long userId);
+}
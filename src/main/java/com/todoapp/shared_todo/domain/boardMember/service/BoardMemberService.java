@@ -1,11 +1,18 @@
 package com.todoapp.shared_todo.domain.boardMember.service;
 
+import com.todoapp.shared_todo.domain.board.entity.BoardChangeType;
 import com.todoapp.shared_todo.domain.board.repository.BoardRepository;
+import com.todoapp.shared_todo.domain.board.service.BoardChangeRecorder;
+import com.todoapp.shared_todo.domain.boardEvent.dto.BoardEvent;
+import com.todoapp.shared_todo.domain.boardEvent.dto.BoardEventType;
 import com.todoapp.shared_todo.domain.boardMember.dto.BoardMemberResponse;
 import com.todoapp.shared_todo.domain.boardMember.entity.BoardMember;
 import com.todoapp.shared_todo.domain.boardMember.entity.BoardMemberRole;
 import com.todoapp.shared_todo.domain.boardMember.repository.BoardMemberRepository;
+import com.todoapp.shared_todo.domain.task.dto.AssignedTaskStateView;
+import com.todoapp.shared_todo.domain.task.repository.TaskAssigneeRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +26,9 @@ public class BoardMemberService {
 
     private final BoardMemberRepository boardMemberRepository;
     private final BoardRepository boardRepository;
+    private final TaskAssigneeRepository taskAssigneeRepository;
+    private final BoardChangeRecorder boardChangeRecorder;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 보드 멤버 목록 조회
@@ -76,8 +86,12 @@ public class BoardMemberService {
             throw new IllegalArgumentException("삭제할 멤버를 찾을 수 없습니다.");
         }
 
-        // 멤버 삭제
+        // 멤버 삭제 (이 보드에서 맡고 있던 Task 할당도 해제)
         boardMemberRepository.deleteByBoardIdAndUserId(boardId, memberUserId);
+        long changeVersion = boardChangeRecorder.recordBoardChange(boardId, BoardChangeType.MEMBER_CHANGED);
+        eventPublisher.publishEvent(BoardEvent.member(
+                boardId, BoardEventType.MEMBER_LEFT, changeVersion, ownerId, memberUserId));
+        unassignAll(boardId, memberUserId, ownerId);
     }
 
     /**
@@ -98,8 +112,35 @@ public class BoardMemberService {
             throw new IllegalArgumentException("GUEST만 보드를 나갈 수 있습니다.");
         }
 
-        // 멤버 삭제
+        // 멤버 삭제 (이 보드에서 맡고 있던 Task 할당도 해제)
         boardMemberRepository.deleteByBoardIdAndUserId(boardId, userId);
+        long changeVersion = boardChangeRecorder.recordBoardChange(boardId, BoardChangeType.MEMBER_CHANGED);
+        eventPublisher.publishEvent(BoardEvent.member(
+                boardId, BoardEventType.MEMBER_LEFT, changeVersion, userId, userId));
+        unassignAll(boardId, userId, userId);
+    }
+
+    /**
+     * 보드를 떠난 멤버의 Task 할당 해제
+     * 담당자 지정 변경(TaskAssigneeService#replaceAssignees)과 같이 영향받은 Task를 수정으로 기록해,
+     * 변경 로그나 SSE로 동기화하는 클라이언트도 담당자 목록에서 빼도록 합니다.
+     */
+    private void unassignAll(Long boardId, Long memberUserId, Long actorId) {
+        List<AssignedTaskStateView> assignedTasks =
+                taskAssigneeRepository.findTaskStatesByBoardIdAndUserId(boardId, memberUserId);
+        // 휴지통에 있는 Task의 할당도 함께 지움 (기록은 사용 중인 Task만)
+        taskAssigneeRepository.deleteByBoardIdAndUserId(boardId, memberUserId);
+        if (assignedTasks.isEmpty()) {
+            return;
+        }
+
+        List<Long> taskIds = assignedTasks.stream()
+                .map(AssignedTaskStateView::getTaskId)
+                .collect(Collectors.toList());
+        long changeVersion = boardChangeRecorder.recordTaskChanges(
+                boardId, BoardChangeType.TASK_UPDATED, taskIds, 0, 0);
+        assignedTasks.forEach(task -> eventPublisher.publishEvent(BoardEvent.task(
+                boardId, BoardEventType.TASK_UPDATED, changeVersion, actorId, task.getTaskId(), task.getStatus())));
     }
 }
 
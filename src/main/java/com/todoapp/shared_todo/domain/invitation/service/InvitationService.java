@@ -1,7 +1,11 @@
 package com.todoapp.shared_todo.domain.invitation.service;
 
 import com.todoapp.shared_todo.domain.board.entity.Board;
+import com.todoapp.shared_todo.domain.board.entity.BoardChangeType;
 import com.todoapp.shared_todo.domain.board.repository.BoardRepository;
+import com.todoapp.shared_todo.domain.board.service.BoardChangeRecorder;
+import com.todoapp.shared_todo.domain.boardEvent.dto.BoardEvent;
+import com.todoapp.shared_todo.domain.boardEvent.dto.BoardEventType;
 import com.todoapp.shared_todo.domain.boardMember.entity.BoardMember;
 import com.todoapp.shared_todo.domain.boardMember.entity.BoardMemberRole;
 import com.todoapp.shared_todo.domain.boardMember.repository.BoardMemberRepository;
@@ -14,6 +18,7 @@ import com.todoapp.shared_todo.domain.user.entity.User;
 import com.todoapp.shared_todo.domain.user.entity.UsersStatus;
 import com.todoapp.shared_todo.domain.user.repository.UsersRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,6 +33,8 @@ public class InvitationService {
 
     private final InvitationRepository invitationRepository;
     private final BoardRepository boardRepository;
+    private final BoardChangeRecorder boardChangeRecorder;
+    private final ApplicationEventPublisher eventPublisher;
     private final UsersRepository usersRepository;
     private final BoardMemberRepository boardMemberRepository;
 
@@ -113,6 +120,9 @@ public class InvitationService {
         if (!boardMemberRepository.existsByBoardIdAndUserId(board.getId(), invitee.getId())) {
             BoardMember boardMember = BoardMember.create(board, invitee, BoardMemberRole.GUEST);
             boardMemberRepository.save(boardMember);
+            long changeVersion = boardChangeRecorder.recordBoardChange(board.getId(), BoardChangeType.MEMBER_CHANGED);
+            eventPublisher.publishEvent(BoardEvent.member(
+                    board.getId(), BoardEventType.MEMBER_JOINED, changeVersion, userId, invitee.getId()));
         }
 
         return toResponse(savedInvitation);
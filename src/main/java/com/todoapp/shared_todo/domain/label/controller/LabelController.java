@@ -0,0 +1,126 @@
+package com.todoapp.shared_todo.domain.label.controller;
+
+import com.todoapp.shared_todo.domain.label.dto.LabelCreateRequest;
+import com.todoapp.shared_todo.domain.label.dto.LabelResponse;
+import com.todoapp.shared_todo.domain.label.dto.TaskLabelRequest;
+import com.todoapp.shared_todo.domain.label.service.LabelService;
+import com.todoapp.shared_todo.domain.task.dto.TaskPageResponse;
+import com.todoapp.shared_todo.domain.task.entity.TaskStatus;
+import com.todoapp.shared_todo.global.security.CustomePrincipal;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Tag(name = "Label API", description = "보드 라벨과 라벨 조건 필터 API")
+@RestController
+@RequestMapping("/boards/{boardId}")
+@RequiredArgsConstructor
+@SuppressWarnings("unused") // Spring이 런타임에 자동으로 등록하고 사용하는 Controller
+public class LabelController {
+
+    private final LabelService labelService;
+
+    /**
+     * 보드 라벨 목록 조회
+     * GET /boards/{boardId}/labels
+     */
+    @Operation(summary = "라벨 목록 조회", description = "보드의 라벨 목록을 이름 순으로 조회합니다.")
+    @GetMapping("/labels")
+    public ResponseEntity<List<LabelResponse>> getLabels(
+            @Parameter(description = "보드 ID", example = "1") @PathVariable Long boardId,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomePrincipal userDetails) {
+
+        List<LabelResponse> response = labelService.getLabels(boardId, userDetails.getUserId());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 라벨 생성
+     * POST /boards/{boardId}/labels
+     */
+    @Operation(summary = "라벨 생성", description = "보드에 라벨을 만듭니다. 보드 소유자만 가능합니다. (보드당 최대 100개)")
+    @PostMapping("/labels")
+    public ResponseEntity<LabelResponse> createLabel(
+            @Parameter(description = "보드 ID", example = "1") @PathVariable Long boardId,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomePrincipal userDetails,
+            @Valid @RequestBody LabelCreateRequest request) {
+
+        LabelResponse response = labelService.createLabel(boardId, userDetails.getUserId(), request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * 라벨 삭제
+     * DELETE /boards/{boardId}/labels/{labelId}
+     */
+    @Operation(summary = "라벨 삭제", description = "라벨을 삭제합니다. 할 일에 붙어 있던 라벨도 함께 떨어집니다.")
+    @DeleteMapping("/labels/{labelId}")
+    public ResponseEntity<Void> deleteLabel(
+            @Parameter(description = "보드 ID", example = "1") @PathVariable Long boardId,
+            @Parameter(description = "라벨 ID", example = "3") @PathVariable Long labelId,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomePrincipal userDetails) {
+
+        labelService.deleteLabel(boardId, labelId, userDetails.getUserId());
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Task 라벨 조회
+     * GET /boards/{boardId}/tasks/{taskId}/labels
+     */
+    @Operation(summary = "Task 라벨 조회", description = "할 일에 붙은 라벨 목록을 조회합니다.")
+    @GetMapping("/tasks/{taskId}/labels")
+    public ResponseEntity<List<LabelResponse>> getTaskLabels(
+            @Parameter(description = "보드 ID", example = "1") @PathVariable Long boardId,
+            @Parameter(description = "할 일 ID", example = "10") @PathVariable Long taskId,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomePrincipal userDetails) {
+
+        List<LabelResponse> response = labelService.getTaskLabels(boardId, taskId, userDetails.getUserId());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Task 라벨 지정 (목록 전체 교체)
+     * PUT /boards/{boardId}/tasks/{taskId}/labels
+     */
+    @Operation(summary = "Task 라벨 지정", description = "할 일의 라벨 목록을 통째로 바꿉니다. 같은 보드의 라벨만 붙일 수 있습니다. (최대 20개)")
+    @PutMapping("/tasks/{taskId}/labels")
+    public ResponseEntity<List<LabelResponse>> replaceTaskLabels(
+            @Parameter(description = "보드 ID", example = "1") @PathVariable Long boardId,
+            @Parameter(description = "할 일 ID", example = "10") @PathVariable Long taskId,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomePrincipal userDetails,
+            @Valid @RequestBody TaskLabelRequest request) {
+
+        List<LabelResponse> response = labelService.replaceTaskLabels(boardId, taskId, userDetails.getUserId(), request);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 라벨 조건으로 Task 필터 조회
+     * GET /boards/{boardId}/tasks/filter?all=1,2&any=3,4&none=5&status=UNCHECKED
+     */
+    @Operation(summary = "라벨 필터", description = "라벨 조건(모두 포함 / 하나 이상 포함 / 제외)과 상태로 할 일을 골라 id 순으로 조회합니다.")
+    @GetMapping("/tasks/filter")
+    public ResponseEntity<TaskPageResponse> filterTasks(
+            @Parameter(description = "보드 ID", example = "1") @PathVariable Long boardId,
+            @Parameter(description = "모두 붙어 있어야 하는 라벨 ID", example = "1,2") @RequestParam(required = false) List<Long> all,
+            @Parameter(description = "하나 이상 붙어 있어야 하는 라벨 ID", example = "3,4") @RequestParam(required = false) List<Long> any,
+            @Parameter(description = "붙어 있으면 안 되는 라벨 ID", example = "5") @RequestParam(required = false) List<Long> none,
+            @Parameter(description = "상태 (미지정 시 전체)", example = "UNCHECKED") @RequestParam(required = false) TaskStatus status,
+            @Parameter(description = "이전 응답의 nextCursor") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 50, 최대 200)", example = "50") @RequestParam(required = false) Integer size,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomePrincipal userDetails) {
+
+        TaskPageResponse response = labelService.filterTasks(
+                boardId, userDetails.getUserId(), all, any, none, status, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+}
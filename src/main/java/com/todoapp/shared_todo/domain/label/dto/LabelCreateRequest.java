@@ -0,0 +1,21 @@
+package com.todoapp.shared_todo.domain.label.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+/**
+ * 라벨 생성 요청
+ */
+public record LabelCreateRequest(
+        @NotBlank(message = "라벨 이름은 필수입니다.")
+        @Size(min = 1, max = 30, message = "라벨 이름은 1~30자 사이여야 합니다.")
+        @Schema(description = "라벨 이름", example = "긴급")
+        String name,
+
+        @Pattern(regexp = "^#[0-9a-fA-F]{6}$", message = "색상은 #RRGGBB 형식이어야 합니다.")
+        @Schema(description = "라벨 색상", example = "#ff5722")
+        String color
+) {
+}
@@ -0,0 +1,11 @@
+package com.todoapp.shared_todo.domain.label.dto;
+
+/**
+ * 라벨 삭제 (커밋 후 라벨 인덱스에서 해당 비트맵 제거)
+ */
+public record LabelDeletedEvent(
+        Long boardId,
+        long changeVersion,
+        Long labelId
+) {
+}
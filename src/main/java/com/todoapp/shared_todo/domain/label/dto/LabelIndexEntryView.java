@@ -0,0 +1,11 @@
+package com.todoapp.shared_todo.domain.label.dto;
+
+/**
+ * 라벨 인덱스 생성용 (Task, 라벨) 쌍 프로젝션
+ */
+public interface LabelIndexEntryView {
+
+    Long getTaskId();
+
+    Long getLabelId();
+}
@@ -0,0 +1,13 @@
+package com.todoapp.shared_todo.domain.label.dto;
+
+import com.todoapp.shared_todo.domain.task.entity.TaskStatus;
+
+/**
+ * 라벨 인덱스 생성용 Task 프로젝션 (id, 상태만 조회)
+ */
+public interface LabelIndexTaskView {
+
+    Long getId();
+
+    TaskStatus getStatus();
+}
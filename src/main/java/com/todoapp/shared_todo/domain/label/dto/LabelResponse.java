@@ -0,0 +1,8 @@
+package com.todoapp.shared_todo.domain.label.dto;
+
+public record LabelResponse(
+        Long id,
+        String name,
+        String color
+) {
+}
@@ -0,0 +1,16 @@
+package com.todoapp.shared_todo.domain.label.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Task 라벨 지정 요청 (목록 전체를 교체, 빈 목록이면 라벨 해제)
+ */
+public record TaskLabelRequest(
+        @NotNull(message = "라벨 목록은 필수입니다.")
+        @Size(max = 20, message = "라벨은 Task당 최대 20개까지 붙일 수 있습니다.")
+        List<@NotNull(message = "라벨 ID는 필수입니다.") Long> labelIds
+) {
+}
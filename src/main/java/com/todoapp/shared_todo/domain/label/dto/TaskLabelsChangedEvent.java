@@ -0,0 +1,16 @@
+package com.todoapp.shared_todo.domain.label.dto;
+
+import java.util.Set;
+
+/**
+ * Task 라벨 변경 (커밋 후 라벨 인덱스에 반영)
+ *
+ * @param labelIds 변경 후 Task의 전체 라벨 ID
+ */
+public record TaskLabelsChangedEvent(
+        Long boardId,
+        long changeVersion,
+        Long taskId,
+        Set<Long> labelIds
+) {
+}
@@ -0,0 +1,51 @@
+package com.todoapp.shared_todo.domain.label.entity;
+
+import com.todoapp.shared_todo.domain.board.entity.Board;
+import com.todoapp.shared_todo.global.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * 보드 라벨 (보드마다 따로 관리)
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "label",
+        uniqueConstraints = @UniqueConstraint(name = "uk_label_board_name", columnNames = {"board_id", "name"})
+)
+public class Label extends BaseTimeEntity {
+
+    // 보드당 최대 라벨 수 (보드별 비트맵 인덱스 크기 제한)
+    public static final int MAX_LABELS_PER_BOARD = 100;
+
+    public static Label create(Board board, String name, String color) {
+        Label label = new Label();
+        label.board = board;
+        label.name = name;
+        label.color = color;
+        return label;
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 보드를 지우면 DB가 함께 지움
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "board_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Board board;
+
+    @Column(length = 30, nullable = false)
+    private String name;
+
+    // 표시 색상 (#RRGGBB, 없으면 기본 색)
+    @Column(length = 7)
+    private String color;
+}
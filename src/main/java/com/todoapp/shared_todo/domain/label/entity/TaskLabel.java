@@ -0,0 +1,51 @@
+package com.todoapp.shared_todo.domain.label.entity;
+
+import com.todoapp.shared_todo.domain.task.entity.Task;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * Task에 붙인 라벨
+ * 필터 조회는 이 테이블을 조인하지 않고 TaskLabelIndexService의 비트맵으로 처리합니다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "task_label",
+        uniqueConstraints = @UniqueConstraint(name = "uk_task_label_task_label", columnNames = {"task_id", "label_id"}),
+        indexes = @Index(name = "idx_task_label_board_id", columnList = "board_id")
+)
+public class TaskLabel {
+
+    public static TaskLabel create(Task task, Label label) {
+        TaskLabel taskLabel = new TaskLabel();
+        taskLabel.task = task;
+        taskLabel.label = label;
+        taskLabel.boardId = task.getBoard().getId();
+        return taskLabel;
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Task가 영구 삭제/보관되거나 라벨이 지워지면 DB가 함께 지움
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "task_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Task task;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "label_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Label label;
+
+    // 보드별 인덱스를 다시 만들 때 보드 단위로 읽기 위한 보드 ID
+    @Column(name = "board_id", nullable = false)
+    private Long boardId;
+}
@@ -0,0 +1,32 @@
+package com.todoapp.shared_todo.domain.label.repository;
+
+import com.todoapp.shared_todo.domain.label.dto.LabelResponse;
+import com.todoapp.shared_todo.domain.label.entity.Label;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface LabelRepository extends JpaRepository<Label, Long> {
+
+    /**
+     * 보드의 라벨 목록 (DTO 프로젝션, 이름순)
+     */
+    @Query("SELECT new com.todoapp.shared_todo.domain.label.dto.LabelResponse(l.id, l.name, l.color) " +
+            "FROM Label l WHERE l.board.id = :boardId ORDER BY l.name ASC")
+    List<LabelResponse> findResponsesByBoardId(@Param("boardId") Long boardId);
+
+    Optional<Label> findByIdAndBoardId(Long id, Long boardId);
+
+    boolean existsByBoardIdAndName(Long boardId, String name);
+
+    long countByBoardId(Long boardId);
+
+    // 주어진 라벨 중 이 보드의 라벨 수 (Task 라벨 지정 검증용)
+    long countByBoardIdAndIdIn(Long boardId, Collection<Long> ids);
+}
@@ -0,0 +1,51 @@
+package com.todoapp.shared_todo.domain.label.repository;
+
+import com.todoapp.shared_todo.domain.label.dto.LabelIndexEntryView;
+import com.todoapp.shared_todo.domain.label.dto.LabelIndexTaskView;
+import com.todoapp.shared_todo.domain.label.dto.LabelResponse;
+import com.todoapp.shared_todo.domain.label.entity.TaskLabel;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TaskLabelRepository extends JpaRepository<TaskLabel, Long> {
+
+    /**
+     * Task의 라벨 목록 (이름순)
+     */
+    @Query("SELECT new com.todoapp.shared_todo.domain.label.dto.LabelResponse(l.id, l.name, l.color) " +
+            "FROM TaskLabel tl JOIN tl.label l WHERE tl.task.id = :taskId ORDER BY l.name ASC")
+    List<LabelResponse> findLabelResponsesByTaskId(@Param("taskId") Long taskId);
+
+    /**
+     * Task의 라벨 ID
+     */
+    @Query("SELECT tl.label.id FROM TaskLabel tl WHERE tl.task.id = :taskId")
+    List<Long> findLabelIdsByTaskId(@Param("taskId") Long taskId);
+
+    /**
+     * Task에서 지정한 라벨 해제
+     */
+    @Modifying
+    @Query("DELETE FROM TaskLabel tl WHERE tl.task.id = :taskId AND tl.label.id IN :labelIds")
+    int deleteByTaskIdAndLabelIdIn(@Param("taskId") Long taskId, @Param("labelIds") Collection<Long> labelIds);
+
+    /**
+     * 라벨 인덱스 생성용: 보드의 Task(휴지통 제외) id, 상태 (id 오름차순)
+     */
+    @Query("SELECT t.id AS id, t.status AS status FROM Task t WHERE t.board.id = :boardId ORDER BY t.id ASC")
+    List<LabelIndexTaskView> findIndexTasksByBoardId(@Param("boardId") Long boardId);
+
+    /**
+     * 라벨 인덱스 생성용: 보드의 (Task, 라벨) 쌍 ((board_id) 인덱스 범위)
+     * 휴지통에 있는 Task의 라벨도 포함되므로 인덱스를 만들 때 걸러냅니다.
+     */
+    @Query("SELECT tl.task.id AS taskId, tl.label.id AS labelId FROM TaskLabel tl WHERE tl.boardId = :boardId")
+    List<LabelIndexEntryView> findIndexEntriesByBoardId(@Param("boardId") Long boardId);
+}
@@ -0,0 +1,258 @@
+package com.todoapp.shared_todo.domain.label.service;
+
+import com.todoapp.shared_todo.domain.task.entity.TaskStatus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 보드 하나의 라벨 비트맵 인덱스
+ * - 보드의 Task마다 0부터 촘촘한 번호(ordinal)를 붙이고, 라벨마다 "이 라벨이 붙은 Task 번호" 비트맵을 둡니다.
+ * - 번호가 촘촘하므로 BitSet 하나가 Task 수 / 8 바이트 정도만 차지합니다. (Task 1만 개 → 라벨당 약 1.2KB)
+ * - 라벨 조건 조합은 비트맵 AND / OR / ANDNOT 으로 계산합니다.
+ * - 인덱스는 id 오름차순으로 만들고 새 Task는 더 큰 id로 들어오므로 보통 번호 순서 = id 순서입니다.
+ *   이때 페이지 조회는 커서 다음 번호부터 limit개만 읽고, 순서가 어긋난 경우에만 골라낸 뒤 정렬합니다.
+ * - version 은 인덱스에 반영된 보드 변경 버전입니다. 바로 다음 버전(또는 같은 버전)의 변경만 이어서 반영하고,
+ *   이미 반영된 이전 버전은 건너뛰며, 중간 변경을 놓쳤으면 호출하는 쪽에서 인덱스를 버리고 다시 만듭니다.
+ * 모든 메서드는 인스턴스 단위로 동기화되어 있습니다.
+ */
+public final class LabelBitmapIndex {
+
+    private final Map<Long, Integer> ordinalByTaskId;
+    private final List<Long> taskIdByOrdinal;
+    // 현재 보드에 있는 Task (삭제된 Task의 번호는 비워 두고 재사용하지 않음)
+    private final BitSet live = new BitSet();
+    private final BitSet checked = new BitSet();
+    private final Map<Long, BitSet> bitmapByLabel = new HashMap<>();
+    private long version;
+    // 번호 순서와 id 순서가 같은지 (더 작은 id가 뒤에 추가되면 false)
+    private boolean ordinalsInIdOrder = true;
+
+    public LabelBitmapIndex(long version, int expectedTasks) {
+        this.version = version;
+        this.ordinalByTaskId = new HashMap<>(expectedTasks * 2);
+        this.taskIdByOrdinal = new ArrayList<>(expectedTasks);
+    }
+
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    /**
+     * 인덱스 생성 중 라벨 추가 (Task가 먼저 들어와 있어야 하며, 없으면 무시)
+     */
+    public synchronized void addLabel(Long taskId, Long labelId) {
+        Integer ordinal = ordinalByTaskId.get(taskId);
+        if (ordinal != null) {
+            bitmapByLabel.computeIfAbsent(labelId, id -> new BitSet()).set(ordinal);
+        }
+    }
+
+    /**
+     * 인덱스 생성 중 Task 추가
+     */
+    public synchronized void addTask(Long taskId, TaskStatus status) {
+        putTask(taskId, status);
+    }
+
+    /**
+     * Task 생성 반영
+     *
+     * @return 반영했거나 이미 반영된 변경이면 true, 중간 변경을 놓쳐 반영할 수 없으면 false
+     */
+    public synchronized boolean applyTaskCreated(long changeVersion, Long taskId, TaskStatus status) {
+        Step step = step(changeVersion);
+        if (step == Step.APPLY) {
+            putTask(taskId, status);
+        }
+        return step != Step.GAP;
+    }
+
+    /**
+     * Task 상태 변경 반영 (인덱스에 없는 Task면 false)
+     */
+    public synchronized boolean applyStatus(long changeVersion, Long taskId, TaskStatus status) {
+        Step step = step(changeVersion);
+        if (step != Step.APPLY) {
+            return step == Step.SKIP;
+        }
+        Integer ordinal = ordinalByTaskId.get(taskId);
+        if (ordinal == null || !live.get(ordinal)) {
+            return false;
+        }
+        checked.set(ordinal, status == TaskStatus.CHECKED);
+        return true;
+    }
+
+    /**
+     * Task 삭제/보관 반영
+     */
+    public synchronized boolean applyTaskRemoved(long changeVersion, Long taskId) {
+        Step step = step(changeVersion);
+        if (step != Step.APPLY) {
+            return step == Step.SKIP;
+        }
+        Integer ordinal = ordinalByTaskId.get(taskId);
+        if (ordinal != null) {
+            live.clear(ordinal);
+            checked.clear(ordinal);
+            bitmapByLabel.values().forEach(bitmap -> bitmap.clear(ordinal));
+        }
+        return true;
+    }
+
+    /**
+     * Task 라벨 변경 반영 (labelIds = 변경 후 전체 라벨)
+     */
+    public synchronized boolean applyLabels(long changeVersion, Long taskId, Set<Long> labelIds) {
+        Step step = step(changeVersion);
+        if (step != Step.APPLY) {
+            return step == Step.SKIP;
+        }
+        Integer ordinal = ordinalByTaskId.get(taskId);
+        if (ordinal == null || !live.get(ordinal)) {
+            return false;
+        }
+        bitmapByLabel.forEach((labelId, bitmap) -> bitmap.set(ordinal, labelIds.contains(labelId)));
+        labelIds.forEach(labelId -> bitmapByLabel.computeIfAbsent(labelId, id -> new BitSet()).set(ordinal));
+        return true;
+    }
+
+    /**
+     * 라벨 삭제 반영
+     */
+    public synchronized boolean applyLabelDeleted(long changeVersion, Long labelId) {
+        Step step = step(changeVersion);
+        if (step == Step.APPLY) {
+            bitmapByLabel.remove(labelId);
+        }
+        return step != Step.GAP;
+    }
+
+    /**
+     * 인덱스 내용과 무관한 변경 (멤버, 제목, 순서 등): 버전만 따라감
+     */
+    public synchronized boolean applyUnrelated(long changeVersion) {
+        return step(changeVersion) != Step.GAP;
+    }
+
+    /**
+     * 조건에 맞는 Task ID (id 오름차순, afterTaskId 초과, 최대 limit개)
+     *
+     * @param allLabelIds  모두 붙어 있어야 하는 라벨 (AND)
+     * @param anyLabelIds  하나 이상 붙어 있어야 하는 라벨 (OR, 비어 있으면 조건 없음)
+     * @param noneLabelIds 붙어 있으면 안 되는 라벨 (NOT)
+     * @param status       상태 조건 (null이면 조건 없음)
+     */
+    public synchronized List<Long> filter(Collection<Long> allLabelIds, Collection<Long> anyLabelIds,
+                                          Collection<Long> noneLabelIds, TaskStatus status,
+                                          long afterTaskId, int limit) {
+        BitSet result = (BitSet) live.clone();
+
+        for (Long labelId : allLabelIds) {
+            BitSet bitmap = bitmapByLabel.get(labelId);
+            if (bitmap == null) {
+                return List.of();
+            }
+            result.and(bitmap);
+        }
+        if (!anyLabelIds.isEmpty()) {
+            BitSet union = new BitSet();
+            for (Long labelId : anyLabelIds) {
+                BitSet bitmap = bitmapByLabel.get(labelId);
+                if (bitmap != null) {
+                    union.or(bitmap);
+                }
+            }
+            result.and(union);
+        }
+        for (Long labelId : noneLabelIds) {
+            BitSet bitmap = bitmapByLabel.get(labelId);
+            if (bitmap != null) {
+                result.andNot(bitmap);
+            }
+        }
+        if (status == TaskStatus.CHECKED) {
+            result.and(checked);
+        } else if (status == TaskStatus.UNCHECKED) {
+            result.andNot(checked);
+        }
+
+        if (ordinalsInIdOrder) {
+            List<Long> page = new ArrayList<>(Math.min(limit, 64));
+            for (int ordinal = result.nextSetBit(firstOrdinalAfter(afterTaskId));
+                 ordinal >= 0 && page.size() < limit;
+                 ordinal = result.nextSetBit(ordinal + 1)) {
+                page.add(taskIdByOrdinal.get(ordinal));
+            }
+            return page;
+        }
+
+        // 번호 순서가 id 순서와 다르면 골라낸 뒤 정렬
+        long[] ids = new long[result.cardinality()];
+        int count = 0;
+        for (int ordinal = result.nextSetBit(0); ordinal >= 0; ordinal = result.nextSetBit(ordinal + 1)) {
+            long taskId = taskIdByOrdinal.get(ordinal);
+            if (taskId > afterTaskId) {
+                ids[count++] = taskId;
+            }
+        }
+        Arrays.sort(ids, 0, count);
+        return Arrays.stream(ids, 0, Math.min(count, limit)).boxed().toList();
+    }
+
+    private void putTask(Long taskId, TaskStatus status) {
+        int ordinal = ordinalByTaskId.computeIfAbsent(taskId, id -> {
+            if (!taskIdByOrdinal.isEmpty() && id < taskIdByOrdinal.get(taskIdByOrdinal.size() - 1)) {
+                ordinalsInIdOrder = false;
+            }
+            taskIdByOrdinal.add(id);
+            return taskIdByOrdinal.size() - 1;
+        });
+        live.set(ordinal);
+        checked.set(ordinal, status == TaskStatus.CHECKED);
+    }
+
+    /**
+     * id가 afterTaskId보다 큰 첫 번호 (번호 순서 = id 순서일 때만 사용, 이진 탐색)
+     */
+    private int firstOrdinalAfter(long afterTaskId) {
+        int low = 0;
+        int high = taskIdByOrdinal.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (taskIdByOrdinal.get(mid) > afterTaskId) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private enum Step {
+        // 인덱스를 만들 때 이미 포함된 이전 버전
+        SKIP,
+        // 같은 버전(같은 트랜잭션의 다른 변경) 또는 바로 다음 버전 → 반영 (반영 내용은 모두 멱등)
+        APPLY,
+        // 중간 버전을 놓침 → 인덱스를 다시 만들어야 함
+        GAP
+    }
+
+    private Step step(long changeVersion) {
+        if (changeVersion < version) {
+            return Step.SKIP;
+        }
+        if (changeVersion > version + 1) {
+            return Step.GAP;
+        }
+        version = changeVersion;
+        return Step.APPLY;
+    }
+}
@@ -0,0 +1,215 @@
+package com.todoapp.shared_todo.domain.label.service;
+
+import com.todoapp.shared_todo.domain.board.entity.Board;
+import com.todoapp.shared_todo.domain.board.entity.BoardChangeType;
+import com.todoapp.shared_todo.domain.board.repository.BoardRepository;
+import com.todoapp.shared_todo.domain.board.service.BoardChangeRecorder;
+import com.todoapp.shared_todo.domain.boardEvent.dto.BoardEvent;
+import com.todoapp.shared_todo.domain.boardEvent.dto.BoardEventType;
+import com.todoapp.shared_todo.domain.boardMember.repository.BoardMemberRepository;
+import com.todoapp.shared_todo.domain.label.dto.LabelCreateRequest;
+import com.todoapp.shared_todo.domain.label.dto.LabelDeletedEvent;
+import com.todoapp.shared_todo.domain.label.dto.LabelResponse;
+import com.todoapp.shared_todo.domain.label.dto.TaskLabelRequest;
+import com.todoapp.shared_todo.domain.label.dto.TaskLabelsChangedEvent;
+import com.todoapp.shared_todo.domain.label.entity.Label;
+import com.todoapp.shared_todo.domain.label.entity.TaskLabel;
+import com.todoapp.shared_todo.domain.label.repository.LabelRepository;
+import com.todoapp.shared_todo.domain.label.repository.TaskLabelRepository;
+import com.todoapp.shared_todo.domain.task.dto.TaskPageResponse;
+import com.todoapp.shared_todo.domain.task.dto.TaskResponse;
+import com.todoapp.shared_todo.domain.task.entity.Task;
+import com.todoapp.shared_todo.domain.task.entity.TaskStatus;
+import com.todoapp.shared_todo.domain.task.repository.TaskRepository;
+import com.todoapp.shared_todo.domain.task.service.TaskPositionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 보드 라벨과 Task 라벨 관리, 라벨 조건 필터 조회
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class LabelService {
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    // 필터 한 번에 쓸 수 있는 최대 라벨 수 (all + any + none)
+    private static final int MAX_FILTER_LABELS = 20;
+
+    private final LabelRepository labelRepository;
+    private final TaskLabelRepository taskLabelRepository;
+    private final TaskRepository taskRepository;
+    private final BoardRepository boardRepository;
+    private final BoardMemberRepository boardMemberRepository;
+    private final TaskPositionService taskPositionService;
+    private final TaskLabelIndexService taskLabelIndexService;
+    private final BoardChangeRecorder boardChangeRecorder;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 보드 라벨 목록 조회
+     * 요구사항: 보드 멤버만 조회 가능
+     */
+    public List<LabelResponse> getLabels(Long boardId, Long userId) {
+        validateMember(boardId, userId);
+
+        return labelRepository.findResponsesByBoardId(boardId);
+    }
+
+    /**
+     * 라벨 생성
+     * 요구사항: 보드 소유자만 가능, 보드 안에서 이름 중복 불가
+     */
+    @Transactional
+    public LabelResponse createLabel(Long boardId, Long userId, LabelCreateRequest request) {
+        Board board = taskPositionService.lockBoardAsOwner(boardId, userId);
+
+        if (labelRepository.countByBoardId(boardId) >= Label.MAX_LABELS_PER_BOARD) {
+            throw new IllegalArgumentException("라벨은 보드당 최대 " + Label.MAX_LABELS_PER_BOARD + "개까지 만들 수 있습니다.");
+        }
+        if (labelRepository.existsByBoardIdAndName(boardId, request.name())) {
+            throw new IllegalArgumentException("이미 같은 이름의 라벨이 있습니다.");
+        }
+
+        Label label = labelRepository.save(Label.create(board, request.name(), request.color()));
+        long changeVersion = boardChangeRecorder.recordBoardChange(boardId, BoardChangeType.BOARD_UPDATED);
+        eventPublisher.publishEvent(BoardEvent.board(boardId, BoardEventType.BOARD_UPDATED, changeVersion, userId));
+
+        return new LabelResponse(label.getId(), label.getName(), label.getColor());
+    }
+
+    /**
+     * 라벨 삭제 (붙어 있던 Task 라벨은 DB가 함께 지움)
+     * 요구사항: 보드 소유자만 가능
+     */
+    @Transactional
+    public void deleteLabel(Long boardId, Long labelId, Long userId) {
+        taskPositionService.lockBoardAsOwner(boardId, userId);
+
+        Label label = labelRepository.findByIdAndBoardId(labelId, boardId)
+                .orElseThrow(() -> new IllegalArgumentException("라벨을 찾을 수 없습니다."));
+
+        labelRepository.delete(label);
+        long changeVersion = boardChangeRecorder.recordBoardChange(boardId, BoardChangeType.BOARD_UPDATED);
+        eventPublisher.publishEvent(BoardEvent.board(boardId, BoardEventType.BOARD_UPDATED, changeVersion, userId));
+        eventPublisher.publishEvent(new LabelDeletedEvent(boardId, changeVersion, labelId));
+    }
+
+    /**
+     * Task 라벨 조회
+     * 요구사항: 보드 멤버만 조회 가능
+     */
+    public List<LabelResponse> getTaskLabels(Long boardId, Long taskId, Long userId) {
+        validateMember(boardId, userId);
+        if (taskRepository.findPositionByBoardIdAndId(boardId, taskId).isEmpty()) {
+            throw new IllegalArgumentException("Task를 찾을 수 없습니다.");
+        }
+
+        return taskLabelRepository.findLabelResponsesByTaskId(taskId);
+    }
+
+    /**
+     * Task 라벨 지정 (목록 전체 교체)
+     * 요구사항: Task 수정과 동일하게 보드 접근 권한 확인 (소유자), 같은 보드의 라벨만 가능
+     * 기존 목록과 비교해 빠진 라벨만 지우고 새 라벨만 추가합니다.
+     */
+    @Transactional
+    public List<LabelResponse> replaceTaskLabels(Long boardId, Long taskId, Long userId, TaskLabelRequest request) {
+        taskPositionService.lockBoardAsOwner(boardId, userId);
+
+        Task task = taskRepository.findById(taskId)
+                .filter(found -> found.getBoard().getId().equals(boardId))
+                .orElseThrow(() -> new IllegalArgumentException("Task를 찾을 수 없습니다."));
+
+        Set<Long> requested = new LinkedHashSet<>(request.labelIds());
+        if (!requested.isEmpty() && labelRepository.countByBoardIdAndIdIn(boardId, requested) != requested.size()) {
+            throw new IllegalArgumentException("이 보드의 라벨만 붙일 수 있습니다.");
+        }
+
+        Set<Long> current = new HashSet<>(taskLabelRepository.findLabelIdsByTaskId(taskId));
+        Set<Long> removed = current.stream()
+                .filter(id -> !requested.contains(id))
+                .collect(Collectors.toSet());
+        List<TaskLabel> added = requested.stream()
+                .filter(id -> !current.contains(id))
+                .map(id -> TaskLabel.create(task, labelRepository.getReferenceById(id)))
+                .collect(Collectors.toList());
+
+        if (!removed.isEmpty()) {
+            taskLabelRepository.deleteByTaskIdAndLabelIdIn(taskId, removed);
+        }
+        taskLabelRepository.saveAll(added);
+
+        if (!removed.isEmpty() || !added.isEmpty()) {
+            long changeVersion = boardChangeRecorder.recordTaskChanges(
+                    boardId, BoardChangeType.TASK_UPDATED, List.of(taskId), 0, 0);
+            eventPublisher.publishEvent(BoardEvent.task(
+                    boardId, BoardEventType.TASK_UPDATED, changeVersion, userId, taskId, task.getStatus()));
+            eventPublisher.publishEvent(new TaskLabelsChangedEvent(boardId, changeVersion, taskId, Set.copyOf(requested)));
+        }
+
+        return taskLabelRepository.findLabelResponsesByTaskId(taskId);
+    }
+
+    /**
+     * 라벨 조건으로 Task 필터 조회 (id 오름차순, 커서 = 마지막 Task ID)
+     * 요구사항: Task 목록 조회와 동일하게 보드 멤버만 조회 가능
+     * 조건 계산은 보드 라벨 비트맵의 AND / OR / ANDNOT 으로 하고, DB에서는 결과 페이지의 Task만 PK로 읽습니다.
+     *
+     * @param allLabelIds  모두 붙어 있어야 하는 라벨
+     * @param anyLabelIds  하나 이상 붙어 있어야 하는 라벨
+     * @param noneLabelIds 붙어 있으면 안 되는 라벨
+     * @param status       상태 조건 (null이면 전체)
+     */
+    public TaskPageResponse filterTasks(Long boardId, Long userId, List<Long> allLabelIds, List<Long> anyLabelIds,
+                                        List<Long> noneLabelIds, TaskStatus status, String cursor, Integer size) {
+        validateMember(boardId, userId);
+
+        List<Long> all = allLabelIds == null ? List.of() : allLabelIds;
+        List<Long> any = anyLabelIds == null ? List.of() : anyLabelIds;
+        List<Long> none = noneLabelIds == null ? List.of() : noneLabelIds;
+        if (all.size() + any.size() + none.size() > MAX_FILTER_LABELS) {
+            throw new IllegalArgumentException("필터에는 라벨을 최대 " + MAX_FILTER_LABELS + "개까지 쓸 수 있습니다.");
+        }
+
+        long afterTaskId;
+        try {
+            afterTaskId = (cursor == null || cursor.isBlank()) ? 0L : Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        int pageSize = (size == null || size <= 0) ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+
+        List<Long> taskIds = taskLabelIndexService.getIndex(boardId)
+                .filter(all, any, none, status, afterTaskId, pageSize + 1);
+        boolean hasNext = taskIds.size() > pageSize;
+        List<Long> pageIds = hasNext ? taskIds.subList(0, pageSize) : taskIds;
+
+        List<TaskResponse> tasks = pageIds.isEmpty()
+                ? List.of()
+                : taskRepository.findResponsesByBoardIdAndIdIn(boardId, pageIds);
+        String nextCursor = hasNext ? String.valueOf(pageIds.get(pageIds.size() - 1)) : null;
+
+        return new TaskPageResponse(tasks, nextCursor, hasNext);
+    }
+
+    private void validateMember(Long boardId, Long userId) {
+        if (!boardRepository.existsById(boardId)) {
+            throw new IllegalArgumentException("보드를 찾을 수 없습니다.");
+        }
+        // 권한 확인: 보드 멤버만 접근 가능
+        if (!boardMemberRepository.existsByBoardIdAndUserId(boardId, userId)) {
+            throw new IllegalArgumentException("보드에 접근할 권한이 없습니다.");
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.todoapp.shared_todo.domain.label.service;
+
+import com.todoapp.shared_todo.domain.board.repository.BoardRepository;
+import com.todoapp.shared_todo.domain.boardEvent.dto.BoardEvent;
+import com.todoapp.shared_todo.domain.label.dto.LabelDeletedEvent;
+import com.todoapp.shared_todo.domain.label.dto.LabelIndexTaskView;
+import com.todoapp.shared_todo.domain.label.dto.TaskLabelsChangedEvent;
+import com.todoapp.shared_todo.domain.label.repository.TaskLabelRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 보드별 라벨 비트맵 인덱스 관리
+ * - 인덱스는 노드 메모리에 보드 단위로 두고, 최근에 쓴 보드만 max-boards 개까지 유지합니다.
+ * - 이 노드의 쓰기는 서비스가 발행한 이벤트를 커밋 후에 받아 인덱스에 바로 반영합니다.
+ * - 다른 노드의 쓰기나 놓친 이벤트는 조회 시 보드 변경 버전을 비교해 알아채고 인덱스를 다시 만듭니다.
+ *   (같은 트랜잭션의 이벤트가 모두 반영되기 전 아주 짧은 동안은 일부만 반영된 상태가 보일 수 있음)
+ */
+@Service
+public class TaskLabelIndexService {
+
+    private final BoardRepository boardRepository;
+    private final TaskLabelRepository taskLabelRepository;
+    private final Map<Long, LabelBitmapIndex> indexes;
+
+    public TaskLabelIndexService(BoardRepository boardRepository,
+                                 TaskLabelRepository taskLabelRepository,
+                                 @Value("${board.task-label-index.max-boards:256}") int maxBoards) {
+        this.boardRepository = boardRepository;
+        this.taskLabelRepository = taskLabelRepository;
+        // 접근 순서 LinkedHashMap: 가장 오래 안 쓴 보드부터 제거
+        this.indexes = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, LabelBitmapIndex> eldest) {
+                return size() > maxBoards;
+            }
+        });
+    }
+
+    /**
+     * 보드의 라벨 인덱스 (캐시된 인덱스가 현재 보드 변경 버전보다 오래되었으면 다시 만듦)
+     * 호출하는 쪽 트랜잭션 안에서 변경 버전과 Task/라벨 행을 같은 스냅샷으로 읽습니다.
+     */
+    @Transactional(readOnly = true)
+    public LabelBitmapIndex getIndex(Long boardId) {
+        long version = boardRepository.findChangeVersionById(boardId)
+                .orElseThrow(() -> new IllegalArgumentException("보드를 찾을 수 없습니다."));
+
+        LabelBitmapIndex cached = indexes.get(boardId);
+        if (cached != null && cached.getVersion() >= version) {
+            return cached;
+        }
+
+        LabelBitmapIndex rebuilt = build(boardId, version);
+        // 그사이 다른 요청이 더 새 버전으로 만들었으면 그쪽을 유지
+        indexes.merge(boardId, rebuilt, (current, fresh) -> current.getVersion() >= fresh.getVersion() ? current : fresh);
+        return rebuilt;
+    }
+
+    /**
+     * Task 생성/상태 변경/삭제 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBoardEvent(BoardEvent event) {
+        // 마감 알림처럼 보드 변경이 아닌 이벤트
+        if (event.changeVersion() == null) {
+            return;
+        }
+        LabelBitmapIndex index = indexes.get(event.boardId());
+        if (index == null) {
+            return;
+        }
+
+        long changeVersion = event.changeVersion();
+        boolean applied = switch (event.type()) {
+            case TASK_CREATED -> index.applyTaskCreated(changeVersion, event.taskId(), event.taskStatus());
+            case TASK_UPDATED, TASK_TOGGLED, TASK_MOVED -> event.taskStatus() != null
+                    && index.applyStatus(changeVersion, event.taskId(), event.taskStatus());
+            case TASK_DELETED -> index.applyTaskRemoved(changeVersion, event.taskId());
+            // 보관은 보드 단위 이벤트 하나로 오고 옮긴 Task 목록이 없으므로 다시 만듦
+            case TASK_ARCHIVED -> false;
+            // 복원된 Task의 라벨은 이벤트에 없으므로 다시 만듦
+            case TASK_RESTORED -> false;
+            default -> index.applyUnrelated(changeVersion);
+        };
+        if (!applied) {
+            indexes.remove(event.boardId(), index);
+        }
+    }
+
+    /**
+     * Task 라벨 변경 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTaskLabelsChanged(TaskLabelsChangedEvent event) {
+        LabelBitmapIndex index = indexes.get(event.boardId());
+        if (index != null && !index.applyLabels(event.changeVersion(), event.taskId(), event.labelIds())) {
+            indexes.remove(event.boardId(), index);
+        }
+    }
+
+    /**
+     * 라벨 삭제 반영
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onLabelDeleted(LabelDeletedEvent event) {
+        LabelBitmapIndex index = indexes.get(event.boardId());
+        if (index != null && !index.applyLabelDeleted(event.changeVersion(), event.labelId())) {
+            indexes.remove(event.boardId(), index);
+        }
+    }
+
+    /**
+     * Task 목록과 (Task, 라벨) 쌍을 한 번씩 읽어 인덱스 생성 (보드 크기에 비례, 조인 없음)
+     */
+    private LabelBitmapIndex build(Long boardId, long version) {
+        List<LabelIndexTaskView> tasks = taskLabelRepository.findIndexTasksByBoardId(boardId);
+        LabelBitmapIndex index = new LabelBitmapIndex(version, tasks.size());
+        tasks.forEach(task -> index.addTask(task.getId(), task.getStatus()));
+        taskLabelRepository.findIndexEntriesByBoardId(boardId)
+                .forEach(entry -> index.addLabel(entry.getTaskId(), entry.getLabelId()));
+        return index;
+    }
+}
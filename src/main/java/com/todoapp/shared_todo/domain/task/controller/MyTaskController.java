@@ -0,0 +1,71 @@
+package com.todoapp.shared_todo.domain.task.controller;
+
+import com.todoapp.shared_todo.domain.task.dto.AgendaPageResponse;
+import com.todoapp.shared_todo.domain.task.dto.AssignedTaskPageResponse;
+import com.todoapp.shared_todo.domain.task.entity.TaskStatus;
+import com.todoapp.shared_todo.domain.task.service.TaskAgendaService;
+import com.todoapp.shared_todo.domain.task.service.TaskAssigneeService;
+import com.todoapp.shared_todo.global.security.CustomePrincipal;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+@Tag(name = "My Task API", description = "내가 속한 모든 보드에 걸친 할 일(Task) 조회 API")
+@RestController
+@RequestMapping("/me")
+@RequiredArgsConstructor
+@SuppressWarnings("unused") // Spring이 런타임에 자동으로 등록하고 사용하는 Controller
+public class MyTaskController {
+
+    private final TaskAgendaService taskAgendaService;
+    private final TaskAssigneeService taskAssigneeService;
+
+    /**
+     * 마감 예정 Task 아젠다 조회
+     * GET /me/agenda
+     */
+    @Operation(summary = "마감 예정 Task 아젠다", description = "내가 속한 모든 보드의 할 일을 마감일 순으로 조회합니다. (커서 기반 페이지네이션)")
+    @GetMapping("/agenda")
+    public ResponseEntity<AgendaPageResponse> getAgenda(
+            @Parameter(description = "조회 시작 시각 (기본: 현재)", example = "2025-01-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "조회 종료 시각, 미포함 (기본: 시작 + 14일)", example = "2025-01-15T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime until,
+            @Parameter(description = "상태 필터 (기본: UNCHECKED)") @RequestParam(required = false) TaskStatus status,
+            @Parameter(description = "이전 응답의 nextCursor (조회 구간이 담겨 있어 from/until 은 무시)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 50, 최대 200)", example = "50") @RequestParam(required = false) Integer size,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomePrincipal userDetails) {
+
+        AgendaPageResponse response = taskAgendaService.getAgenda(
+                userDetails.getUserId(), from, until, status, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 내게 할당된 Task 조회
+     * GET /me/assigned-tasks
+     */
+    @Operation(summary = "내게 할당된 Task", description = "내가 담당자로 지정된 모든 보드의 할 일을 마감일 순으로 조회합니다. "
+            + "마감일이 없는 할 일은 맨 뒤에 옵니다. (커서 기반 페이지네이션)")
+    @GetMapping("/assigned-tasks")
+    public ResponseEntity<AssignedTaskPageResponse> getAssignedTasks(
+            @Parameter(description = "상태 필터 (기본: UNCHECKED)") @RequestParam(required = false) TaskStatus status,
+            @Parameter(description = "이전 응답의 nextCursor (조회 구간이 담겨 있어 from/until 은 무시)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 50, 최대 200)", example = "50") @RequestParam(required = false) Integer size,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomePrincipal userDetails) {
+
+        AssignedTaskPageResponse response = taskAssigneeService.getAssignedTasks(
+                userDetails.getUserId(), status, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,21 +1,47 @@
 package com.todoapp.shared_todo.domain.task.controller;
 
+import com.todoapp.shared_todo.domain.board.service.BoardService;
+import com.todoapp.shared_todo.domain.task.dto.ArchivedTaskPageResponse;
+import com.todoapp.shared_todo.domain.task.dto.TaskAssigneeRequest;
+import com.todoapp.shared_todo.domain.task.dto.TaskAssigneeResponse;
+import com.todoapp.shared_todo.domain.task.dto.TaskBatchCreateRequest;
+import com.todoapp.shared_todo.domain.task.dto.TaskBulkStatusRequest;
+import com.todoapp.shared_todo.domain.task.dto.TaskBulkStatusResponse;
 import com.todoapp.shared_todo.domain.task.dto.TaskCheckRequest;
 import com.todoapp.shared_todo.domain.task.dto.TaskCreateRequest;
+import com.todoapp.shared_todo.domain.task.dto.TaskExportFormat;
+import com.todoapp.shared_todo.domain.task.dto.TaskMoveRequest;
+import com.todoapp.shared_todo.domain.task.dto.TaskOccurrencesResponse;
+import com.todoapp.shared_todo.domain.task.dto.TaskPageResponse;
 import com.todoapp.shared_todo.domain.task.dto.TaskResponse;
+import com.todoapp.shared_todo.domain.task.dto.TaskTreeResponse;
 import com.todoapp.shared_todo.domain.task.dto.TaskUpdateRequest;
+import com.todoapp.shared_todo.domain.task.dto.TrashedTaskPageResponse;
+import com.todoapp.shared_todo.domain.task.service.TaskArchiveService;
+import com.todoapp.shared_todo.domain.task.service.TaskAssigneeService;
+import com.todoapp.shared_todo.domain.task.service.TaskExportService;
+import com.todoapp.shared_todo.domain.task.service.TaskHierarchyService;
+import com.todoapp.shared_todo.domain.task.service.TaskPositionService;
+import com.todoapp.shared_todo.domain.task.service.TaskRecurrenceService;
 import com.todoapp.shared_todo.domain.task.service.TaskService;
+import com.todoapp.shared_todo.domain.task.service.TaskTrashService;
 import com.todoapp.shared_todo.global.security.CustomePrincipal;
+import com.todoapp.shared_todo.global.util.ETagUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Tag(name = "Task API", description = "보드 내부의 할 일(Task) 관리 API")
@@ -26,6 +52,14 @@ import java.util.List;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskExportService taskExportService;
+    private final TaskPositionService taskPositionService;
+    private final TaskTrashService taskTrashService;
+    private final TaskArchiveService taskArchiveService;
+    private final TaskRecurrenceService taskRecurrenceService;
+    private final TaskHierarchyService taskHierarchyService;
+    private final TaskAssigneeService taskAssigneeService;
+    private final BoardService boardService;
 
     /**
      * Task 생성
@@ -43,17 +77,100 @@ public class TaskController {
     }
 
     /**
-     * 보드의 Task 리스트 조회
-     * GET /boards/{boardId}/tasks
+     * Task 일괄 생성
+     * POST /boards/{boardId}/tasks/batch
      */
-    @Operation(summary = "Task 목록 조회", description = "특정 보드에 포함된 모든 할 일 목록을 조회합니다.")
+    @Operation(summary = "Task 일괄 생성", description = "특정 보드 내에 여러 할 일을 한 번에 생성합니다. (최대 500개, 내용 합계 최대 1,000,000자)")
+    @PostMapping("/batch")
+    public ResponseEntity<List<TaskResponse>> createTasks(
+            @Parameter(description = "보드 ID", example = "1") @PathVariable Long boardId,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomePrincipal userDetails,
+            @Valid @RequestBody TaskBatchCreateRequest request) {
+
+        List<TaskResponse> responses = taskService.createTasks(boardId, userDetails.getUserId(), request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(responses);
+    }
+
+    /**
+     * 보드의 Task 리스트 조회 (커서 기반)
+     * GET /boards/{boardId}/tasks?cursor={nextCursor}&size=50
+     */
+    @Operation(summary = "Task 목록 조회", description = "특정 보드의 할 일 목록을 사용자 지정 순서대로, 커서 기반으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 사용합니다. "
+            + "ETag를 응답하며 If-None-Match가 일치하면 Task를 읽지 않고 304를 반환합니다.")
     @GetMapping
-    public ResponseEntity<List<TaskResponse>> getTasks(
+    public ResponseEntity<TaskPageResponse> getTasks(
+            @Parameter(description = "보드 ID", example = "1") @PathVariable Long boardId,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomePrincipal userDetails,
+            @Parameter(description = "이전 페이지의 nextCursor (첫 페이지는 생략)", example = "V_120") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 50, 최대 200)", example = "50") @RequestParam(required = false) Integer size,
+            @Parameter(hidden = true) WebRequest webRequest) {
+
+        // 변경 버전을 본문보다 먼저 읽으므로, 본문이 ETag보다 최신일 수는 있어도 오래될 수는 없음
+        String eTag = ETagUtils.boardETag(boardId, boardService.getChangeVersion(boardId, userDetails.getUserId()));
+        if (webRequest.checkNotModified(eTag)) {
+            return null; // 304 Not Modified
+        }
+
+        // 보드/멤버 확인은 위 getChangeVersion 에서 끝났으므로 페이지만 조회
+        TaskPageResponse response = taskService.getPage(boardId, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 기간 내 Task 발생 조회 (캘린더용)
+     * GET /boards/{boardId}/tasks/occurrences?from=&until=
+     */
+    @Operation(summary = "기간 내 Task 발생 조회", description = "마감일이 구간 안에 있는 할 일을 마감 시각 순으로 조회합니다. "
+            + "반복 할 일의 이후 발생은 규칙으로 계산해 projected=true 로 포함합니다. (최대 90일, 1000건)")
+    @GetMapping("/occurrences")
+    public ResponseEntity<TaskOccurrencesResponse> getOccurrences(
             @Parameter(description = "보드 ID", example = "1") @PathVariable Long boardId,
+            @Parameter(description = "조회 시작 시각 (기본: 현재)", example = "2025-01-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "조회 종료 시각, 미포함 (기본: 시작 + 14일)", example = "2025-01-15T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime until,
             @Parameter(hidden = true) @AuthenticationPrincipal CustomePrincipal userDetails) {
 
-        List<TaskResponse> responses = taskService.getTasks(boardId, userDetails.getUserId());
-        return ResponseEntity.ok(responses);
+        TaskOccurrencesResponse response = taskRecurrenceService.getOccurrences(boardId, userDetails.getUserId(), from, until);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Task 트리 조회 (하위 Task 포함)
+     * GET /boards/{boardId}/tasks/tree?rootId=
+     */
+    @Operation(summary = "Task 트리 조회", description = "보드의 할 일을 하위 할 일까지 트리로 조회합니다. "
+            + "rootId를 주면 그 할 일과 자손만 조회합니다. (최대 5000건)")
+    @GetMapping("/tree")
+    public ResponseEntity<TaskTreeResponse> getTaskTree(
+            @Parameter(description = "보드 ID", example = "1") @PathVariable Long boardId,
+            @Parameter(description = "트리의 시작 Task ID (생략 시 보드 전체)", example = "10")
+            @RequestParam(required = false) Long rootId,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomePrincipal userDetails) {
+
+        TaskTreeResponse response = taskHierarchyService.getTree(boardId, userDetails.getUserId(), rootId);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 보드의 Task 내보내기
+     * GET /boards/{boardId}/tasks/export?format=NDJSON|CSV
+     */
+    @Operation(summary = "Task 내보내기", description = "보드의 모든 할 일을 NDJSON 또는 CSV로 스트리밍합니다.")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @Parameter(description = "보드 ID", example = "1") @PathVariable Long boardId,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomePrincipal userDetails,
+            @Parameter(description = "내보내기 형식 (NDJSON, CSV)", example = "NDJSON") @RequestParam(defaultValue = "NDJSON") TaskExportFormat format) {
+
+        taskExportService.validateExportAccess(boardId, userDetails.getUserId());
+
+        StreamingResponseBody body = outputStream -> taskExportService.exportTasks(boardId, format, outputStream);
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"board-" + boardId + "-tasks." + format.getExtension() + "\"")
+                .body(body);
     }
 
     /**
@@ -83,6 +200,38 @@ public class TaskController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Task 담당자 조회
+     * GET /boards/{boardId}/tasks/{taskId}/assignees
+     */
+    @Operation(summary = "Task 담당자 조회", description = "할 일의 담당자 목록을 조회합니다.")
+    @GetMapping("/{taskId}/assignees")
+    public ResponseEntity<List<TaskAssigneeResponse>> getAssignees(
+            @Parameter(description = "보드 ID", example = "1") @PathVariable Long boardId,
+            @Parameter(description = "할 일 ID", example = "10") @PathVariable Long taskId,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomePrincipal userDetails) {
+
+        List<TaskAssigneeResponse> response = taskAssigneeService.getAssignees(boardId, taskId, userDetails.getUserId());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Task 담당자 지정 (목록 전체 교체)
+     * PUT /boards/{boardId}/tasks/{taskId}/assignees
+     */
+    @Operation(summary = "Task 담당자 지정", description = "할 일의 담당자 목록을 통째로 바꿉니다. 보드 멤버만 지정할 수 있습니다. (최대 20명)")
+    @PutMapping("/{taskId}/assignees")
+    public ResponseEntity<List<TaskAssigneeResponse>> replaceAssignees(
+            @Parameter(description = "보드 ID", example = "1") @PathVariable Long boardId,
+            @Parameter(description = "할 일 ID", example = "10") @PathVariable Long taskId,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomePrincipal userDetails,
+            @Valid @RequestBody TaskAssigneeRequest request) {
+
+        List<TaskAssigneeResponse> response = taskAssigneeService.replaceAssignees(
+                boardId, taskId, userDetails.getUserId(), request);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Task 상태 변경 (토글)
      */
@@ -98,10 +247,88 @@ public class TaskController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Task 순서 이동
+     * PATCH /boards/{boardId}/tasks/{taskId}/position
+     */
+    @Operation(summary = "Task 순서 이동", description = "할 일을 prevTaskId 바로 뒤로 옮깁니다. prevTaskId가 없으면 맨 앞으로 옮깁니다.")
+    @PatchMapping("/{taskId}/position")
+    public ResponseEntity<TaskResponse> moveTask(
+            @Parameter(description = "보드 ID", example = "1") @PathVariable Long boardId,
+            @Parameter(description = "할 일 ID", example = "10") @PathVariable Long taskId,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomePrincipal userDetails,
+            @RequestBody TaskMoveRequest request) {
+
+        TaskResponse response = taskPositionService.moveTask(boardId, taskId, userDetails.getUserId(), request);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 휴지통 조회
+     * GET /boards/{boardId}/tasks/trash
+     */
+    @Operation(summary = "휴지통 조회", description = "삭제된 할 일을 최근 삭제순으로 조회합니다. 보관 기간이 지나면 영구 삭제됩니다.")
+    @GetMapping("/trash")
+    public ResponseEntity<TrashedTaskPageResponse> getTrash(
+            @Parameter(description = "보드 ID", example = "1") @PathVariable Long boardId,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomePrincipal userDetails,
+            @Parameter(description = "이전 페이지의 nextCursor (첫 페이지는 생략)", example = "120") @RequestParam(required = false) Long cursor,
+            @Parameter(description = "페이지 크기 (기본 50, 최대 200)", example = "50") @RequestParam(required = false) Integer size) {
+
+        TrashedTaskPageResponse response = taskTrashService.getTrash(boardId, userDetails.getUserId(), cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 휴지통에서 복원
+     * POST /boards/{boardId}/tasks/{taskId}/restore
+     */
+    @Operation(summary = "Task 복원", description = "휴지통의 할 일을 보드 맨 뒤로 복원합니다.")
+    @PostMapping("/{taskId}/restore")
+    public ResponseEntity<TaskResponse> restoreTask(
+            @Parameter(description = "보드 ID", example = "1") @PathVariable Long boardId,
+            @Parameter(description = "할 일 ID", example = "10") @PathVariable Long taskId,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomePrincipal userDetails) {
+
+        TaskResponse response = taskTrashService.restoreTask(boardId, taskId, userDetails.getUserId());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 보관된 Task 조회
+     * GET /boards/{boardId}/tasks/archived
+     */
+    @Operation(summary = "보관된 Task 조회", description = "완료 후 오래 지나 보관 테이블로 옮겨진 할 일을 최근 생성순으로 조회합니다. 보관된 할 일은 Task 목록에 나오지 않습니다.")
+    @GetMapping("/archived")
+    public ResponseEntity<ArchivedTaskPageResponse> getArchivedTasks(
+            @Parameter(description = "보드 ID", example = "1") @PathVariable Long boardId,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomePrincipal userDetails,
+            @Parameter(description = "이전 페이지의 nextCursor (첫 페이지는 생략)", example = "120") @RequestParam(required = false) Long cursor,
+            @Parameter(description = "페이지 크기 (기본 50, 최대 200)", example = "50") @RequestParam(required = false) Integer size) {
+
+        ArchivedTaskPageResponse response = taskArchiveService.getArchivedTasks(boardId, userDetails.getUserId(), cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Task 상태 일괄 변경
+     * PATCH /boards/{boardId}/tasks/status
+     */
+    @Operation(summary = "Task 상태 일괄 변경", description = "여러 할 일의 완료 상태를 한 번에 변경합니다. 버전이 맞지 않는 항목은 CONFLICT로 응답합니다.")
+    @PatchMapping("/status")
+    public ResponseEntity<TaskBulkStatusResponse> updateTaskStatuses(
+            @Parameter(description = "보드 ID", example = "1") @PathVariable Long boardId,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomePrincipal userDetails,
+            @Valid @RequestBody TaskBulkStatusRequest request) {
+
+        TaskBulkStatusResponse response = taskService.updateTaskStatuses(boardId, userDetails.getUserId(), request);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Task 삭제
      */
-    @Operation(summary = "Task 삭제", description = "특정 할 일을 삭제합니다.")
+    @Operation(summary = "Task 삭제", description = "특정 할 일을 휴지통으로 옮깁니다. 보관 기간 안에는 복원할 수 있습니다.")
     @DeleteMapping("/{taskId}")
     public ResponseEntity<Void> deleteTask(
             @Parameter(description = "보드 ID", example = "1") @PathVariable Long boardId,
@@ -0,0 +1,41 @@
+package com.todoapp.shared_todo.domain.task.controller;
+
+import com.todoapp.shared_todo.domain.task.dto.TaskSearchResponse;
+import com.todoapp.shared_todo.domain.task.service.TaskSearchService;
+import com.todoapp.shared_todo.global.security.CustomePrincipal;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Task API", description = "보드 내부의 할 일(Task) 관리 API")
+@RestController
+@RequestMapping("/boards")
+@RequiredArgsConstructor
+@SuppressWarnings("unused") // Spring이 런타임에 자동으로 등록하고 사용하는 Controller
+public class TaskSearchController {
+
+    private final TaskSearchService taskSearchService;
+
+    /**
+     * 내가 속한 모든 보드의 Task 검색
+     * GET /boards/search?q=
+     */
+    @Operation(summary = "Task 전문 검색", description = "내가 속한 모든 보드의 할 일 내용을 검색합니다. 관련도 순으로 정렬됩니다.")
+    @GetMapping("/search")
+    public ResponseEntity<TaskSearchResponse> searchTasks(
+            @Parameter(description = "검색어 (2자 이상)", example = "회의") @RequestParam("q") String query,
+            @Parameter(description = "페이지 번호 (0부터)", example = "0") @RequestParam(required = false) Integer page,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 50)", example = "20") @RequestParam(required = false) Integer size,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomePrincipal userDetails) {
+
+        TaskSearchResponse response = taskSearchService.searchTasks(userDetails.getUserId(), query, page, size);
+        return ResponseEntity.ok(response);
+    }
+}
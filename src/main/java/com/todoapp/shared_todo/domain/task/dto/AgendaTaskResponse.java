@@ -0,0 +1,22 @@
+package com.todoapp.shared_todo.domain.task.dto;
+
+import com.todoapp.shared_todo.domain.task.entity.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아젠다(마감 임박 Task) 항목
+ * 여러 보드의 Task가 섞여 나오므로 보드 정보를 함께 담습니다.
+ * description 은 미리보기이며, descriptionLength 가 그보다 길면 단건 조회로 전체 설명을 받습니다.
+ */
+public record AgendaTaskResponse(
+        Long id,
+        Long boardId,
+        String boardTitle,
+        String description,
+        TaskStatus status,
+        LocalDateTime dueDate,
+        Long version,
+        int descriptionLength
+) {
+}
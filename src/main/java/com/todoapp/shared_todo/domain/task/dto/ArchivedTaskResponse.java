@@ -0,0 +1,21 @@
+package com.todoapp.shared_todo.domain.task.dto;
+
+import com.todoapp.shared_todo.domain.task.entity.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 Task 항목
+ *
+ * @param completedAt 마지막으로 수정된 시각 (완료 후 바뀌지 않은 채 보관되므로 완료 시각으로 볼 수 있음)
+ * @param archivedAt  보관 테이블로 옮긴 시각
+ */
+public record ArchivedTaskResponse(
+        Long id,
+        String description,
+        TaskStatus status,
+        LocalDateTime dueDate,
+        LocalDateTime completedAt,
+        LocalDateTime archivedAt
+) {
+}
@@ -0,0 +1,14 @@
+package com.todoapp.shared_todo.domain.task.dto;
+
+import java.util.List;
+
+/**
+ * 내게 할당된 Task 커서 기반 페이지 응답 (마감일 오름차순, 마감일 없는 Task는 맨 뒤)
+ * nextCursor를 다음 요청의 cursor로 그대로 넘기면 이어서 조회됩니다. (마지막 페이지면 null)
+ */
+public record AssignedTaskPageResponse(
+        List<AssignedTaskResponse> tasks,
+        String nextCursor,
+        boolean hasNext
+) {
+}
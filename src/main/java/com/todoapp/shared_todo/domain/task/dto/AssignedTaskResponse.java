@@ -0,0 +1,26 @@
+package com.todoapp.shared_todo.domain.task.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.todoapp.shared_todo.domain.task.entity.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내게 할당된 Task 항목
+ * 여러 보드의 Task가 섞여 나오므로 보드 정보를 함께 담습니다.
+ * description 은 미리보기이며, descriptionLength 가 그보다 길면 단건 조회로 전체 설명을 받습니다.
+ *
+ * @param assignmentId 할당 ID (다음 페이지 커서용)
+ */
+public record AssignedTaskResponse(
+        Long id,
+        Long boardId,
+        String boardTitle,
+        String description,
+        TaskStatus status,
+        LocalDateTime dueDate,
+        Long version,
+        int descriptionLength,
+        @JsonIgnore Long assignmentId
+) {
+}
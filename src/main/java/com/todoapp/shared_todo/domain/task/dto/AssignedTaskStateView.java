@@ -0,0 +1,13 @@
+package com.todoapp.shared_todo.domain.task.dto;
+
+import com.todoapp.shared_todo.domain.task.entity.TaskStatus;
+
+/**
+ * 할당된 Task의 ID와 상태 프로젝션 (할당 행에 복제된 상태를 읽으므로 task 테이블을 조인하지 않음)
+ */
+public interface AssignedTaskStateView {
+
+    Long getTaskId();
+
+    TaskStatus getStatus();
+}
@@ -0,0 +1,11 @@
+package com.todoapp.shared_todo.domain.task.dto;
+
+/**
+ * 보관 대상 Task 프로젝션 (id, board_id만 조회)
+ */
+public interface TaskArchiveCandidateView {
+
+    Long getId();
+
+    Long getBoardId();
+}
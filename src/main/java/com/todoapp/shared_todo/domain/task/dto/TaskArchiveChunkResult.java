@@ -0,0 +1,13 @@
+package com.todoapp.shared_todo.domain.task.dto;
+
+/**
+ * 보관 청크 한 번의 처리 결과
+ *
+ * @param candidateCount 잠가서 읽은 보관 대상 수 (0이면 남은 대상 없음)
+ * @param archivedCount  실제로 옮긴 수 (보드가 잠겨 건너뛴 Task는 빠짐)
+ */
+public record TaskArchiveChunkResult(
+        int candidateCount,
+        int archivedCount
+) {
+}
@@ -0,0 +1,16 @@
+package com.todoapp.shared_todo.domain.task.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Task 담당자 지정 요청 (목록 전체를 교체, 빈 목록이면 담당자 해제)
+ */
+public record TaskAssigneeRequest(
+        @NotNull(message = "담당자 목록은 필수입니다.")
+        @Size(max = 20, message = "담당자는 최대 20명까지 지정할 수 있습니다.")
+        List<@NotNull(message = "사용자 ID는 필수입니다.") Long> userIds
+) {
+}
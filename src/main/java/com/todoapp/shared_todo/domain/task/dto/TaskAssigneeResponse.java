@@ -0,0 +1,7 @@
+package com.todoapp.shared_todo.domain.task.dto;
+
+public record TaskAssigneeResponse(
+        Long userId,
+        String nickname
+) {
+}
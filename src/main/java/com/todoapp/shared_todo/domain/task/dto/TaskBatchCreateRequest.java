@@ -0,0 +1,26 @@
+package com.todoapp.shared_todo.domain.task.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskBatchCreateRequest {
+
+    // 항목마다 최대 길이를 허용하면 요청 하나가 5천만 자가 될 수 있으므로 설명 길이 합계를 따로 제한
+    public static final int MAX_TOTAL_DESCRIPTION_LENGTH = 1_000_000;
+
+    @Valid
+    @NotEmpty(message = "생성할 Task 목록은 비어 있을 수 없습니다.")
+    @Size(max = 500, message = "Task는 한 번에 최대 500개까지 생성할 수 있습니다.")
+    private List<TaskCreateRequest> tasks;
+}
@@ -0,0 +1,28 @@
+package com.todoapp.shared_todo.domain.task.dto;
+
+import com.todoapp.shared_todo.domain.task.entity.TaskStatus;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record TaskBulkStatusRequest(
+        @Valid
+        @NotEmpty(message = "변경할 Task 목록은 비어 있을 수 없습니다.")
+        @Size(max = 1000, message = "Task 상태는 한 번에 최대 1000개까지 변경할 수 있습니다.")
+        List<Item> items
+) {
+
+    /**
+     * 변경 대상 Task 한 건
+     * expectedVersion이 현재 버전과 다르면 해당 항목만 CONFLICT로 응답합니다.
+     */
+    public record Item(
+            @NotNull Long taskId,
+            @NotNull Long expectedVersion,
+            @NotNull TaskStatus targetStatus
+    ) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.todoapp.shared_todo.domain.task.dto;
+
+import com.todoapp.shared_todo.domain.task.entity.TaskStatus;
+
+import java.util.List;
+
+public record TaskBulkStatusResponse(
+        int updatedCount,
+        int conflictCount,
+        List<Result> results
+) {
+
+    /**
+     * 항목별 처리 결과
+     * - UPDATED: version, status는 변경 후 값
+     * - CONFLICT: version, status는 현재 DB 값 (클라이언트 재동기화용)
+     * - NOT_FOUND: 보드에 없는 Task
+     */
+    public record Result(
+            Long taskId,
+            Outcome outcome,
+            Long version,
+            TaskStatus status
+    ) {
+    }
+
+    public enum Outcome {
+        UPDATED,
+        CONFLICT,
+        NOT_FOUND
+    }
+}
@@ -1,5 +1,6 @@
 package com.todoapp.shared_todo.domain.task.dto;
 
+import com.todoapp.shared_todo.domain.task.entity.Task;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
@@ -16,9 +17,17 @@ import java.time.LocalDateTime;
 public class TaskCreateRequest {
 
     @NotBlank(message = "Task 내용은 필수입니다.")
-    @Size(min = 1, max = 100, message = "Task 내용은 1~100자 사이여야 합니다.")
+    // 미리보기(Task.DESCRIPTION_PREVIEW_LENGTH)보다 긴 내용은 압축해 따로 저장
+    @Size(min = 1, max = Task.MAX_DESCRIPTION_LENGTH, message = "Task 내용은 1~100000자 사이여야 합니다.")
     private String description;
 
     private LocalDateTime dueDate;
+
+    // 반복 규칙 (예: FREQ=WEEKLY;BYDAY=MO,WE), 마감일이 첫 발생 시각이 됨
+    @Size(max = 255, message = "반복 규칙은 255자 이하여야 합니다.")
+    private String recurrenceRule;
+
+    // 상위 Task ID (지정하면 그 Task의 하위 Task로 생성, 하위 Task는 반복 규칙을 가질 수 없고, 반복 Task 아래에는 만들 수 없음)
+    private Long parentId;
 }
 
@@ -0,0 +1,18 @@
+package com.todoapp.shared_todo.domain.task.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+/**
+ * Task 내보내기 형식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TaskExportFormat {
+    NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+}
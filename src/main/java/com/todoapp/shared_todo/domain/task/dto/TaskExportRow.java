@@ -0,0 +1,15 @@
+package com.todoapp.shared_todo.domain.task.dto;
+
+import com.todoapp.shared_todo.domain.task.entity.Task;
+
+/**
+ * 내보내기 스트리밍 행 (Task와 잘린 설명의 압축된 전체 내용)
+ * 스트리밍 중에는 같은 연결로 다른 쿼리를 보낼 수 없으므로 전체 내용을 같은 쿼리에서 함께 읽습니다.
+ *
+ * @param descriptionContent 잘리지 않은 설명이면 null
+ */
+public record TaskExportRow(
+        Task task,
+        byte[] descriptionContent
+) {
+}
@@ -0,0 +1,15 @@
+package com.todoapp.shared_todo.domain.task.dto;
+
+/**
+ * 하위 Task 계층 확인용 프로젝션 (경로, 하위 Task 수, 반복 규칙만 조회)
+ */
+public interface TaskHierarchyView {
+
+    Long getId();
+
+    String getPath();
+
+    Integer getSubtaskTotal();
+
+    String getRecurrenceRule();
+}
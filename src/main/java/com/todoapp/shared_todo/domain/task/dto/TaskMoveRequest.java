@@ -0,0 +1,11 @@
+package com.todoapp.shared_todo.domain.task.dto;
+
+/**
+ * Task 순서 이동 요청
+ *
+ * @param prevTaskId 이동 후 바로 앞에 올 Task ID (맨 앞으로 옮길 때는 null)
+ */
+public record TaskMoveRequest(
+        Long prevTaskId
+) {
+}
@@ -0,0 +1,33 @@
+package com.todoapp.shared_todo.domain.task.dto;
+
+import com.todoapp.shared_todo.domain.task.entity.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기간 조회의 Task 발생 항목
+ * 반복 Task는 현재 발생만 행으로 저장되고, 이후 발생은 규칙으로 계산해 projected=true 로 내려갑니다.
+ * projected 항목의 상태/수정은 해당 발생이 현재 발생이 된 뒤(TaskRecurrenceRoller가 넘긴 뒤) taskId로 처리합니다.
+ *
+ * @param dueDate   이 발생의 마감 시각
+ * @param projected 저장된 행이 아닌 계산된 이후 발생 여부
+ */
+public record TaskOccurrenceResponse(
+        Long taskId,
+        String description,
+        TaskStatus status,
+        LocalDateTime dueDate,
+        Long version,
+        String recurrenceRule,
+        boolean projected
+) {
+    public static TaskOccurrenceResponse stored(TaskResponse task) {
+        return new TaskOccurrenceResponse(task.id(), task.description(), task.status(), task.dueDate(),
+                task.version(), task.recurrenceRule(), false);
+    }
+
+    public static TaskOccurrenceResponse projected(TaskResponse series, LocalDateTime dueDate) {
+        return new TaskOccurrenceResponse(series.id(), series.description(), TaskStatus.UNCHECKED, dueDate,
+                series.version(), series.recurrenceRule(), true);
+    }
+}
@@ -0,0 +1,14 @@
+package com.todoapp.shared_todo.domain.task.dto;
+
+import java.util.List;
+
+/**
+ * 기간 내 Task 발생 목록 (마감 시각, taskId 오름차순)
+ *
+ * @param truncated 최대 개수를 넘어 뒤쪽이 잘렸는지 여부 (잘렸으면 더 짧은 구간으로 다시 조회)
+ */
+public record TaskOccurrencesResponse(
+        List<TaskOccurrenceResponse> occurrences,
+        boolean truncated
+) {
+}
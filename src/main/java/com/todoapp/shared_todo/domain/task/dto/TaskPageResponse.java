@@ -0,0 +1,15 @@
+package com.todoapp.shared_todo.domain.task.dto;
+
+import java.util.List;
+
+/**
+ * Task 커서 기반 페이지 응답
+ * 사용자 지정 순서(position)대로 정렬되며,
+ * nextCursor를 다음 요청의 cursor로 그대로 넘기면 이어서 조회됩니다. (마지막 페이지면 null)
+ */
+public record TaskPageResponse(
+        List<TaskResponse> tasks,
+        String nextCursor,
+        boolean hasNext
+) {
+}
@@ -0,0 +1,19 @@
+package com.todoapp.shared_todo.domain.task.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 다음 발생으로 넘길 반복 Task 프로젝션
+ */
+public interface TaskRecurrenceView {
+
+    Long getId();
+
+    Long getBoardId();
+
+    String getStatus();
+
+    String getRecurrenceRule();
+
+    LocalDateTime getRecurrenceNextAt();
+}
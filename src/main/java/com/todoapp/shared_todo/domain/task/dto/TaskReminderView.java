@@ -0,0 +1,15 @@
+package com.todoapp.shared_todo.domain.task.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마감 알림 대상 프로젝션 (id, boardId, dueDate만 조회)
+ */
+public interface TaskReminderView {
+
+    Long getId();
+
+    Long getBoardId();
+
+    LocalDateTime getDueDate();
+}
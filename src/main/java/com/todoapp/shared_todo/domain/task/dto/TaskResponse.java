@@ -5,20 +5,43 @@ import com.todoapp.shared_todo.domain.task.entity.TaskStatus;
 
 import java.time.LocalDateTime;
 
+/**
+ * Task 응답
+ * 목록 응답의 description 은 미리보기이며, descriptionLength 가 그보다 길면 단건 조회로 전체 설명을 받습니다.
+ */
 public record TaskResponse(
     Long id,
     String description,
     TaskStatus status,
     LocalDateTime dueDate,
-    Long version
+    Long version,
+    String position,
+    String recurrenceRule,
+    Long parentId,
+    int subtaskTotal,
+    int subtaskChecked,
+    int descriptionLength
 ) {
     public static TaskResponse from(Task task) {
+        return from(task, task.getDescription());
+    }
+
+    /**
+     * 전체 설명을 담은 응답 (단건 조회/생성/수정 응답)
+     */
+    public static TaskResponse from(Task task, String description) {
         return new TaskResponse(
                 task.getId(),
-                task.getDescription(),
+                description,
                 task.getStatus(),
                 task.getDueDate(),
-                task.getVersion()
+                task.getVersion(),
+                task.getPosition(),
+                task.getRecurrenceRule(),
+                task.getParentId(),
+                task.getSubtaskTotal(),
+                task.getSubtaskChecked(),
+                task.getDescriptionLength()
         );
     }
 }
\ No newline at end of file
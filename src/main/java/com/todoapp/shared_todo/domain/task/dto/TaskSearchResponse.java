@@ -0,0 +1,15 @@
+package com.todoapp.shared_todo.domain.task.dto;
+
+import java.util.List;
+
+/**
+ * Task 검색 페이지 응답 (관련도 순)
+ * 다음 페이지는 page + 1 로 요청합니다.
+ */
+public record TaskSearchResponse(
+        List<TaskSearchResult> results,
+        int page,
+        int size,
+        boolean hasNext
+) {
+}
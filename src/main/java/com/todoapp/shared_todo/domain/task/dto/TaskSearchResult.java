@@ -0,0 +1,34 @@
+package com.todoapp.shared_todo.domain.task.dto;
+
+import com.todoapp.shared_todo.domain.task.entity.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Task 검색 결과 항목
+ *
+ * @param score 검색 관련도 점수 (높을수록 먼저 노출)
+ */
+public record TaskSearchResult(
+        Long id,
+        Long boardId,
+        String boardTitle,
+        String description,
+        TaskStatus status,
+        LocalDateTime dueDate,
+        Long version,
+        double score
+) {
+    public static TaskSearchResult from(TaskSearchView view) {
+        return new TaskSearchResult(
+                view.getId(),
+                view.getBoardId(),
+                view.getBoardTitle(),
+                view.getDescription(),
+                TaskStatus.valueOf(view.getStatus()),
+                view.getDueDate(),
+                view.getVersion(),
+                view.getScore() == null ? 0 : view.getScore()
+        );
+    }
+}
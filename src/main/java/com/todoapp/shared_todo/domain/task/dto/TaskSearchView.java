@@ -0,0 +1,25 @@
+package com.todoapp.shared_todo.domain.task.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Task 전문 검색 결과 프로젝션 (네이티브 쿼리용)
+ */
+public interface TaskSearchView {
+
+    Long getId();
+
+    Long getBoardId();
+
+    String getBoardTitle();
+
+    String getDescription();
+
+    String getStatus();
+
+    LocalDateTime getDueDate();
+
+    Long getVersion();
+
+    Double getScore();
+}
@@ -0,0 +1,19 @@
+package com.todoapp.shared_todo.domain.task.dto;
+
+/**
+ * Task 상태 조회용 프로젝션 (id, version, status, 상위 Task 정보만 조회)
+ * 엔티티를 영속성 컨텍스트에 올리지 않고 상태 비교에만 사용합니다.
+ */
+public interface TaskStateView {
+
+    Long getId();
+
+    Long getVersion();
+
+    String getStatus();
+
+    Long getParentId();
+
+    // 조상 카운터 갱신용 경로
+    String getPath();
+}
@@ -0,0 +1,16 @@
+package com.todoapp.shared_todo.domain.task.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Task 트리 노드 (Task 내용 + 하위 Task, 하위 Task는 position, id 순)
+ */
+public record TaskTreeNode(
+        TaskResponse task,
+        List<TaskTreeNode> children
+) {
+    public static TaskTreeNode of(TaskResponse task) {
+        return new TaskTreeNode(task, new ArrayList<>());
+    }
+}
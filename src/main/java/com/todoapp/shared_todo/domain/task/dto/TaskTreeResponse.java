@@ -0,0 +1,16 @@
+package com.todoapp.shared_todo.domain.task.dto;
+
+import java.util.List;
+
+/**
+ * 보드(또는 Task 하나)의 Task 트리
+ *
+ * @param roots     최상위 노드 (rootId를 지정했으면 그 Task 하나)
+ * @param truncated 최대 개수를 넘어 일부 Task가 빠졌는지 여부
+ */
+public record TaskTreeResponse(
+        List<TaskTreeNode> roots,
+        int taskCount,
+        boolean truncated
+) {
+}
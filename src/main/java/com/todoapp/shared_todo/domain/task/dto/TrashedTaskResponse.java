@@ -0,0 +1,28 @@
+package com.todoapp.shared_todo.domain.task.dto;
+
+import com.todoapp.shared_todo.domain.task.entity.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 휴지통 Task 항목
+ *
+ * @param deletedAt 휴지통으로 옮긴 시각 (보관 기간이 지나면 영구 삭제)
+ */
+public record TrashedTaskResponse(
+        Long id,
+        String description,
+        TaskStatus status,
+        LocalDateTime dueDate,
+        LocalDateTime deletedAt
+) {
+    public static TrashedTaskResponse from(TrashedTaskView view) {
+        return new TrashedTaskResponse(
+                view.getId(),
+                view.getDescription(),
+                TaskStatus.valueOf(view.getStatus()),
+                view.getDueDate(),
+                view.getDeletedAt()
+        );
+    }
+}
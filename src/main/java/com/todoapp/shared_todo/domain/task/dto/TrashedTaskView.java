@@ -0,0 +1,19 @@
+package com.todoapp.shared_todo.domain.task.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 휴지통 Task 프로젝션 (네이티브 쿼리용, @SQLRestriction 을 거치지 않음)
+ */
+public interface TrashedTaskView {
+
+    Long getId();
+
+    String getDescription();
+
+    String getStatus();
+
+    LocalDateTime getDueDate();
+
+    LocalDateTime getDeletedAt();
+}
@@ -2,35 +2,94 @@ package com.todoapp.shared_todo.domain.task.entity;
 
 import com.todoapp.shared_todo.domain.board.entity.Board;
 import com.todoapp.shared_todo.global.common.BaseTimeEntity;
+import com.todoapp.shared_todo.global.util.RecurrenceRule;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.SQLRestriction;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 
 @Getter
 @Setter
 @Entity
-@Table(name = "task")
+@Table(name = "task", indexes = {
+        @Index(name = "idx_task_board_id_id", columnList = "board_id, id"),
+        @Index(name = "idx_task_board_position", columnList = "board_id, position"),
+        @Index(name = "idx_task_board_status_due", columnList = "board_id, status, due_date"),
+        @Index(name = "idx_task_due_date_reminded", columnList = "due_date, reminded_at"),
+        @Index(name = "idx_task_board_deleted_at", columnList = "board_id, deleted_at"),
+        @Index(name = "idx_task_deleted_at", columnList = "deleted_at"),
+        @Index(name = "idx_task_status_updated_at", columnList = "status, updated_at"),
+        @Index(name = "idx_task_recurrence_next_at", columnList = "recurrence_next_at"),
+        @Index(name = "idx_task_board_recurrence_next_at", columnList = "board_id, recurrence_next_at"),
+        @Index(name = "idx_task_parent_id", columnList = "parent_id"),
+        @Index(name = "idx_task_board_path", columnList = "board_id, path")
+})
+// 휴지통(삭제 표시)에 있는 Task는 엔티티/JPQL 조회에서 제외 (네이티브 쿼리는 직접 조건을 넣어야 함)
+@SQLRestriction("deleted_at IS NULL")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Task extends BaseTimeEntity {
 
+    // ID 생성기가 한 번에 할당받는 ID 수 (보드 복제 시 ID 구간 예약에도 사용)
+    public static final int ID_ALLOCATION_SIZE = 100;
+
+    // 하위 Task 최대 깊이 (최상위 Task = 1)
+    public static final int MAX_DEPTH = 10;
+
+    // 최상위 Task의 경로
+    public static final String ROOT_PATH = "/";
+
+    // 설명 최대 길이 (문자 수)
+    public static final int MAX_DESCRIPTION_LENGTH = 100_000;
+
+    // task 행에 남기는 설명 미리보기 길이 (목록 응답은 이 미리보기만 사용)
+    // 이보다 긴 설명은 압축해 task_description 에 전체를 따로 저장합니다.
+    public static final int DESCRIPTION_PREVIEW_LENGTH = 200;
+
     // 정적 팩토리 메서드
     public static Task create(String description, Board board, LocalDateTime dueDate) {
         Task task = new Task();
-        task.setDescription(description);
+        task.applyDescription(description);
         task.setBoard(board);
         task.setStatus(TaskStatus.UNCHECKED);
         task.setDueDate(dueDate);
+        task.setPath(ROOT_PATH);
         return task;
     }
 
+    // IDENTITY 전략은 INSERT 직후 PK를 받아야 해서 JDBC 배치가 꺼짐
+    // → 테이블 기반 pooled 생성기로 ID를 미리 100개씩 할당받아 INSERT를 배치로 묶음
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "task_id_generator")
+    @TableGenerator(
+            name = "task_id_generator",
+            table = "id_generator",
+            pkColumnName = "sequence_name",
+            valueColumnName = "next_val",
+            pkColumnValue = "task",
+            allocationSize = ID_ALLOCATION_SIZE
+    )
     private Long id;
 
-    @Column(columnDefinition = "TEXT", nullable = false)
+    // 설명 미리보기 (전체 설명이 DESCRIPTION_PREVIEW_LENGTH 이하면 전체 설명)
+    @Setter(AccessLevel.NONE)
+    @Column(length = DESCRIPTION_PREVIEW_LENGTH, nullable = false)
     private String description;
 
+    // 전체 설명 길이 (문자 수, 미리보기보다 길면 전체 설명은 TaskDescription 에 있음)
+    @Setter(AccessLevel.NONE)
+    @Column(name = "description_length", nullable = false)
+    private int descriptionLength;
+
+    // 잘린 설명의 전체 내용 SHA-256 앞 8바이트 (미리보기가 같아도 뒷부분이 바뀌면 행이 바뀌어 버전이 올라가도록)
+    // CRC32는 같은 길이의 다른 내용끼리 쉽게 겹치므로, 값이 같으면 내용도 같다고 볼 수 있는 해시를 씀
+    @Setter(AccessLevel.NONE)
+    @Column(name = "description_checksum")
+    private Long descriptionChecksum;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -39,6 +98,44 @@ public class Task extends BaseTimeEntity {
     @Column(name = "due_date")
     private LocalDateTime dueDate;
 
+    // 보드 안에서의 사용자 지정 순서 (분수 인덱스 키, 사전순 = 표시 순서)
+    // 대소문자를 구분해 비교해야 하므로 바이너리 콜레이션 사용
+    @Column(nullable = false, columnDefinition = "VARCHAR(255) CHARACTER SET ascii COLLATE ascii_bin")
+    private String position;
+
+    // 휴지통으로 옮긴 시각 (null이면 사용 중, 보관 기간이 지나면 TaskTrashPurger가 영구 삭제)
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    // 반복 규칙 (RRULE 일부, null이면 반복하지 않음)
+    // 반복 Task는 행 하나로 유지하고 dueDate가 "현재 발생"을 가리킵니다. 이후 발생은 조회 시 계산합니다.
+    @Column(name = "recurrence_rule", length = RecurrenceRule.MAX_LENGTH)
+    private String recurrenceRule;
+
+    // 다음 발생 시각 (이 시각이 다가오면 TaskRecurrenceRoller가 dueDate를 넘김, 반복이 끝났으면 null)
+    @Column(name = "recurrence_next_at")
+    private LocalDateTime recurrenceNextAt;
+
+    // 상위 Task ID (null이면 최상위, 휴지통 복원 시 상위 Task가 없을 수 있어 FK는 두지 않음)
+    @Column(name = "parent_id")
+    private Long parentId;
+
+    // 조상 Task ID 경로 (materialized path, 예: 최상위 "/", A의 하위 "/A/", 그 하위 "/A/B/")
+    // 조상 카운터 갱신과 하위 트리 조회를 재귀 없이 처리하기 위해 사용 (상위 Task는 바뀌지 않음)
+    @Column(nullable = false, columnDefinition = "VARCHAR(255) CHARACTER SET ascii COLLATE ascii_bin")
+    private String path;
+
+    // 모든 깊이의 하위 Task 수 / 그중 완료된 수 (하위 Task가 바뀔 때 조상 행만 증감)
+    @Column(name = "subtask_total", nullable = false)
+    private int subtaskTotal;
+
+    @Column(name = "subtask_checked", nullable = false)
+    private int subtaskChecked;
+
+    // 마감 알림 발송 시각 (발송 전이면 null, 마감일이 바뀌면 다시 null)
+    @Column(name = "reminded_at")
+    private LocalDateTime remindedAt;
+
     // 소속 보드
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "board_id", nullable = false)
@@ -48,6 +145,70 @@ public class Task extends BaseTimeEntity {
     @Column(nullable = false)
     private Long version;
     
+    // 설명 설정 (행에는 미리보기와 길이만 남기고, 잘린 경우 전체 설명은 TaskDescriptionService 가 저장)
+    public void applyDescription(String description) {
+        this.descriptionLength = description.length();
+        if (description.length() <= DESCRIPTION_PREVIEW_LENGTH) {
+            this.description = description;
+            this.descriptionChecksum = null;
+            return;
+        }
+        // 서로게이트 쌍 중간에서 자르지 않음
+        int end = DESCRIPTION_PREVIEW_LENGTH;
+        if (Character.isHighSurrogate(description.charAt(end - 1))) {
+            end--;
+        }
+        this.description = description.substring(0, end);
+        this.descriptionChecksum = checksumOf(description);
+    }
+
+    private static long checksumOf(String description) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(description.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM이 SHA-256을 제공해야 하므로 발생하지 않음
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 설명이 미리보기로 잘려 있는지
+    public boolean isDescriptionTruncated() {
+        return descriptionLength > DESCRIPTION_PREVIEW_LENGTH;
+    }
+
+    // 반복 규칙 설정 (현재 마감일을 첫 발생으로 사용, 비어 있으면 반복 해제)
+    public void applyRecurrence(String rule) {
+        if (rule == null || rule.isBlank()) {
+            this.recurrenceRule = null;
+            this.recurrenceNextAt = null;
+            return;
+        }
+        if (this.parentId != null) {
+            throw new IllegalArgumentException("하위 Task에는 반복 규칙을 설정할 수 없습니다.");
+        }
+        // 다음 발생으로 넘길 때 하위 Task는 그대로 남아 진행률이 어긋나므로 하위 Task가 있으면 반복할 수 없음
+        if (this.subtaskTotal > 0) {
+            throw new IllegalArgumentException("하위 Task가 있는 Task에는 반복 규칙을 설정할 수 없습니다.");
+        }
+        if (this.dueDate == null) {
+            throw new IllegalArgumentException("반복 Task는 마감일이 필요합니다.");
+        }
+        RecurrenceRule parsed = RecurrenceRule.parse(rule).normalize(this.dueDate);
+        this.recurrenceRule = parsed.toString();
+        this.recurrenceNextAt = parsed.next(this.dueDate);
+    }
+
+    // 최상위 Task의 깊이를 1로 센 이 Task의 깊이
+    public int getDepth() {
+        return depthOf(this.path);
+    }
+
+    public static int depthOf(String path) {
+        // "/A/B/" → 조상 2개 → 깊이 3
+        return (int) path.chars().filter(c -> c == '/').count();
+    }
+
     // 완료 상태 토글 메서드
     public void toggleStatus() {
         if (this.status == TaskStatus.UNCHECKED) {
@@ -0,0 +1,59 @@
+package com.todoapp.shared_todo.domain.task.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관된(콜드) Task
+ * 오래전에 완료된 Task를 TaskArchiver가 task 테이블에서 옮겨 둔 행입니다.
+ * 보관 후에는 바뀌지 않으므로 읽기 전용으로 매핑하고, 행은 INSERT ... SELECT 로만 만들어집니다.
+ * 보드 FK를 두지 않는 대신 보드 삭제 시 BoardService가 함께 지웁니다.
+ */
+@Getter
+@Entity
+@Immutable
+@Table(name = "task_archive", indexes = {
+        @Index(name = "idx_task_archive_board_id_id", columnList = "board_id, id")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TaskArchive {
+
+    // 원래 Task의 ID를 그대로 사용
+    @Id
+    private Long id;
+
+    @Column(name = "board_id", nullable = false)
+    private Long boardId;
+
+    // 전체 설명 (잘린 설명도 보관할 때 풀어서 저장, 최대 길이가 TEXT 를 넘을 수 있어 MEDIUMTEXT)
+    @Column(columnDefinition = "MEDIUMTEXT", nullable = false)
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TaskStatus status;
+
+    @Column(name = "due_date")
+    private LocalDateTime dueDate;
+
+    @Column(nullable = false, columnDefinition = "VARCHAR(255) CHARACTER SET ascii COLLATE ascii_bin")
+    private String position;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // 보관 테이블로 옮긴 시각
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,78 @@
+package com.todoapp.shared_todo.domain.task.entity;
+
+import com.todoapp.shared_todo.domain.user.entity.User;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * Task 담당자
+ * "내게 할당된 Task" 목록을 사용자 기준 인덱스 한 범위로 읽을 수 있도록
+ * Task의 상태와 마감일을 복제해 둡니다. (Task가 바뀌면 TaskAssigneeRepository#syncFromTasks 로 맞춤)
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "task_assignee",
+        uniqueConstraints = @UniqueConstraint(name = "uk_task_assignee_task_user", columnNames = {"task_id", "user_id"}),
+        indexes = {
+                @Index(name = "idx_task_assignee_inbox", columnList = "user_id, status, due_date"),
+                @Index(name = "idx_task_assignee_board_user", columnList = "board_id, user_id")
+        }
+)
+public class TaskAssignee {
+
+    // 마감일이 없는 Task의 정렬용 마감일 (목록 맨 뒤로 보냄, 응답에는 Task의 실제 마감일을 사용)
+    public static final LocalDateTime NO_DUE_DATE = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    public static TaskAssignee create(Task task, User user) {
+        TaskAssignee assignee = new TaskAssignee();
+        assignee.task = task;
+        assignee.user = user;
+        assignee.boardId = task.getBoard().getId();
+        assignee.status = task.getStatus();
+        assignee.dueDate = task.getDueDate() == null ? NO_DUE_DATE : task.getDueDate();
+        return assignee;
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Task가 영구 삭제/보관되면 DB가 함께 지움 (청크 삭제 쿼리를 따로 두지 않기 위함)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "task_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Task task;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    // 멤버가 보드를 나가면 그 보드의 할당을 지우기 위한 보드 ID
+    @Column(name = "board_id", nullable = false)
+    private Long boardId;
+
+    // Task 상태 복제본
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TaskStatus status;
+
+    // Task 마감일 복제본 (없으면 NO_DUE_DATE)
+    @Column(name = "due_date", nullable = false)
+    private LocalDateTime dueDate;
+
+    @Column(name = "assigned_at", nullable = false, updatable = false)
+    private LocalDateTime assignedAt;
+
+    @PrePersist
+    void onCreate() {
+        this.assignedAt = LocalDateTime.now();
+    }
+}
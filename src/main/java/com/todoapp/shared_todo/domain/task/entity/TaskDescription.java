@@ -0,0 +1,53 @@
+package com.todoapp.shared_todo.domain.task.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * 미리보기보다 긴 Task 설명의 전체 내용 (압축)
+ * task 행에는 미리보기만 남겨 목록 조회와 버퍼 풀이 긴 설명을 읽지 않도록 하고,
+ * 전체 내용은 단건 조회처럼 명시적으로 필요할 때만 PK로 읽어 풉니다.
+ * 검색용으로는 압축하지 않은 전체 내용(search_text)을 함께 두고 FULLTEXT(ngram) 인덱스를 겁니다. (import.sql 참고)
+ */
+@Getter
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "task_description")
+public class TaskDescription {
+
+    public static TaskDescription create(Task task, byte[] content, String searchText) {
+        TaskDescription description = new TaskDescription();
+        description.task = task;
+        description.content = content;
+        description.searchText = searchText;
+        return description;
+    }
+
+    @Id
+    @Column(name = "task_id")
+    private Long taskId;
+
+    // Task가 영구 삭제/보관되면 DB가 함께 지움
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "task_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Task task;
+
+    // TextCompressor 형식 (MySQL COMPRESS() 와 같아 DB에서 UNCOMPRESS() 로도 풀 수 있음)
+    @Column(nullable = false, columnDefinition = "MEDIUMBLOB")
+    private byte[] content;
+
+    // 전문 검색용 전체 내용 (task.description 에는 미리보기만 있어 뒷부분이 검색되지 않으므로)
+    @Column(name = "search_text", nullable = false, columnDefinition = "MEDIUMTEXT")
+    private String searchText;
+
+    public void changeContent(byte[] content, String searchText) {
+        this.content = content;
+        this.searchText = searchText;
+    }
+}
@@ -0,0 +1,55 @@
+package com.todoapp.shared_todo.domain.task.repository;
+
+import com.todoapp.shared_todo.domain.task.dto.ArchivedTaskResponse;
+import com.todoapp.shared_todo.domain.task.entity.Task;
+import com.todoapp.shared_todo.domain.task.entity.TaskArchive;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TaskArchiveRepository extends JpaRepository<TaskArchive, Long> {
+
+    /**
+     * 보드의 보관된 Task 조회 (id 내림차순 키셋, DTO 프로젝션, 설명은 미리보기 길이로 자름)
+     * - (board_id, id) 인덱스만 거꾸로 읽으므로 보관 행이 많아도 일정한 비용
+     */
+    @Query("SELECT new com.todoapp.shared_todo.domain.task.dto.ArchivedTaskResponse(" +
+            "a.id, SUBSTRING(a.description, 1, " + Task.DESCRIPTION_PREVIEW_LENGTH + "), " +
+            "a.status, a.dueDate, a.updatedAt, a.archivedAt) " +
+            "FROM TaskArchive a WHERE a.boardId = :boardId AND a.id < :cursor ORDER BY a.id DESC")
+    List<ArchivedTaskResponse> findPageByBoardId(@Param("boardId") Long boardId,
+                                                 @Param("cursor") Long cursor,
+                                                 Limit limit);
+
+    /**
+     * task 행을 보관 테이블로 복사 (INSERT ... SELECT, 애플리케이션으로 행을 가져오지 않음)
+     * 잘린 설명은 DB 안에서 UNCOMPRESS() 로 풀어 전체 내용을 보관합니다. (task 행이 지워지면 task_description 도 함께 지워짐)
+     * 호출하는 쪽에서 대상 행을 먼저 잠근 뒤 같은 트랜잭션 안에서 task 행을 삭제해야 합니다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO task_archive " +
+            "(id, board_id, description, status, due_date, position, version, created_at, updated_at, archived_at) " +
+            "SELECT t.id, t.board_id, COALESCE(CONVERT(UNCOMPRESS(d.content) USING utf8mb4), t.description), " +
+            "t.status, t.due_date, t.position, t.version, " +
+            "t.created_at, t.updated_at, :now FROM task t LEFT JOIN task_description d ON d.task_id = t.id " +
+            "WHERE t.id IN (:ids)",
+            nativeQuery = true)
+    int copyFromTask(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * 보드의 보관된 Task를 최대 limit건 삭제 (보드 삭제용, 트랜잭션 밖에서 호출하면 호출마다 커밋)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM task_archive WHERE board_id = :boardId LIMIT :limit", nativeQuery = true)
+    int deleteChunkByBoardId(@Param("boardId") Long boardId, @Param("limit") int limit);
+}
@@ -0,0 +1,96 @@
+package com.todoapp.shared_todo.domain.task.repository;
+
+import com.todoapp.shared_todo.domain.task.dto.AssignedTaskResponse;
+import com.todoapp.shared_todo.domain.task.dto.AssignedTaskStateView;
+import com.todoapp.shared_todo.domain.task.dto.TaskAssigneeResponse;
+import com.todoapp.shared_todo.domain.task.entity.TaskAssignee;
+import com.todoapp.shared_todo.domain.task.entity.TaskStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TaskAssigneeRepository extends JpaRepository<TaskAssignee, Long> {
+
+    /**
+     * Task의 담당자 목록 (지정한 순서대로)
+     */
+    @Query("SELECT new com.todoapp.shared_todo.domain.task.dto.TaskAssigneeResponse(u.id, u.nickname) " +
+            "FROM TaskAssignee a JOIN a.user u WHERE a.task.id = :taskId ORDER BY a.id ASC")
+    List<TaskAssigneeResponse> findResponsesByTaskId(@Param("taskId") Long taskId);
+
+    /**
+     * Task의 담당자 ID
+     */
+    @Query("SELECT a.user.id FROM TaskAssignee a WHERE a.task.id = :taskId")
+    List<Long> findUserIdsByTaskId(@Param("taskId") Long taskId);
+
+    /**
+     * Task에서 지정한 담당자 해제
+     */
+    @Modifying
+    @Query("DELETE FROM TaskAssignee a WHERE a.task.id = :taskId AND a.user.id IN :userIds")
+    int deleteByTaskIdAndUserIdIn(@Param("taskId") Long taskId, @Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 보드에서 멤버가 맡고 있는 Task와 상태 (멤버 삭제 전 변경 기록용, 휴지통의 Task 제외)
+     */
+    @Query("SELECT t.id AS taskId, a.status AS status FROM TaskAssignee a JOIN a.task t " +
+            "WHERE a.boardId = :boardId AND a.user.id = :userId AND t.deletedAt IS NULL ORDER BY t.id ASC")
+    List<AssignedTaskStateView> findTaskStatesByBoardIdAndUserId(@Param("boardId") Long boardId,
+                                                                 @Param("userId") Long userId);
+
+    /**
+     * 보드를 나간 멤버의 할당 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM TaskAssignee a WHERE a.boardId = :boardId AND a.user.id = :userId")
+    int deleteByBoardIdAndUserId(@Param("boardId") Long boardId, @Param("userId") Long userId);
+
+    /**
+     * Task의 현재 상태/마감일을 할당 행에 복제 (Task 상태나 마감일을 바꾼 뒤 같은 트랜잭션에서 호출)
+     * - (task_id, user_id) 유니크 인덱스로 해당 Task의 할당 행만 갱신합니다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE task_assignee a JOIN task t ON t.id = a.task_id " +
+            "SET a.status = t.status, a.due_date = COALESCE(t.due_date, :noDueDate) " +
+            "WHERE a.task_id IN (:taskIds)",
+            nativeQuery = true)
+    int syncFromTasks(@Param("taskIds") Collection<Long> taskIds, @Param("noDueDate") LocalDateTime noDueDate);
+
+    /**
+     * 내게 할당된 Task 첫 페이지 (마감일, 할당 id 오름차순)
+     * - (user_id, status, due_date) 인덱스 한 범위만 읽고 Task/보드는 PK로 조인하므로
+     *   사용자가 속한 보드 수와 무관하게 페이지 크기만큼만 읽습니다.
+     */
+    @Query("SELECT new com.todoapp.shared_todo.domain.task.dto.AssignedTaskResponse(" +
+            "t.id, b.id, b.title, t.description, t.status, t.dueDate, t.version, t.descriptionLength, a.id) " +
+            "FROM TaskAssignee a JOIN a.task t JOIN t.board b " +
+            "WHERE a.user.id = :userId AND a.status = :status AND t.deletedAt IS NULL " +
+            "ORDER BY a.dueDate ASC, a.id ASC")
+    List<AssignedTaskResponse> findInboxPage(@Param("userId") Long userId,
+                                             @Param("status") TaskStatus status,
+                                             Limit limit);
+
+    /**
+     * 커서((정렬용 마감일, 할당 id)) 이후 페이지 조회
+     */
+    @Query("SELECT new com.todoapp.shared_todo.domain.task.dto.AssignedTaskResponse(" +
+            "t.id, b.id, b.title, t.description, t.status, t.dueDate, t.version, t.descriptionLength, a.id) " +
+            "FROM TaskAssignee a JOIN a.task t JOIN t.board b " +
+            "WHERE a.user.id = :userId AND a.status = :status AND t.deletedAt IS NULL " +
+            "AND (a.dueDate > :cursorDueDate OR (a.dueDate = :cursorDueDate AND a.id > :cursorId)) " +
+            "ORDER BY a.dueDate ASC, a.id ASC")
+    List<AssignedTaskResponse> findInboxPageAfter(@Param("userId") Long userId,
+                                                  @Param("status") TaskStatus status,
+                                                  @Param("cursorDueDate") LocalDateTime cursorDueDate,
+                                                  @Param("cursorId") Long cursorId,
+                                                  Limit limit);
+}
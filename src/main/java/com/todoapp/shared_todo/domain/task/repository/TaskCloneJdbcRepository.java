@@ -0,0 +1,107 @@
+package com.todoapp.shared_todo.domain.task.repository;
+
+import com.todoapp.shared_todo.domain.task.entity.Task;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 보드 간 Task 복사 (INSERT ... SELECT)
+ * Task 행을 애플리케이션으로 읽지 않고 DB 안에서 바로 복사합니다.
+ * Task ID는 테이블 기반 생성기(id_generator)를 쓰므로, 복사할 수만큼 ID 구간을 먼저 예약한 뒤
+ * ROW_NUMBER() 로 구간 안의 ID를 차례로 붙입니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskCloneJdbcRepository {
+
+    private static final String SEQUENCE_NAME = "task";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Task ID 구간 예약 (별도 트랜잭션으로 바로 커밋해 생성기 행 잠금을 짧게 유지)
+     * 다른 노드의 Hibernate가 이미 받아 간 블록이나 앞으로 받을 블록과 겹치지 않도록
+     * 앞뒤로 할당 크기만큼 여유를 둡니다. (복사가 롤백되면 예약한 ID는 비어 있는 채로 남음)
+     *
+     * @return 예약한 구간의 첫 ID (first ~ first + count - 1 사용 가능)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long reserveIds(int count) {
+        // 아직 Task가 한 번도 생성되지 않아 생성기 행이 없을 수 있음
+        jdbcTemplate.update("INSERT IGNORE INTO id_generator (sequence_name, next_val) VALUES (?, 1)", SEQUENCE_NAME);
+        Long current = jdbcTemplate.queryForObject(
+                "SELECT next_val FROM id_generator WHERE sequence_name = ? FOR UPDATE", Long.class, SEQUENCE_NAME);
+        jdbcTemplate.update("UPDATE id_generator SET next_val = ? WHERE sequence_name = ?",
+                current + count + 2L * Task.ID_ALLOCATION_SIZE, SEQUENCE_NAME);
+        return current + Task.ID_ALLOCATION_SIZE + 1;
+    }
+
+    /**
+     * 원본 보드의 Task(휴지통 제외)를 대상 보드로 복사
+     * - 순서(position)와 내용(미리보기), 마감일, 반복 규칙을 그대로 복사하고 버전/알림/삭제 정보는 새로 시작합니다.
+     * - 상위 Task ID는 같은 CTE를 한 번 더 조인해 새 ID로 바꿉니다. (경로는 {@link #rebuildPaths(Long)} 에서 다시 계산)
+     * - 예약한 구간을 넘지 않도록 최대 limit건만 복사합니다.
+     *
+     * @return 복사한 행 수
+     */
+    public int copyTasks(Long sourceBoardId, Long targetBoardId, long firstId, int limit,
+                         boolean resetStatus, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        return jdbcTemplate.update(
+                "INSERT INTO task (id, board_id, description, description_length, description_checksum, " +
+                        "status, due_date, position, " +
+                        "recurrence_rule, recurrence_next_at, parent_id, path, subtask_total, subtask_checked, " +
+                        "version, created_at, updated_at) " +
+                        "WITH src AS (SELECT t.id, t.description, t.description_length, t.description_checksum, " +
+                        "t.status, t.due_date, t.position, " +
+                        "t.recurrence_rule, t.recurrence_next_at, t.parent_id, t.subtask_total, t.subtask_checked, " +
+                        "ROW_NUMBER() OVER (ORDER BY t.position, t.id) AS rn FROM task t " +
+                        "WHERE t.board_id = ? AND t.deleted_at IS NULL ORDER BY t.position, t.id LIMIT ?) " +
+                        "SELECT ? + s.rn - 1, ?, s.description, s.description_length, s.description_checksum, " +
+                        "CASE WHEN ? THEN 'UNCHECKED' ELSE s.status END, s.due_date, s.position, " +
+                        "s.recurrence_rule, s.recurrence_next_at, ? + p.rn - 1, '/', s.subtask_total, " +
+                        "CASE WHEN ? THEN 0 ELSE s.subtask_checked END, 0, ?, ? " +
+                        "FROM src s LEFT JOIN src p ON p.id = s.parent_id",
+                sourceBoardId, limit, firstId, targetBoardId, resetStatus, firstId, resetStatus, timestamp, timestamp);
+    }
+
+    /**
+     * {@link #copyTasks} 로 복사한 Task의 잘린 설명 전체 내용을 복사 (압축된 내용과 검색용 내용 그대로)
+     * copyTasks 와 같은 순서/건수로 번호를 매겨 새 ID를 맞춥니다.
+     * 같은 트랜잭션에서 copyTasks 의 INSERT ... SELECT 가 원본 행에 잠금을 걸어 두므로 그사이 순서가 바뀌지 않습니다.
+     *
+     * @return 복사한 행 수
+     */
+    public int copyDescriptions(Long sourceBoardId, long firstId, int limit) {
+        return jdbcTemplate.update(
+                "INSERT INTO task_description (task_id, content, search_text) " +
+                        "WITH src AS (SELECT t.id, ROW_NUMBER() OVER (ORDER BY t.position, t.id) AS rn FROM task t " +
+                        "WHERE t.board_id = ? AND t.deleted_at IS NULL ORDER BY t.position, t.id LIMIT ?) " +
+                        "SELECT ? + s.rn - 1, d.content, d.search_text FROM src s JOIN task_description d ON d.task_id = s.id",
+                sourceBoardId, limit, firstId);
+    }
+
+    /**
+     * 보드의 Task 경로를 상위 Task ID로부터 다시 계산 (재귀 CTE, 깊이만큼만 반복)
+     *
+     * @return 경로가 바뀐 행 수
+     */
+    public int rebuildPaths(Long boardId) {
+        return jdbcTemplate.update(
+                "UPDATE task t JOIN (" +
+                        "WITH RECURSIVE tree (id, path) AS (" +
+                        "SELECT r.id, CAST('/' AS CHAR(255)) FROM task r WHERE r.board_id = ? AND r.parent_id IS NULL " +
+                        "UNION ALL " +
+                        "SELECT c.id, CONCAT(tree.path, tree.id, '/') FROM task c JOIN tree ON c.parent_id = tree.id " +
+                        "WHERE c.board_id = ?) " +
+                        "SELECT id, path FROM tree) p ON p.id = t.id " +
+                        "SET t.path = p.path WHERE t.board_id = ? AND t.parent_id IS NOT NULL",
+                boardId, boardId, boardId);
+    }
+}
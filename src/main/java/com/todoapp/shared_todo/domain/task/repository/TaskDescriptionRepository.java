@@ -0,0 +1,19 @@
+package com.todoapp.shared_todo.domain.task.repository;
+
+import com.todoapp.shared_todo.domain.task.entity.TaskDescription;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface TaskDescriptionRepository extends JpaRepository<TaskDescription, Long> {
+
+    /**
+     * 압축된 전체 설명만 조회 (엔티티를 영속성 컨텍스트에 올리지 않음)
+     */
+    @Query("SELECT d.content FROM TaskDescription d WHERE d.taskId = :taskId")
+    Optional<byte[]> findContentByTaskId(@Param("taskId") Long taskId);
+}
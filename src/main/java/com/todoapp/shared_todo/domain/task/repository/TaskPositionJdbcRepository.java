@@ -0,0 +1,36 @@
+package com.todoapp.shared_todo.domain.task.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Task 정렬 키 일괄 변경 (JDBC 배치)
+ * 행마다 값이 다른 UPDATE 라 JPQL 한 문장으로 만들 수 없어 JDBC 배치로 보냅니다.
+ * (rewriteBatchedStatements 로 드라이버가 여러 문장을 묶어 전송)
+ */
+@Repository
+@RequiredArgsConstructor
+public class TaskPositionJdbcRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * taskIds[i] 의 정렬 키를 positions[i] 로 변경
+     */
+    public void updatePositions(List<Long> taskIds, List<String> positions) {
+        List<Object[]> rows = new ArrayList<>(taskIds.size());
+        for (int i = 0; i < taskIds.size(); i++) {
+            rows.add(new Object[]{positions.get(i), taskIds.get(i)});
+        }
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbcTemplate.batchUpdate("UPDATE task SET position = ? WHERE id = ?",
+                    rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+    }
+}
@@ -1,12 +1,34 @@
 package com.todoapp.shared_todo.domain.task.repository;
 
 import com.todoapp.shared_todo.domain.board.entity.Board;
+import com.todoapp.shared_todo.domain.task.dto.AgendaTaskResponse;
+import com.todoapp.shared_todo.domain.task.dto.TaskArchiveCandidateView;
+import com.todoapp.shared_todo.domain.task.dto.TaskExportRow;
+import com.todoapp.shared_todo.domain.task.dto.TaskHierarchyView;
+import com.todoapp.shared_todo.domain.task.dto.TaskRecurrenceView;
+import com.todoapp.shared_todo.domain.task.dto.TaskReminderView;
+import com.todoapp.shared_todo.domain.task.dto.TaskResponse;
+import com.todoapp.shared_todo.domain.task.dto.TaskSearchView;
+import com.todoapp.shared_todo.domain.task.dto.TaskStateView;
+import com.todoapp.shared_todo.domain.task.dto.TrashedTaskView;
 import com.todoapp.shared_todo.domain.task.entity.Task;
+import com.todoapp.shared_todo.domain.task.entity.TaskStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
@@ -17,6 +39,422 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     // 보드 ID로 task 리스트 조회
     List<Task> findByBoardId(Long boardId);
 
+    // 보드의 task 수 (휴지통 제외)
+    long countByBoardId(Long boardId);
+
+    /**
+     * 보드의 첫 페이지 조회 (사용자 지정 순서: position, id 오름차순, DTO 프로젝션)
+     * - (board_id, position) 복합 인덱스 범위 스캔 (InnoDB 보조 인덱스에는 id가 포함되어 정렬까지 인덱스로 처리)
+     * - 엔티티가 아닌 DTO로 바로 받아 영속성 컨텍스트/스냅샷을 만들지 않음
+     */
+    @Query("SELECT new com.todoapp.shared_todo.domain.task.dto.TaskResponse(" +
+            "t.id, t.description, t.status, t.dueDate, t.version, t.position, t.recurrenceRule, " +
+            "t.parentId, t.subtaskTotal, t.subtaskChecked, t.descriptionLength) " +
+            "FROM Task t WHERE t.board.id = :boardId ORDER BY t.position ASC, t.id ASC")
+    List<TaskResponse> findPageByBoardId(@Param("boardId") Long boardId, Limit limit);
+
+    /**
+     * 커서(마지막으로 받은 task의 position, id) 이후 페이지 조회 (DTO 프로젝션)
+     * - OFFSET 없이 키셋으로 이어 읽기 때문에 보드 크기와 무관하게 일정한 비용
+     */
+    @Query("SELECT new com.todoapp.shared_todo.domain.task.dto.TaskResponse(" +
+            "t.id, t.description, t.status, t.dueDate, t.version, t.position, t.recurrenceRule, " +
+            "t.parentId, t.subtaskTotal, t.subtaskChecked, t.descriptionLength) " +
+            "FROM Task t WHERE t.board.id = :boardId " +
+            "AND (t.position > :cursorPosition OR (t.position = :cursorPosition AND t.id > :cursorId)) " +
+            "ORDER BY t.position ASC, t.id ASC")
+    List<TaskResponse> findPageByBoardIdAfter(@Param("boardId") Long boardId,
+                                              @Param("cursorPosition") String cursorPosition,
+                                              @Param("cursorId") Long cursorId,
+                                              Limit limit);
+
+    /**
+     * 보드의 task 중 지정한 ID만 조회 (DTO 프로젝션, 델타 동기화용)
+     */
+    @Query("SELECT new com.todoapp.shared_todo.domain.task.dto.TaskResponse(" +
+            "t.id, t.description, t.status, t.dueDate, t.version, t.position, t.recurrenceRule, " +
+            "t.parentId, t.subtaskTotal, t.subtaskChecked, t.descriptionLength) " +
+            "FROM Task t WHERE t.board.id = :boardId AND t.id IN :ids ORDER BY t.id ASC")
+    List<TaskResponse> findResponsesByBoardIdAndIdIn(@Param("boardId") Long boardId,
+                                                     @Param("ids") Collection<Long> ids);
+
+    /**
+     * 보드의 전체 task를 커서로 스트리밍 조회 (내보내기용, 잘린 설명의 압축된 전체 내용 포함)
+     * - MySQL Connector/J는 fetchSize가 Integer.MIN_VALUE일 때만 결과를 한 행씩 스트리밍합니다.
+     * - 반드시 트랜잭션 안에서 사용하고, 다 읽은 뒤 Stream을 닫아야 합니다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.todoapp.shared_todo.domain.task.dto.TaskExportRow(t, d.content) " +
+            "FROM Task t LEFT JOIN TaskDescription d ON d.taskId = t.id " +
+            "WHERE t.board.id = :boardId ORDER BY t.id")
+    Stream<TaskExportRow> streamExportRowsByBoardId(@Param("boardId") Long boardId);
+
     // task ID와 보드로 조회 (권한 확인용)
     Optional<Task> findByIdAndBoard(Long id, Board board);
+
+    /**
+     * 일괄 상태 변경 대상 행을 잠그고 현재 상태 조회 (SELECT ... FOR UPDATE)
+     * - 잠근 뒤에는 트랜잭션이 끝날 때까지 다른 트랜잭션이 버전을 바꿀 수 없으므로
+     *   여기서 확인한 버전이 UPDATE 시점까지 그대로 유지됩니다.
+     */
+    @Query(value = "SELECT t.id AS id, t.version AS version, t.status AS status, " +
+            "t.parent_id AS parentId, t.path AS path " +
+            "FROM task t WHERE t.board_id = :boardId AND t.id IN (:ids) AND t.deleted_at IS NULL FOR UPDATE",
+            nativeQuery = true)
+    List<TaskStateView> lockStatesByBoardIdAndIdIn(@Param("boardId") Long boardId,
+                                                   @Param("ids") Collection<Long> ids);
+
+    /**
+     * 여러 task의 상태를 한 문장으로 변경하고 버전을 1 올림
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :status, t.version = t.version + 1, t.updatedAt = :now " +
+            "WHERE t.board.id = :boardId AND t.id IN :ids")
+    int updateStatusByIds(@Param("boardId") Long boardId,
+                          @Param("ids") Collection<Long> ids,
+                          @Param("status") TaskStatus status,
+                          @Param("now") LocalDateTime now);
+
+    /**
+     * Task 상태 토글 (버전 비교 후 변경을 한 문장으로 처리)
+     * - 보드 소유자 멤버십과 요청 버전이 모두 맞을 때만 1행이 변경됩니다.
+     * - 0을 반환하면 Task가 없거나, 권한이 없거나, 버전이 충돌한 경우입니다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE task t " +
+            "JOIN board_member bm ON bm.board_id = t.board_id AND bm.user_id = :userId AND bm.role = 'OWNER' " +
+            "SET t.status = CASE WHEN t.status = 'CHECKED' THEN 'UNCHECKED' ELSE 'CHECKED' END, " +
+            "t.version = t.version + 1, t.updated_at = :now " +
+            "WHERE t.id = :taskId AND t.board_id = :boardId AND t.version = :version AND t.deleted_at IS NULL",
+            nativeQuery = true)
+    int toggleStatusIfVersionMatches(@Param("boardId") Long boardId,
+                                     @Param("taskId") Long taskId,
+                                     @Param("userId") Long userId,
+                                     @Param("version") Long version,
+                                     @Param("now") LocalDateTime now);
+
+    /**
+     * 보드의 task 단건 조회 (DTO 프로젝션)
+     */
+    @Query("SELECT new com.todoapp.shared_todo.domain.task.dto.TaskResponse(" +
+            "t.id, t.description, t.status, t.dueDate, t.version, t.position, t.recurrenceRule, " +
+            "t.parentId, t.subtaskTotal, t.subtaskChecked, t.descriptionLength) " +
+            "FROM Task t WHERE t.board.id = :boardId AND t.id = :taskId")
+    Optional<TaskResponse> findResponseByBoardIdAndId(@Param("boardId") Long boardId,
+                                                      @Param("taskId") Long taskId);
+
+    /**
+     * 사용자가 속한 모든 보드의 task 전문 검색 (관련도 내림차순)
+     * - 설명이 미리보기에 다 들어가는 Task는 task.description, 잘린 Task는 task_description.search_text 의
+     *   FULLTEXT(ngram) 인덱스로 찾습니다. (import.sql 참고, 두 검색을 UNION ALL 로 합침)
+     * - board_member 조인으로 접근 가능한 보드만 남기므로 보드 수만큼 쿼리를 나누지 않습니다.
+     */
+    @Query(value = "SELECT t.id AS id, t.board_id AS boardId, b.title AS boardTitle, " +
+            "t.description AS description, t.status AS status, t.due_date AS dueDate, t.version AS version, " +
+            "m.score AS score " +
+            "FROM (" +
+            "SELECT p.id AS task_id, MATCH(p.description) AGAINST (:query IN NATURAL LANGUAGE MODE) AS score " +
+            "FROM task p WHERE MATCH(p.description) AGAINST (:query IN NATURAL LANGUAGE MODE) " +
+            "AND p.description_length <= " + Task.DESCRIPTION_PREVIEW_LENGTH + " " +
+            "UNION ALL " +
+            "SELECT d.task_id AS task_id, MATCH(d.search_text) AGAINST (:query IN NATURAL LANGUAGE MODE) AS score " +
+            "FROM task_description d WHERE MATCH(d.search_text) AGAINST (:query IN NATURAL LANGUAGE MODE)" +
+            ") m " +
+            "JOIN task t ON t.id = m.task_id " +
+            "JOIN board_member bm ON bm.board_id = t.board_id AND bm.user_id = :userId " +
+            "JOIN board b ON b.id = t.board_id " +
+            "WHERE t.deleted_at IS NULL " +
+            "ORDER BY score DESC, t.id DESC " +
+            "LIMIT :limit OFFSET :offset",
+            nativeQuery = true)
+    List<TaskSearchView> searchByMemberUserId(@Param("userId") Long userId,
+                                              @Param("query") String query,
+                                              @Param("limit") int limit,
+                                              @Param("offset") int offset);
+
+    /**
+     * 사용자가 속한 모든 보드의 마감 예정 Task 첫 페이지 (마감일, id 오름차순)
+     * - board_member → task 조인 한 번으로 조회하며, 보드별 범위는
+     *   (board_id, status, due_date) 인덱스로 읽습니다.
+     */
+    @Query("SELECT new com.todoapp.shared_todo.domain.task.dto.AgendaTaskResponse(" +
+            "t.id, b.id, b.title, t.description, t.status, t.dueDate, t.version, t.descriptionLength) " +
+            "FROM BoardMember bm JOIN bm.board b JOIN Task t ON t.board = b " +
+            "WHERE bm.user.id = :userId AND t.status = :status " +
+            "AND t.dueDate >= :from AND t.dueDate < :until " +
+            "ORDER BY t.dueDate ASC, t.id ASC")
+    List<AgendaTaskResponse> findAgendaPage(@Param("userId") Long userId,
+                                            @Param("status") TaskStatus status,
+                                            @Param("from") LocalDateTime from,
+                                            @Param("until") LocalDateTime until,
+                                            Limit limit);
+
+    /**
+     * 커서((마감일, id)) 이후 아젠다 페이지 조회
+     */
+    @Query("SELECT new com.todoapp.shared_todo.domain.task.dto.AgendaTaskResponse(" +
+            "t.id, b.id, b.title, t.description, t.status, t.dueDate, t.version, t.descriptionLength) " +
+            "FROM BoardMember bm JOIN bm.board b JOIN Task t ON t.board = b " +
+            "WHERE bm.user.id = :userId AND t.status = :status " +
+            "AND t.dueDate < :until " +
+            "AND (t.dueDate > :cursorDueDate OR (t.dueDate = :cursorDueDate AND t.id > :cursorId)) " +
+            "ORDER BY t.dueDate ASC, t.id ASC")
+    List<AgendaTaskResponse> findAgendaPageAfter(@Param("userId") Long userId,
+                                                 @Param("status") TaskStatus status,
+                                                 @Param("until") LocalDateTime until,
+                                                 @Param("cursorDueDate") LocalDateTime cursorDueDate,
+                                                 @Param("cursorId") Long cursorId,
+                                                 Limit limit);
+
+    /**
+     * 알림 대상 Task 조회 (마감일, id 키셋, 담당 샤드만)
+     * - (due_date, reminded_at) 인덱스로 다가오는 구간만 범위 스캔합니다.
+     * - 샤드는 board_id 기준으로 나눕니다. (MOD(board_id, shardCount))
+     */
+    @Query(value = "SELECT t.id AS id, t.board_id AS boardId, t.due_date AS dueDate FROM task t " +
+            "WHERE t.due_date < :until AND t.reminded_at IS NULL AND t.status = 'UNCHECKED' AND t.deleted_at IS NULL " +
+            "AND (t.due_date > :cursorDueDate OR (t.due_date = :cursorDueDate AND t.id > :cursorId)) " +
+            "AND MOD(t.board_id, :shardCount) IN (:shards) " +
+            "ORDER BY t.due_date ASC, t.id ASC LIMIT :limit",
+            nativeQuery = true)
+    List<TaskReminderView> findReminderCandidates(@Param("until") LocalDateTime until,
+                                                  @Param("cursorDueDate") LocalDateTime cursorDueDate,
+                                                  @Param("cursorId") Long cursorId,
+                                                  @Param("shardCount") int shardCount,
+                                                  @Param("shards") Collection<Integer> shards,
+                                                  @Param("limit") int limit);
+
+    /**
+     * 알림 발송 표시 (아직 발송 전이고 마감일/상태가 그대로일 때만 1행 변경)
+     * 여러 노드가 같은 Task를 잡더라도 1을 받은 쪽만 알림을 보냅니다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE task SET reminded_at = :now " +
+            "WHERE id = :taskId AND reminded_at IS NULL AND due_date = :dueDate AND status = 'UNCHECKED' " +
+            "AND deleted_at IS NULL",
+            nativeQuery = true)
+    int markReminded(@Param("taskId") Long taskId,
+                     @Param("dueDate") LocalDateTime dueDate,
+                     @Param("now") LocalDateTime now);
+
+    /**
+     * 보드의 마지막 정렬 키 ((board_id, position) 인덱스의 끝 한 건만 읽음)
+     */
+    @Query("SELECT MAX(t.position) FROM Task t WHERE t.board.id = :boardId")
+    Optional<String> findLastPositionByBoardId(@Param("boardId") Long boardId);
+
+    /**
+     * task의 정렬 키 조회
+     */
+    @Query("SELECT t.position FROM Task t WHERE t.board.id = :boardId AND t.id = :taskId")
+    Optional<String> findPositionByBoardIdAndId(@Param("boardId") Long boardId, @Param("taskId") Long taskId);
+
+    /**
+     * 보드 맨 앞의 정렬 키 (이동 중인 task 제외)
+     */
+    @Query("SELECT t.position FROM Task t WHERE t.board.id = :boardId AND t.id <> :excludeTaskId " +
+            "ORDER BY t.position ASC, t.id ASC")
+    List<String> findFirstPositions(@Param("boardId") Long boardId,
+                                    @Param("excludeTaskId") Long excludeTaskId,
+                                    Limit limit);
+
+    /**
+     * (position, id) 바로 다음 task의 정렬 키 (이동 중인 task 제외)
+     */
+    @Query("SELECT t.position FROM Task t WHERE t.board.id = :boardId AND t.id <> :excludeTaskId " +
+            "AND (t.position > :position OR (t.position = :position AND t.id > :id)) " +
+            "ORDER BY t.position ASC, t.id ASC")
+    List<String> findNextPositions(@Param("boardId") Long boardId,
+                                   @Param("position") String position,
+                                   @Param("id") Long id,
+                                   @Param("excludeTaskId") Long excludeTaskId,
+                                   Limit limit);
+
+    /**
+     * task 한 건의 정렬 키 변경 (순서 이동은 이 한 행만 바꿈)
+     * 내용 수정이 아니므로 version은 올리지 않아 다른 사용자의 편집과 충돌하지 않습니다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Task t SET t.position = :position, t.updatedAt = :now " +
+            "WHERE t.board.id = :boardId AND t.id = :taskId")
+    int updatePosition(@Param("boardId") Long boardId,
+                       @Param("taskId") Long taskId,
+                       @Param("position") String position,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * 보드의 task id를 현재 순서대로 조회 (재정렬용)
+     */
+    @Query("SELECT t.id FROM Task t WHERE t.board.id = :boardId ORDER BY t.position ASC, t.id ASC")
+    List<Long> findIdsByBoardIdOrderByPosition(@Param("boardId") Long boardId);
+
+    /**
+     * 보드 휴지통 조회 (id 내림차순 키셋)
+     * 엔티티의 @SQLRestriction 을 피하기 위해 네이티브 쿼리로 조회합니다.
+     */
+    @Query(value = "SELECT t.id AS id, t.description AS description, t.status AS status, " +
+            "t.due_date AS dueDate, t.deleted_at AS deletedAt FROM task t " +
+            "WHERE t.board_id = :boardId AND t.deleted_at IS NOT NULL AND t.id < :cursor " +
+            "ORDER BY t.id DESC LIMIT :limit",
+            nativeQuery = true)
+    List<TrashedTaskView> findTrashByBoardId(@Param("boardId") Long boardId,
+                                             @Param("cursor") Long cursor,
+                                             @Param("limit") int limit);
+
+    /**
+     * 휴지통에 있는 task의 현재 상태 조회 (복원 전 카운터 계산용)
+     */
+    @Query(value = "SELECT t.id AS id, t.version AS version, t.status AS status, " +
+            "t.parent_id AS parentId, t.path AS path " +
+            "FROM task t WHERE t.board_id = :boardId AND t.id = :taskId AND t.deleted_at IS NOT NULL",
+            nativeQuery = true)
+    Optional<TaskStateView> findTrashedState(@Param("boardId") Long boardId, @Param("taskId") Long taskId);
+
+    /**
+     * 휴지통에서 복원 (보드 맨 뒤 순서로 되돌림)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE task SET deleted_at = NULL, position = :position, version = version + 1, updated_at = :now " +
+            "WHERE id = :taskId AND board_id = :boardId AND deleted_at IS NOT NULL",
+            nativeQuery = true)
+    int restoreFromTrash(@Param("boardId") Long boardId,
+                         @Param("taskId") Long taskId,
+                         @Param("position") String position,
+                         @Param("now") LocalDateTime now);
+
+    /**
+     * 보관 기간이 지난 휴지통 task를 최대 limit건 영구 삭제
+     * - 한 번에 지우는 행 수를 제한해 잠금 범위와 undo 로그를 작게 유지합니다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM task WHERE deleted_at < :before LIMIT :limit", nativeQuery = true)
+    int purgeTrashOlderThan(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    /**
+     * 보드의 task를 최대 limit건 영구 삭제 (보드 삭제용)
+     * 트랜잭션 밖에서 호출하면 호출마다 커밋되어, 큰 보드를 지워도 한 트랜잭션이 많은 행을 잠그지 않습니다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM task WHERE board_id = :boardId LIMIT :limit", nativeQuery = true)
+    int deleteChunkByBoardId(@Param("boardId") Long boardId, @Param("limit") int limit);
+
+    /**
+     * 보관 대상(완료 후 오래 지난) Task를 최대 limit건 잠그고 조회
+     * - 하위 Task 계층에 속한 Task는 조상 카운터가 어긋나지 않도록 보관하지 않습니다.
+     * - (status, updated_at) 인덱스로 오래된 완료 Task 구간만 읽습니다.
+     * - SKIP LOCKED: 사용자가 지금 수정 중인 행은 건너뛰고 다음 실행 때 다시 봅니다.
+     */
+    @Query(value = "SELECT t.id AS id, t.board_id AS boardId FROM task t " +
+            "WHERE t.status = 'CHECKED' AND t.updated_at < :before AND t.deleted_at IS NULL " +
+            "AND t.recurrence_next_at IS NULL AND t.parent_id IS NULL AND t.subtask_total = 0 " +
+            "ORDER BY t.updated_at ASC, t.id ASC LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<TaskArchiveCandidateView> lockArchiveCandidates(@Param("before") LocalDateTime before,
+                                                         @Param("limit") int limit);
+
+    /**
+     * 보관 테이블로 복사한 task 행 삭제
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "DELETE FROM task WHERE id IN (:ids)", nativeQuery = true)
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 보드의 반복하지 않는 Task 중 마감일이 [from, until) 인 Task (마감일, id 오름차순)
+     * - status IN 조건으로 (board_id, status, due_date) 인덱스의 상태별 범위를 읽습니다.
+     */
+    @Query("SELECT new com.todoapp.shared_todo.domain.task.dto.TaskResponse(" +
+            "t.id, t.description, t.status, t.dueDate, t.version, t.position, t.recurrenceRule, " +
+            "t.parentId, t.subtaskTotal, t.subtaskChecked, t.descriptionLength) " +
+            "FROM Task t WHERE t.board.id = :boardId AND t.status IN :statuses " +
+            "AND t.dueDate >= :from AND t.dueDate < :until AND t.recurrenceNextAt IS NULL " +
+            "ORDER BY t.dueDate ASC, t.id ASC")
+    List<TaskResponse> findSingleTasksDueBetween(@Param("boardId") Long boardId,
+                                                 @Param("statuses") Collection<TaskStatus> statuses,
+                                                 @Param("from") LocalDateTime from,
+                                                 @Param("until") LocalDateTime until,
+                                                 Limit limit);
+
+    /**
+     * 보드의 진행 중인 반복 Task 중 현재 발생이 until 이전인 Task
+     * - (board_id, recurrence_next_at) 인덱스로 반복 Task만 읽습니다.
+     */
+    @Query("SELECT new com.todoapp.shared_todo.domain.task.dto.TaskResponse(" +
+            "t.id, t.description, t.status, t.dueDate, t.version, t.position, t.recurrenceRule, " +
+            "t.parentId, t.subtaskTotal, t.subtaskChecked, t.descriptionLength) " +
+            "FROM Task t WHERE t.board.id = :boardId AND t.recurrenceNextAt IS NOT NULL AND t.dueDate < :until " +
+            "ORDER BY t.id ASC")
+    List<TaskResponse> findRecurringTasksStartingBefore(@Param("boardId") Long boardId,
+                                                        @Param("until") LocalDateTime until);
+
+    /**
+     * 다음 발생 시각이 다가온 반복 Task를 최대 limit건 잠그고 조회
+     * - SKIP LOCKED: 사용자가 지금 수정 중인 행은 건너뛰고 다음 실행 때 다시 봅니다.
+     */
+    @Query(value = "SELECT t.id AS id, t.board_id AS boardId, t.status AS status, " +
+            "t.recurrence_rule AS recurrenceRule, t.recurrence_next_at AS recurrenceNextAt FROM task t " +
+            "WHERE t.recurrence_next_at <= :horizon AND t.deleted_at IS NULL " +
+            "ORDER BY t.recurrence_next_at ASC, t.id ASC LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<TaskRecurrenceView> lockRecurrenceDue(@Param("horizon") LocalDateTime horizon, @Param("limit") int limit);
+
+    /**
+     * 반복 Task를 다음 발생으로 넘김 (미완료로 되돌리고 새 마감일 기준으로 다시 알림)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE task SET due_date = :dueDate, recurrence_next_at = :nextAt, status = 'UNCHECKED', " +
+            "reminded_at = NULL, version = version + 1, updated_at = :now WHERE id = :taskId",
+            nativeQuery = true)
+    int rollRecurrence(@Param("taskId") Long taskId,
+                       @Param("dueDate") LocalDateTime dueDate,
+                       @Param("nextAt") LocalDateTime nextAt,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * 보드의 task 경로 잠금 조회 (하위 Task 추가/복원, 삭제 전 확인용 SELECT ... FOR UPDATE)
+     * 상위 Task 행을 잠가 하위 Task 추가와 상위 Task 삭제가 서로 엇갈리지 않게 합니다.
+     */
+    @Query(value = "SELECT t.id AS id, t.path AS path, t.subtask_total AS subtaskTotal, " +
+            "t.recurrence_rule AS recurrenceRule FROM task t " +
+            "WHERE t.board_id = :boardId AND t.id = :taskId AND t.deleted_at IS NULL FOR UPDATE",
+            nativeQuery = true)
+    Optional<TaskHierarchyView> lockHierarchyByBoardIdAndId(@Param("boardId") Long boardId,
+                                                            @Param("taskId") Long taskId);
+
+    /**
+     * task의 조상 경로 조회
+     */
+    @Query("SELECT t.path FROM Task t WHERE t.board.id = :boardId AND t.id = :taskId")
+    Optional<String> findPathByBoardIdAndId(@Param("boardId") Long boardId, @Param("taskId") Long taskId);
+
+    /**
+     * 조상 task들의 하위 Task 카운터 증감
+     * 내용 수정이 아니므로 version은 올리지 않아 다른 사용자의 편집과 충돌하지 않습니다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Task t SET t.subtaskTotal = t.subtaskTotal + :totalDelta, " +
+            "t.subtaskChecked = t.subtaskChecked + :checkedDelta WHERE t.id IN :ids")
+    int adjustSubtaskCounters(@Param("ids") Collection<Long> ids,
+                              @Param("totalDelta") int totalDelta,
+                              @Param("checkedDelta") int checkedDelta);
+
+    /**
+     * task 하나와 그 모든 자손 조회 (한 번의 쿼리, position, id 순)
+     * - 자손은 경로가 pathPrefix("{조상 경로}{rootId}/")로 시작하는 행이므로 (board_id, path) 인덱스 범위로 읽습니다.
+     */
+    @Query("SELECT new com.todoapp.shared_todo.domain.task.dto.TaskResponse(" +
+            "t.id, t.description, t.status, t.dueDate, t.version, t.position, t.recurrenceRule, " +
+            "t.parentId, t.subtaskTotal, t.subtaskChecked, t.descriptionLength) " +
+            "FROM Task t WHERE t.board.id = :boardId AND (t.id = :rootId OR t.path LIKE :pathPrefix) " +
+            "ORDER BY t.position ASC, t.id ASC")
+    List<TaskResponse> findSubtreeByBoardId(@Param("boardId") Long boardId,
+                                            @Param("rootId") Long rootId,
+                                            @Param("pathPrefix") String pathPrefix,
+                                            Limit limit);
 }
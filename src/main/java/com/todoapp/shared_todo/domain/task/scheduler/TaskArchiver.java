@@ -0,0 +1,51 @@
+package com.todoapp.shared_todo.domain.task.scheduler;
+
+import com.todoapp.shared_todo.domain.task.dto.TaskArchiveChunkResult;
+import com.todoapp.shared_todo.domain.task.service.TaskArchiveService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 완료 Task 보관 작업
+ * 완료 후 age-days 동안 바뀌지 않은 Task를 청크 단위로 task_archive 로 옮깁니다. (청크마다 커밋)
+ * 한 번 실행에서 옮기는 최대 청크 수를 제한해, 밀린 양이 많아도 며칠에 걸쳐 나눠 처리합니다.
+ * 사용자가 수정 중인 행을 건너뛰어 청크가 짧아질 수 있으므로, 대상 조회가 비었을 때만 멈춥니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskArchiver {
+
+    private final TaskArchiveService taskArchiveService;
+
+    @Value("${board.task-archive.age-days:90}")
+    private long ageDays;
+
+    @Value("${board.task-archive.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${board.task-archive.max-chunks-per-run:200}")
+    private int maxChunksPerRun;
+
+    @Scheduled(cron = "${board.task-archive.cron:0 0 4 * * *}")
+    public void archive() {
+        LocalDateTime before = LocalDateTime.now().minusDays(ageDays);
+
+        long archived = 0;
+        int chunks = 0;
+        TaskArchiveChunkResult result;
+        do {
+            result = taskArchiveService.archiveChunk(before, chunkSize);
+            archived += result.archivedCount();
+            chunks++;
+            // 대상은 있는데 모두 잠긴 보드 소속이면 다시 읽어도 같은 행이므로 다음 실행으로 넘김
+        } while (result.candidateCount() > 0 && result.archivedCount() > 0 && chunks < maxChunksPerRun);
+
+        log.info("[Task Archive] 완료 Task 보관 완료 - {}건, {}청크", archived, chunks);
+    }
+}
@@ -0,0 +1,31 @@
+package com.todoapp.shared_todo.domain.task.scheduler;
+
+import com.todoapp.shared_todo.domain.task.service.TaskPositionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Task 정렬 키 재정렬 작업
+ * 생성/이동 중 키가 설정 길이를 넘은 보드만 재정렬합니다. (전체 보드를 훑지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskPositionRebalancer {
+
+    private final TaskPositionService taskPositionService;
+
+    @Scheduled(fixedDelayString = "${board.task-position.rebalance-delay-ms:60000}")
+    public void rebalanceRequestedBoards() {
+        for (Long boardId : taskPositionService.drainRebalanceRequests()) {
+            try {
+                taskPositionService.rebalance(boardId);
+                log.info("[Task Position] 보드 정렬 키 재정렬 완료 - boardId: {}", boardId);
+            } catch (Exception e) {
+                log.warn("[Task Position] 보드 정렬 키 재정렬 실패 - boardId: {}", boardId, e);
+            }
+        }
+    }
+}
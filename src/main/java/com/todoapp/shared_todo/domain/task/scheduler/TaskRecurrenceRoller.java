@@ -0,0 +1,50 @@
+package com.todoapp.shared_todo.domain.task.scheduler;
+
+import com.todoapp.shared_todo.domain.task.service.TaskRecurrenceService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 반복 Task 다음 발생 넘기기 작업
+ * 다음 발생 시각이 lookahead 안으로 들어온 반복 Task의 마감일을 옮기고 미완료로 되돌립니다.
+ * (미리 넘겨 두어야 마감 알림 작업이 새 마감일을 제때 읽음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskRecurrenceRoller {
+
+    private final TaskRecurrenceService taskRecurrenceService;
+
+    @Value("${board.task-recurrence.lookahead-minutes:60}")
+    private long lookaheadMinutes;
+
+    @Value("${board.task-recurrence.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${board.task-recurrence.max-chunks-per-run:20}")
+    private int maxChunksPerRun;
+
+    @Scheduled(fixedDelayString = "${board.task-recurrence.roll-interval-ms:60000}")
+    public void roll() {
+        LocalDateTime horizon = LocalDateTime.now().plusMinutes(lookaheadMinutes);
+
+        long rolled = 0;
+        int chunks = 0;
+        int moved;
+        do {
+            moved = taskRecurrenceService.rollChunk(horizon, chunkSize);
+            rolled += moved;
+            chunks++;
+        } while (moved == chunkSize && chunks < maxChunksPerRun);
+
+        if (rolled > 0) {
+            log.info("[Task Recurrence] 반복 Task 다음 발생으로 이동 - {}건", rolled);
+        }
+    }
+}
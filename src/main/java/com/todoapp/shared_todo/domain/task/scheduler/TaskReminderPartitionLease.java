@@ -0,0 +1,127 @@
+package com.todoapp.shared_todo.domain.task.scheduler;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 마감 알림 샤드 임대(lease) 관리 (Redis)
+ * - 샤드마다 task-reminder:lease:{shard} 키를 SET NX PX 로 잡은 노드만 해당 샤드의 알림을 발송합니다.
+ * - 살아있는 노드 수는 task-reminder:nodes 정렬 집합의 하트비트로 세고,
+ *   노드마다 공평한 몫(shardCount / 노드 수 올림)까지만 잡아 한 노드에 몰리지 않게 합니다.
+ * - 임대가 넘어가는 순간 두 노드가 겹쳐도, 발송 여부는 DB의 reminded_at 조건부 UPDATE 로 한 번만 결정됩니다.
+ */
+@Slf4j
+@Component
+public class TaskReminderPartitionLease {
+
+    private static final String LEASE_KEY_PREFIX = "task-reminder:lease:";
+    private static final String NODES_KEY = "task-reminder:nodes";
+
+    // 내가 가진 임대일 때만 만료 시간 연장
+    private static final DefaultRedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+                    "return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end", Long.class);
+
+    // 내가 가진 임대일 때만 반납
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+                    "return redis.call('del', KEYS[1]) else return 0 end", Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Set<Integer> ownedShards = ConcurrentHashMap.newKeySet();
+
+    @Value("${board.task-reminder.shard-count:32}")
+    private int shardCount;
+
+    @Value("${board.task-reminder.lease-ttl-ms:90000}")
+    private long leaseTtlMs;
+
+    public TaskReminderPartitionLease(RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public int shardOf(Long boardId) {
+        return (int) Math.floorMod(boardId, (long) shardCount);
+    }
+
+    public boolean owns(int shard) {
+        return ownedShards.contains(shard);
+    }
+
+    /**
+     * 하트비트 기록 후 가진 임대는 연장하고, 공평한 몫까지 빈 샤드를 추가로 잡음
+     *
+     * @return 현재 이 노드가 담당하는 샤드 목록
+     */
+    public Set<Integer> refresh() {
+        int liveNodes = countLiveNodes();
+        int fairShare = (shardCount + liveNodes - 1) / liveNodes;
+
+        for (Integer shard : Set.copyOf(ownedShards)) {
+            Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(LEASE_KEY_PREFIX + shard),
+                    nodeId, String.valueOf(leaseTtlMs));
+            if (renewed == null || renewed == 0) {
+                ownedShards.remove(shard);
+            }
+        }
+
+        // 노드가 늘어 몫이 줄었으면 초과분을 반납해 다른 노드가 가져가게 함
+        for (Integer shard : Set.copyOf(ownedShards)) {
+            if (ownedShards.size() <= fairShare) {
+                break;
+            }
+            release(shard);
+        }
+
+        for (int shard = 0; shard < shardCount && ownedShards.size() < fairShare; shard++) {
+            if (ownedShards.contains(shard)) {
+                continue;
+            }
+            Boolean acquired = redisTemplate.opsForValue()
+                    .setIfAbsent(LEASE_KEY_PREFIX + shard, nodeId, Duration.ofMillis(leaseTtlMs));
+            if (Boolean.TRUE.equals(acquired)) {
+                ownedShards.add(shard);
+            }
+        }
+
+        return Set.copyOf(ownedShards);
+    }
+
+    @PreDestroy
+    public void releaseAll() {
+        try {
+            Set.copyOf(ownedShards).forEach(this::release);
+            redisTemplate.opsForZSet().remove(NODES_KEY, nodeId);
+        } catch (Exception e) {
+            log.warn("[Task Reminder] 샤드 임대 반납 실패 (만료 시간이 지나면 자동 해제)", e);
+        }
+    }
+
+    private void release(int shard) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(LEASE_KEY_PREFIX + shard), nodeId);
+        ownedShards.remove(shard);
+    }
+
+    private int countLiveNodes() {
+        long now = System.currentTimeMillis();
+        redisTemplate.opsForZSet().add(NODES_KEY, nodeId, now);
+        redisTemplate.opsForZSet().removeRangeByScore(NODES_KEY, 0, now - leaseTtlMs);
+        Long count = redisTemplate.opsForZSet().zCard(NODES_KEY);
+        return count == null || count < 1 ? 1 : count.intValue();
+    }
+}
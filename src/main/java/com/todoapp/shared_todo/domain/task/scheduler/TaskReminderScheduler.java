@@ -0,0 +1,143 @@
+package com.todoapp.shared_todo.domain.task.scheduler;
+
+import com.todoapp.shared_todo.domain.boardEvent.dto.BoardEvent;
+import com.todoapp.shared_todo.domain.boardEvent.service.BoardEventRelay;
+import com.todoapp.shared_todo.domain.task.dto.TaskReminderView;
+import com.todoapp.shared_todo.domain.task.repository.TaskRepository;
+import com.todoapp.shared_todo.global.util.HashedTimingWheel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Task 마감 알림 스케줄러
+ * - 다가오는 구간(window)의 알림만 메모리의 타이밍 휠에 올려 두고, 주기적으로 인덱스 쿼리로 채웁니다.
+ *   먼 미래의 알림은 DB에만 있으므로 알림 수와 무관하게 힙 사용량이 일정합니다.
+ * - 샤드 임대를 가진 노드만 해당 샤드의 알림을 채우고 발송합니다.
+ * - 발송 직전 reminded_at 조건부 UPDATE 가 1행을 바꾼 경우에만 알림을 보내 중복 발송을 막습니다.
+ */
+@Slf4j
+@Component
+public class TaskReminderScheduler {
+
+    private final TaskRepository taskRepository;
+    private final TaskReminderPartitionLease partitionLease;
+    private final BoardEventRelay boardEventRelay;
+    private final HashedTimingWheel<Reminder> timingWheel;
+    // 휠에 올라간 Task (taskId → 마감일), 같은 알림을 중복으로 올리지 않기 위함
+    private final Map<Long, LocalDateTime> scheduled = new ConcurrentHashMap<>();
+
+    @Value("${board.task-reminder.window-minutes:5}")
+    private long windowMinutes;
+
+    @Value("${board.task-reminder.lookback-minutes:60}")
+    private long lookbackMinutes;
+
+    @Value("${board.task-reminder.refill-chunk-size:1000}")
+    private int refillChunkSize;
+
+    @Value("${board.task-reminder.max-in-memory:100000}")
+    private int maxInMemory;
+
+    public TaskReminderScheduler(TaskRepository taskRepository,
+                                 TaskReminderPartitionLease partitionLease,
+                                 BoardEventRelay boardEventRelay,
+                                 @Value("${board.task-reminder.tick-ms:1000}") long tickMs,
+                                 @Value("${board.task-reminder.wheel-size:512}") int wheelSize) {
+        this.taskRepository = taskRepository;
+        this.partitionLease = partitionLease;
+        this.boardEventRelay = boardEventRelay;
+        this.timingWheel = new HashedTimingWheel<>(tickMs, wheelSize, System.currentTimeMillis());
+    }
+
+    /**
+     * 임대 갱신 후, 담당 샤드에서 다가오는 구간의 알림을 휠에 채움
+     * 놓친 알림(노드 재시작 등)은 lookback 구간 안이면 바로 발송됩니다.
+     */
+    @Scheduled(fixedDelayString = "${board.task-reminder.refill-ms:30000}")
+    public void refill() {
+        Set<Integer> shards = partitionLease.refresh();
+        if (shards.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plusMinutes(windowMinutes);
+        LocalDateTime cursorDueDate = now.minusMinutes(lookbackMinutes);
+        Long cursorId = 0L;
+
+        List<TaskReminderView> chunk;
+        do {
+            if (scheduled.size() >= maxInMemory) {
+                log.warn("[Task Reminder] 메모리에 올린 알림이 상한({})에 도달해 채우기를 중단합니다.", maxInMemory);
+                return;
+            }
+
+            chunk = taskRepository.findReminderCandidates(
+                    until, cursorDueDate, cursorId, partitionLease.getShardCount(), shards, refillChunkSize);
+            for (TaskReminderView candidate : chunk) {
+                LocalDateTime previous = scheduled.put(candidate.getId(), candidate.getDueDate());
+                if (!candidate.getDueDate().equals(previous)) {
+                    timingWheel.schedule(
+                            new Reminder(candidate.getId(), candidate.getBoardId(), candidate.getDueDate()),
+                            toEpochMillis(candidate.getDueDate()));
+                }
+            }
+
+            if (!chunk.isEmpty()) {
+                TaskReminderView last = chunk.get(chunk.size() - 1);
+                cursorDueDate = last.getDueDate();
+                cursorId = last.getId();
+            }
+        } while (chunk.size() == refillChunkSize);
+    }
+
+    /**
+     * 휠을 현재 시각까지 진행하고 만료된 알림 발송
+     */
+    @Scheduled(fixedDelayString = "${board.task-reminder.tick-ms:1000}")
+    public void tick() {
+        List<Reminder> expired = timingWheel.advance(System.currentTimeMillis());
+        if (expired.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int sent = 0;
+        for (Reminder reminder : expired) {
+            scheduled.remove(reminder.taskId(), reminder.dueDate());
+            // 임대를 잃은 샤드는 새 담당 노드가 발송
+            if (!partitionLease.owns(partitionLease.shardOf(reminder.boardId()))) {
+                continue;
+            }
+            try {
+                if (taskRepository.markReminded(reminder.taskId(), reminder.dueDate(), now) == 1) {
+                    boardEventRelay.publish(BoardEvent.taskDue(reminder.boardId(), reminder.taskId()));
+                    sent++;
+                }
+            } catch (Exception e) {
+                // 표시에 실패한 알림은 reminded_at 이 비어 있으므로 다음 채우기에서 다시 올라옴
+                log.warn("[Task Reminder] 알림 발송 처리 실패 - taskId: {}", reminder.taskId(), e);
+            }
+        }
+
+        if (sent > 0) {
+            log.debug("[Task Reminder] 마감 알림 {}건 발송", sent);
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private record Reminder(Long taskId, Long boardId, LocalDateTime dueDate) {
+    }
+}
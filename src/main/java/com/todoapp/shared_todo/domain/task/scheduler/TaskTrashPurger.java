@@ -0,0 +1,42 @@
+package com.todoapp.shared_todo.domain.task.scheduler;
+
+import com.todoapp.shared_todo.domain.task.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 휴지통 정리 작업
+ * 보관 기간이 지난 Task를 DELETE ... LIMIT 단위로 나눠 영구 삭제합니다. (청크마다 커밋)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskTrashPurger {
+
+    private final TaskRepository taskRepository;
+
+    @Value("${board.task-trash.retention-days:30}")
+    private long retentionDays;
+
+    @Value("${board.task-trash.purge-chunk-size:1000}")
+    private int chunkSize;
+
+    @Scheduled(cron = "${board.task-trash.purge-cron:0 30 5 * * *}")
+    public void purge() {
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+
+        long purged = 0;
+        int deleted;
+        do {
+            deleted = taskRepository.purgeTrashOlderThan(before, chunkSize);
+            purged += deleted;
+        } while (deleted == chunkSize);
+
+        log.info("[Task Trash] 보관 기간이 지난 Task 영구 삭제 완료 - {}건", purged);
+    }
+}
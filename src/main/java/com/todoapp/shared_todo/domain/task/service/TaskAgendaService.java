@@ -0,0 +1,90 @@
+package com.todoapp.shared_todo.domain.task.service;
+
+import com.todoapp.shared_todo.domain.task.dto.AgendaPageResponse;
+import com.todoapp.shared_todo.domain.task.dto.AgendaTaskResponse;
+import com.todoapp.shared_todo.domain.task.entity.TaskStatus;
+import com.todoapp.shared_todo.domain.task.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * 아젠다 서비스 (내가 속한 모든 보드의 마감 예정 Task)
+ * 보드마다 조회하지 않고 board_member 와 task 를 조인한 한 번의 쿼리로 읽습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TaskAgendaService {
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int DEFAULT_RANGE_DAYS = 14;
+    // 조회 구간이 길수록 보드별로 읽는 인덱스 범위가 커지므로 최대 구간을 제한
+    private static final int MAX_RANGE_DAYS = 90;
+    private static final String CURSOR_DELIMITER = "_";
+
+    private final TaskRepository taskRepository;
+
+    /**
+     * 마감 예정 Task 조회 (마감일 오름차순, 커서 기반)
+     *
+     * @param from   조회 시작 시각 (미지정 시 현재 시각)
+     * @param until  조회 종료 시각, 미포함 (미지정 시 from + 14일)
+     * @param status 상태 필터 (미지정 시 UNCHECKED)
+     * @param cursor 이전 응답의 nextCursor ("{dueDate}_{taskId}_{until}")
+     *               첫 페이지에서 정한 종료 시각을 담고 있어, 이어 읽는 동안 조회 구간이 바뀌지 않습니다.
+     */
+    public AgendaPageResponse getAgenda(Long userId, LocalDateTime from, LocalDateTime until,
+                                        TaskStatus status, String cursor, Integer size) {
+        TaskStatus targetStatus = status == null ? TaskStatus.UNCHECKED : status;
+        int pageSize = (size == null || size <= 0) ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        Limit limit = Limit.of(pageSize + 1);
+
+        LocalDateTime end;
+        List<AgendaTaskResponse> tasks;
+        if (cursor == null || cursor.isBlank()) {
+            LocalDateTime start = from == null ? LocalDateTime.now() : from;
+            end = until == null ? start.plusDays(DEFAULT_RANGE_DAYS) : until;
+            if (!end.isAfter(start)) {
+                throw new IllegalArgumentException("조회 종료 시각은 시작 시각 이후여야 합니다.");
+            }
+            if (Duration.between(start, end).toDays() > MAX_RANGE_DAYS) {
+                throw new IllegalArgumentException("아젠다는 최대 " + MAX_RANGE_DAYS + "일 구간까지 조회할 수 있습니다.");
+            }
+            tasks = taskRepository.findAgendaPage(userId, targetStatus, start, end, limit);
+        } else {
+            // 종료 시각은 첫 페이지에서 정한 값을 커서에서 꺼내 씀 (until 미지정 시 페이지마다 현재 시각 기준으로 밀리지 않도록)
+            String[] parts = cursor.split(CURSOR_DELIMITER);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            LocalDateTime cursorDueDate;
+            Long cursorId;
+            try {
+                cursorDueDate = LocalDateTime.parse(parts[0]);
+                cursorId = Long.parseLong(parts[1]);
+                end = LocalDateTime.parse(parts[2]);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            tasks = taskRepository.findAgendaPageAfter(userId, targetStatus, end, cursorDueDate, cursorId, limit);
+        }
+
+        boolean hasNext = tasks.size() > pageSize;
+        List<AgendaTaskResponse> page = hasNext ? tasks.subList(0, pageSize) : tasks;
+        String nextCursor = null;
+        if (hasNext) {
+            AgendaTaskResponse last = page.get(page.size() - 1);
+            nextCursor = last.dueDate() + CURSOR_DELIMITER + last.id() + CURSOR_DELIMITER + end;
+        }
+
+        return new AgendaPageResponse(page, nextCursor, hasNext);
+    }
+}
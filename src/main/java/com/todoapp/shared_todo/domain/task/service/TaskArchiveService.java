@@ -0,0 +1,119 @@
+package com.todoapp.shared_todo.domain.task.service;
+
+import com.todoapp.shared_todo.domain.board.entity.BoardChangeType;
+import com.todoapp.shared_todo.domain.board.repository.BoardRepository;
+import com.todoapp.shared_todo.domain.board.service.BoardChangeRecorder;
+import com.todoapp.shared_todo.domain.boardEvent.dto.BoardEvent;
+import com.todoapp.shared_todo.domain.boardEvent.dto.BoardEventType;
+import com.todoapp.shared_todo.domain.boardMember.repository.BoardMemberRepository;
+import com.todoapp.shared_todo.domain.task.dto.ArchivedTaskPageResponse;
+import com.todoapp.shared_todo.domain.task.dto.ArchivedTaskResponse;
+import com.todoapp.shared_todo.domain.task.dto.TaskArchiveCandidateView;
+import com.todoapp.shared_todo.domain.task.dto.TaskArchiveChunkResult;
+import com.todoapp.shared_todo.domain.task.repository.TaskArchiveRepository;
+import com.todoapp.shared_todo.domain.task.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 완료된 Task 보관 (task → task_archive)
+ * 오래전에 완료된 Task를 보관 테이블로 옮겨 보드 조회와 task 인덱스가 사용 중인 행만 다루게 합니다.
+ * 보관된 Task는 보드 목록/카운터/검색에서 빠지고, 보관 목록 조회로만 볼 수 있습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TaskArchiveService {
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private final TaskRepository taskRepository;
+    private final TaskArchiveRepository taskArchiveRepository;
+    private final BoardRepository boardRepository;
+    private final BoardMemberRepository boardMemberRepository;
+    private final BoardChangeRecorder boardChangeRecorder;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 보드의 보관된 Task 조회 (최근 생성순, 커서 기반)
+     * 요구사항: Task 목록 조회와 동일하게 보드 멤버만 조회 가능
+     */
+    public ArchivedTaskPageResponse getArchivedTasks(Long boardId, Long userId, Long cursor, Integer size) {
+        if (!boardRepository.existsById(boardId)) {
+            throw new IllegalArgumentException("보드를 찾을 수 없습니다.");
+        }
+
+        // 권한 확인: 보드 멤버만 접근 가능
+        if (!boardMemberRepository.existsByBoardIdAndUserId(boardId, userId)) {
+            throw new IllegalArgumentException("보드에 접근할 권한이 없습니다.");
+        }
+
+        int pageSize = (size == null || size <= 0) ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        List<ArchivedTaskResponse> tasks = taskArchiveRepository.findPageByBoardId(
+                boardId, cursor == null ? Long.MAX_VALUE : cursor, Limit.of(pageSize + 1));
+
+        boolean hasNext = tasks.size() > pageSize;
+        List<ArchivedTaskResponse> page = hasNext ? tasks.subList(0, pageSize) : tasks;
+        Long nextCursor = hasNext ? page.get(page.size() - 1).id() : null;
+
+        return new ArchivedTaskPageResponse(page, nextCursor, hasNext);
+    }
+
+    /**
+     * 보관 대상 Task를 최대 limit건 보관 테이블로 옮김 (한 청크 = 한 트랜잭션)
+     * 1. 대상 task 행 잠금 (사용자가 수정 중인 행은 건너뜀)
+     * 2. 대상 보드 행 잠금 (삭제/추가 중인 보드는 건너뜀, 보드 ID 순서로 잠가 교착을 피함)
+     * 3. INSERT ... SELECT 로 복사 → task 행 삭제
+     * 4. 보드별로 카운터를 줄이고 삭제로 기록 (델타 동기화 클라이언트는 목록에서 지움)
+     * 5. 보드마다 보드 단위 TASK_ARCHIVED 이벤트 하나만 발행 (옮긴 Task는 변경 로그로 받아감)
+     *
+     * @return 읽은 대상 수와 옮긴 수 (건너뛴 행 때문에 옮긴 수가 limit보다 작아도 대상은 남아 있을 수 있음)
+     */
+    @Transactional
+    public TaskArchiveChunkResult archiveChunk(LocalDateTime before, int limit) {
+        List<TaskArchiveCandidateView> candidates = taskRepository.lockArchiveCandidates(before, limit);
+        if (candidates.isEmpty()) {
+            return new TaskArchiveChunkResult(0, 0);
+        }
+
+        Set<Long> boardIds = new HashSet<>();
+        candidates.forEach(candidate -> boardIds.add(candidate.getBoardId()));
+        Set<Long> lockedBoardIds = new HashSet<>(boardRepository.lockIdsInSkipLocked(boardIds));
+
+        Map<Long, List<Long>> taskIdsByBoard = new TreeMap<>();
+        List<Long> taskIds = new ArrayList<>(candidates.size());
+        for (TaskArchiveCandidateView candidate : candidates) {
+            if (lockedBoardIds.contains(candidate.getBoardId())) {
+                taskIdsByBoard.computeIfAbsent(candidate.getBoardId(), id -> new ArrayList<>()).add(candidate.getId());
+                taskIds.add(candidate.getId());
+            }
+        }
+        if (taskIds.isEmpty()) {
+            return new TaskArchiveChunkResult(candidates.size(), 0);
+        }
+
+        taskArchiveRepository.copyFromTask(taskIds, LocalDateTime.now());
+        taskRepository.deleteByIdIn(taskIds);
+
+        // 보관 대상은 모두 완료 상태이므로 전체/완료 카운터를 같은 수만큼 줄임
+        taskIdsByBoard.forEach((boardId, ids) -> {
+            long changeVersion = boardChangeRecorder.recordTaskChanges(
+                    boardId, BoardChangeType.TASK_DELETED, ids, -ids.size(), -ids.size());
+            eventPublisher.publishEvent(BoardEvent.board(boardId, BoardEventType.TASK_ARCHIVED, changeVersion, null));
+        });
+
+        return new TaskArchiveChunkResult(candidates.size(), taskIds.size());
+    }
+}
@@ -0,0 +1,165 @@
+package com.todoapp.shared_todo.domain.task.service;
+
+import com.todoapp.shared_todo.domain.board.entity.BoardChangeType;
+import com.todoapp.shared_todo.domain.board.repository.BoardRepository;
+import com.todoapp.shared_todo.domain.board.service.BoardChangeRecorder;
+import com.todoapp.shared_todo.domain.boardEvent.dto.BoardEvent;
+import com.todoapp.shared_todo.domain.boardEvent.dto.BoardEventType;
+import com.todoapp.shared_todo.domain.boardMember.repository.BoardMemberRepository;
+import com.todoapp.shared_todo.domain.task.dto.AssignedTaskPageResponse;
+import com.todoapp.shared_todo.domain.task.dto.AssignedTaskResponse;
+import com.todoapp.shared_todo.domain.task.dto.TaskAssigneeRequest;
+import com.todoapp.shared_todo.domain.task.dto.TaskAssigneeResponse;
+import com.todoapp.shared_todo.domain.task.entity.Task;
+import com.todoapp.shared_todo.domain.task.entity.TaskAssignee;
+import com.todoapp.shared_todo.domain.task.entity.TaskStatus;
+import com.todoapp.shared_todo.domain.task.repository.TaskAssigneeRepository;
+import com.todoapp.shared_todo.domain.task.repository.TaskRepository;
+import com.todoapp.shared_todo.domain.user.repository.UsersRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Task 담당자 관리와 "내게 할당된 Task" 조회
+ * 할당 행에 Task 상태/마감일을 복제해 두므로, 목록은 (user_id, status, due_date) 인덱스 한 범위로 읽습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TaskAssigneeService {
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final String CURSOR_DELIMITER = "_";
+
+    private final TaskAssigneeRepository taskAssigneeRepository;
+    private final TaskRepository taskRepository;
+    private final BoardRepository boardRepository;
+    private final BoardMemberRepository boardMemberRepository;
+    private final UsersRepository usersRepository;
+    private final TaskPositionService taskPositionService;
+    private final BoardChangeRecorder boardChangeRecorder;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Task 담당자 조회
+     * 요구사항: Task 목록 조회와 동일하게 보드 멤버만 조회 가능
+     */
+    public List<TaskAssigneeResponse> getAssignees(Long boardId, Long taskId, Long userId) {
+        if (!boardRepository.existsById(boardId)) {
+            throw new IllegalArgumentException("보드를 찾을 수 없습니다.");
+        }
+        if (!boardMemberRepository.existsByBoardIdAndUserId(boardId, userId)) {
+            throw new IllegalArgumentException("보드에 접근할 권한이 없습니다.");
+        }
+        if (taskRepository.findPositionByBoardIdAndId(boardId, taskId).isEmpty()) {
+            throw new IllegalArgumentException("Task를 찾을 수 없습니다.");
+        }
+
+        return taskAssigneeRepository.findResponsesByTaskId(taskId);
+    }
+
+    /**
+     * Task 담당자 지정 (목록 전체 교체)
+     * 요구사항: Task 수정과 동일하게 보드 접근 권한 확인 (소유자), 담당자는 보드 멤버만 가능
+     * 기존 목록과 비교해 빠진 담당자만 지우고 새 담당자만 추가합니다.
+     */
+    @Transactional
+    public List<TaskAssigneeResponse> replaceAssignees(Long boardId, Long taskId, Long userId,
+                                                       TaskAssigneeRequest request) {
+        taskPositionService.lockBoardAsOwner(boardId, userId);
+
+        Task task = taskRepository.findById(taskId)
+                .filter(found -> found.getBoard().getId().equals(boardId))
+                .orElseThrow(() -> new IllegalArgumentException("Task를 찾을 수 없습니다."));
+
+        Set<Long> requested = new LinkedHashSet<>(request.userIds());
+        if (!requested.isEmpty() && boardMemberRepository.countByBoardIdAndUserIdIn(boardId, requested) != requested.size()) {
+            throw new IllegalArgumentException("보드 멤버만 담당자로 지정할 수 있습니다.");
+        }
+
+        Set<Long> current = new HashSet<>(taskAssigneeRepository.findUserIdsByTaskId(taskId));
+        Set<Long> removed = current.stream()
+                .filter(id -> !requested.contains(id))
+                .collect(Collectors.toSet());
+        List<TaskAssignee> added = requested.stream()
+                .filter(id -> !current.contains(id))
+                .map(id -> TaskAssignee.create(task, usersRepository.getReferenceById(id)))
+                .collect(Collectors.toList());
+
+        if (!removed.isEmpty()) {
+            taskAssigneeRepository.deleteByTaskIdAndUserIdIn(taskId, removed);
+        }
+        taskAssigneeRepository.saveAll(added);
+
+        if (!removed.isEmpty() || !added.isEmpty()) {
+            long changeVersion = boardChangeRecorder.recordTaskChanges(
+                    boardId, BoardChangeType.TASK_UPDATED, List.of(taskId), 0, 0);
+            eventPublisher.publishEvent(BoardEvent.task(
+                    boardId, BoardEventType.TASK_UPDATED, changeVersion, userId, taskId, task.getStatus()));
+        }
+
+        return taskAssigneeRepository.findResponsesByTaskId(taskId);
+    }
+
+    /**
+     * 내게 할당된 Task 조회 (마감일 오름차순, 마감일 없는 Task는 맨 뒤, 커서 기반)
+     *
+     * @param status 상태 필터 (미지정 시 UNCHECKED)
+     * @param cursor 이전 응답의 nextCursor ("{정렬용 마감일}_{할당 ID}")
+     */
+    public AssignedTaskPageResponse getAssignedTasks(Long userId, TaskStatus status, String cursor, Integer size) {
+        TaskStatus targetStatus = status == null ? TaskStatus.UNCHECKED : status;
+        int pageSize = (size == null || size <= 0) ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<AssignedTaskResponse> tasks;
+        if (cursor == null || cursor.isBlank()) {
+            tasks = taskAssigneeRepository.findInboxPage(userId, targetStatus, limit);
+        } else {
+            int delimiter = cursor.lastIndexOf(CURSOR_DELIMITER);
+            LocalDateTime cursorDueDate;
+            Long cursorId;
+            try {
+                cursorDueDate = LocalDateTime.parse(cursor.substring(0, delimiter));
+                cursorId = Long.parseLong(cursor.substring(delimiter + 1));
+            } catch (DateTimeParseException | NumberFormatException | IndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            tasks = taskAssigneeRepository.findInboxPageAfter(userId, targetStatus, cursorDueDate, cursorId, limit);
+        }
+
+        boolean hasNext = tasks.size() > pageSize;
+        List<AssignedTaskResponse> page = hasNext ? tasks.subList(0, pageSize) : tasks;
+        String nextCursor = null;
+        if (hasNext) {
+            AssignedTaskResponse last = page.get(page.size() - 1);
+            LocalDateTime sortDueDate = last.dueDate() == null ? TaskAssignee.NO_DUE_DATE : last.dueDate();
+            nextCursor = sortDueDate + CURSOR_DELIMITER + last.assignmentId();
+        }
+
+        return new AssignedTaskPageResponse(page, nextCursor, hasNext);
+    }
+
+    /**
+     * Task 상태/마감일 변경을 할당 행에 반영 (Task를 바꾼 트랜잭션 안에서 호출)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void syncTasks(List<Long> taskIds) {
+        if (!taskIds.isEmpty()) {
+            taskAssigneeRepository.syncFromTasks(taskIds, TaskAssignee.NO_DUE_DATE);
+        }
+    }
+}
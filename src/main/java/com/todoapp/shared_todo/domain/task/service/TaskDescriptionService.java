@@ -0,0 +1,68 @@
+package com.todoapp.shared_todo.domain.task.service;
+
+import com.todoapp.shared_todo.domain.task.entity.Task;
+import com.todoapp.shared_todo.domain.task.entity.TaskDescription;
+import com.todoapp.shared_todo.domain.task.repository.TaskDescriptionRepository;
+import com.todoapp.shared_todo.global.util.TextCompressor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 긴 Task 설명의 전체 내용 저장/조회
+ * task 행에는 Task#applyDescription 이 미리보기와 길이만 남기고, 잘린 설명의 전체 내용은 압축해 task_description 에 둡니다.
+ * 목록 조회는 미리보기만 읽고, 전체 내용은 단건 조회나 내보내기처럼 명시적으로 필요할 때만 풉니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TaskDescriptionService {
+
+    private final TaskDescriptionRepository taskDescriptionRepository;
+
+    /**
+     * Task의 전체 설명 (잘리지 않았으면 행의 설명 그대로, 잘렸으면 압축을 풀어 반환)
+     */
+    public String getFullDescription(Task task) {
+        if (!task.isDescriptionTruncated()) {
+            return task.getDescription();
+        }
+        return taskDescriptionRepository.findContentByTaskId(task.getId())
+                .map(TextCompressor::decompress)
+                .orElse(task.getDescription());
+    }
+
+    /**
+     * 새로 저장한 Task의 전체 설명 저장 (Task를 저장한 트랜잭션 안에서 호출, 잘린 경우에만 행 생성)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void storeNew(Task task, String description) {
+        if (task.isDescriptionTruncated()) {
+            taskDescriptionRepository.save(
+                    TaskDescription.create(task, TextCompressor.compress(description), description));
+        }
+    }
+
+    /**
+     * 수정한 Task의 전체 설명 반영 (Task#applyDescription 직후 같은 트랜잭션 안에서 호출)
+     * 미리보기로 충분해지면 기존 행을 지우고, 여전히 길면 내용만 바꿉니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void store(Task task, String description) {
+        TaskDescription existing = taskDescriptionRepository.findById(task.getId()).orElse(null);
+        if (!task.isDescriptionTruncated()) {
+            if (existing != null) {
+                taskDescriptionRepository.delete(existing);
+            }
+            return;
+        }
+
+        byte[] content = TextCompressor.compress(description);
+        if (existing != null) {
+            existing.changeContent(content, description);
+        } else {
+            taskDescriptionRepository.save(TaskDescription.create(task, content, description));
+        }
+    }
+}
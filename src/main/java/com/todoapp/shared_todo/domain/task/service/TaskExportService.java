@@ -0,0 +1,120 @@
+package com.todoapp.shared_todo.domain.task.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.todoapp.shared_todo.domain.board.repository.BoardRepository;
+import com.todoapp.shared_todo.domain.boardMember.repository.BoardMemberRepository;
+import com.todoapp.shared_todo.domain.task.dto.TaskExportFormat;
+import com.todoapp.shared_todo.domain.task.dto.TaskExportRow;
+import com.todoapp.shared_todo.domain.task.dto.TaskResponse;
+import com.todoapp.shared_todo.domain.task.entity.Task;
+import com.todoapp.shared_todo.domain.task.repository.TaskRepository;
+import com.todoapp.shared_todo.global.util.TextCompressor;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 보드 Task 내보내기 (NDJSON / CSV)
+ * 전체 목록을 메모리에 올리지 않고 DB 커서에서 한 행씩 읽어 바로 응답 스트림에 씁니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TaskExportService {
+
+    private static final String CSV_HEADER = "id,description,status,dueDate,version";
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final TaskRepository taskRepository;
+    private final BoardRepository boardRepository;
+    private final BoardMemberRepository boardMemberRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 내보내기 권한 확인
+     * 스트리밍이 시작된 뒤에는 상태 코드를 바꿀 수 없으므로, 응답을 열기 전에 먼저 호출합니다.
+     */
+    public void validateExportAccess(Long boardId, Long userId) {
+        boardRepository.findById(boardId)
+                .orElseThrow(() -> new IllegalArgumentException("보드를 찾을 수 없습니다."));
+
+        // 권한 확인: 보드 멤버만 접근 가능
+        if (!boardMemberRepository.existsByBoardIdAndUserId(boardId, userId)) {
+            throw new IllegalArgumentException("보드에 접근할 권한이 없습니다.");
+        }
+    }
+
+    /**
+     * 보드의 Task를 지정한 형식으로 outputStream에 기록
+     * 각 행은 쓰고 난 직후 영속성 컨텍스트에서 분리(detach)하여 메모리 사용량을 일정하게 유지합니다.
+     */
+    public void exportTasks(Long boardId, TaskExportFormat format, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+        if (format == TaskExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try (Stream<TaskExportRow> rows = taskRepository.streamExportRowsByBoardId(boardId)) {
+            Iterator<TaskExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                TaskExportRow row = iterator.next();
+                Task task = row.task();
+                // 내보내기는 전체 설명을 요청한 것이므로 잘린 설명은 풀어서 기록
+                String description = row.descriptionContent() == null
+                        ? task.getDescription()
+                        : TextCompressor.decompress(row.descriptionContent());
+                writeRow(writer, format, TaskResponse.from(task, description));
+                entityManager.detach(task);
+            }
+        }
+
+        writer.flush();
+    }
+
+    private void writeRow(Writer writer, TaskExportFormat format, TaskResponse task) throws IOException {
+        if (format == TaskExportFormat.NDJSON) {
+            writer.write(objectMapper.writeValueAsString(task));
+        } else {
+            writer.write(String.valueOf(task.id()));
+            writer.write(',');
+            writer.write(escapeCsv(task.description()));
+            writer.write(',');
+            writer.write(task.status().name());
+            writer.write(',');
+            writer.write(task.dueDate() != null ? task.dueDate().toString() : "");
+            writer.write(',');
+            writer.write(String.valueOf(task.version()));
+        }
+        writer.write('\n');
+    }
+
+    /**
+     * RFC 4180 규칙: 쉼표/따옴표/개행이 있으면 따옴표로 감싸고 내부 따옴표는 두 번 씁니다.
+     * 스프레드시트가 수식으로 해석하는 문자(=, +, -, @, 탭, CR)로 시작하면 앞에 '를 붙이고 따옴표로 감쌉니다. (CSV 수식 주입 방지)
+     */
+    private String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (!value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+            return "\"'" + value.replace("\"", "\"\"") + "\"";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
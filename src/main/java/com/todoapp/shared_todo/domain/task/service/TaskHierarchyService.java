@@ -0,0 +1,211 @@
+package com.todoapp.shared_todo.domain.task.service;
+
+import com.todoapp.shared_todo.domain.board.repository.BoardRepository;
+import com.todoapp.shared_todo.domain.boardMember.repository.BoardMemberRepository;
+import com.todoapp.shared_todo.domain.task.dto.TaskHierarchyView;
+import com.todoapp.shared_todo.domain.task.dto.TaskResponse;
+import com.todoapp.shared_todo.domain.task.dto.TaskTreeNode;
+import com.todoapp.shared_todo.domain.task.dto.TaskTreeResponse;
+import com.todoapp.shared_todo.domain.task.entity.Task;
+import com.todoapp.shared_todo.domain.task.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 하위 Task 계층 (materialized path)
+ * - 각 Task는 조상 ID 경로(path)와 모든 깊이의 하위 Task 수/완료 수를 가집니다.
+ * - 하위 Task가 생기거나 지워지거나 상태가 바뀌면 경로에 있는 조상 행의 카운터만 증감하므로
+ *   진행률을 보여주려고 하위 트리를 다시 읽을 필요가 없습니다.
+ * - 트리는 한 번의 쿼리로 읽어 메모리에서 O(n)으로 조립합니다.
+ * - 계층을 바꾸는 쓰기 작업은 보드 행 → 대상 Task → 조상 Task 순서로 잠급니다. (호출하는 쪽이 보드 행을 먼저 잠금)
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TaskHierarchyService {
+
+    // 트리 조회 최대 Task 수
+    private static final int MAX_TREE_SIZE = 5000;
+
+    private final TaskRepository taskRepository;
+    private final BoardRepository boardRepository;
+    private final BoardMemberRepository boardMemberRepository;
+
+    /**
+     * 조상 카운터 증감값 (Task 한 건 기준)
+     *
+     * @param path 변경된 Task의 경로 (조상 ID 목록)
+     */
+    public record SubtaskDelta(String path, int totalDelta, int checkedDelta) {
+    }
+
+    /**
+     * 새 Task를 parentId 아래에 둠 (null이면 최상위 Task로 유지)
+     * 상위 Task 행을 잠가, 상위 Task 삭제와 동시에 실행되어도 카운터가 어긋나지 않게 합니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void attach(Task task, Long boardId, Long parentId) {
+        if (parentId == null) {
+            return;
+        }
+        task.setParentId(parentId);
+        task.setPath(lockParentPath(boardId, parentId) + parentId + "/");
+    }
+
+    /**
+     * 상위 Task를 잠그고 경로 조회 (하위 Task 추가/복원 전 확인)
+     *
+     * @return 상위 Task의 경로
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public String lockParentPath(Long boardId, Long parentId) {
+        TaskHierarchyView parent = taskRepository.lockHierarchyByBoardIdAndId(boardId, parentId)
+                .orElseThrow(() -> new IllegalArgumentException("상위 Task를 찾을 수 없습니다."));
+
+        if (Task.depthOf(parent.getPath()) >= Task.MAX_DEPTH) {
+            throw new IllegalArgumentException("하위 Task는 최대 " + Task.MAX_DEPTH + "단계까지 만들 수 있습니다.");
+        }
+        // 반복 Task는 다음 발생으로 넘어갈 때 자신만 미완료로 돌아가므로, 하위 Task 상태/카운터와 어긋나지 않게 막음
+        if (parent.getRecurrenceRule() != null) {
+            throw new IllegalArgumentException("반복 Task에는 하위 Task를 만들 수 없습니다.");
+        }
+        return parent.getPath();
+    }
+
+    /**
+     * 하위 Task가 없는지 잠가서 확인 (삭제 전)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void ensureNoSubtasks(Long boardId, Long taskId) {
+        TaskHierarchyView task = taskRepository.lockHierarchyByBoardIdAndId(boardId, taskId)
+                .orElseThrow(() -> new IllegalArgumentException("Task를 찾을 수 없습니다."));
+
+        if (task.getSubtaskTotal() > 0) {
+            throw new IllegalArgumentException("하위 Task가 있는 Task는 삭제할 수 없습니다. 하위 Task를 먼저 삭제해주세요.");
+        }
+    }
+
+    /**
+     * Task 한 건의 변경을 조상 카운터에 반영
+     *
+     * @return 카운터가 바뀐 조상 Task ID
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Set<Long> applyToAncestors(String path, int totalDelta, int checkedDelta) {
+        return applyToAncestors(List.of(new SubtaskDelta(path, totalDelta, checkedDelta)));
+    }
+
+    /**
+     * 여러 Task의 변경을 조상별로 합산해 반영
+     * 합산한 증감값이 같은 조상끼리 UPDATE ... WHERE id IN (...) 한 문장으로 처리합니다.
+     *
+     * @return 카운터가 바뀐 조상 Task ID
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Set<Long> applyToAncestors(Collection<SubtaskDelta> deltas) {
+        Map<Long, int[]> deltaByAncestor = new TreeMap<>();
+        for (SubtaskDelta delta : deltas) {
+            if (delta.totalDelta() == 0 && delta.checkedDelta() == 0) {
+                continue;
+            }
+            for (Long ancestorId : ancestorIds(delta.path())) {
+                int[] sum = deltaByAncestor.computeIfAbsent(ancestorId, id -> new int[2]);
+                sum[0] += delta.totalDelta();
+                sum[1] += delta.checkedDelta();
+            }
+        }
+
+        Map<List<Integer>, List<Long>> idsByDelta = new HashMap<>();
+        deltaByAncestor.forEach((ancestorId, sum) -> {
+            if (sum[0] != 0 || sum[1] != 0) {
+                idsByDelta.computeIfAbsent(List.of(sum[0], sum[1]), key -> new ArrayList<>()).add(ancestorId);
+            }
+        });
+        Set<Long> changedIds = new TreeSet<>();
+        idsByDelta.forEach((delta, ids) -> {
+            taskRepository.adjustSubtaskCounters(ids, delta.get(0), delta.get(1));
+            changedIds.addAll(ids);
+        });
+        return changedIds;
+    }
+
+    /**
+     * Task 트리 조회
+     * 요구사항: Task 목록 조회와 동일하게 보드 멤버만 조회 가능
+     * 한 번의 쿼리로 읽은 Task를 ID → 노드 맵으로 한 번씩만 연결합니다. (깊이와 무관하게 O(n))
+     *
+     * @param rootId 지정하면 그 Task와 자손만 조회
+     */
+    public TaskTreeResponse getTree(Long boardId, Long userId, Long rootId) {
+        if (!boardRepository.existsById(boardId)) {
+            throw new IllegalArgumentException("보드를 찾을 수 없습니다.");
+        }
+        if (!boardMemberRepository.existsByBoardIdAndUserId(boardId, userId)) {
+            throw new IllegalArgumentException("보드에 접근할 권한이 없습니다.");
+        }
+
+        Limit limit = Limit.of(MAX_TREE_SIZE + 1);
+        List<TaskResponse> tasks;
+        if (rootId == null) {
+            tasks = taskRepository.findPageByBoardId(boardId, limit);
+        } else {
+            String rootPath = taskRepository.findPathByBoardIdAndId(boardId, rootId)
+                    .orElseThrow(() -> new IllegalArgumentException("Task를 찾을 수 없습니다."));
+            tasks = taskRepository.findSubtreeByBoardId(boardId, rootId, rootPath + rootId + "/%", limit);
+        }
+
+        boolean truncated = tasks.size() > MAX_TREE_SIZE;
+        if (truncated) {
+            tasks = tasks.subList(0, MAX_TREE_SIZE);
+        }
+
+        Map<Long, TaskTreeNode> nodes = new HashMap<>(tasks.size() * 2);
+        for (TaskResponse task : tasks) {
+            nodes.put(task.id(), TaskTreeNode.of(task));
+        }
+
+        // position 순으로 돌며 붙이므로 형제 노드도 position 순서를 유지
+        List<TaskTreeNode> roots = new ArrayList<>();
+        for (TaskResponse task : tasks) {
+            TaskTreeNode node = nodes.get(task.id());
+            if (task.id().equals(rootId) || task.parentId() == null) {
+                roots.add(node);
+                continue;
+            }
+            TaskTreeNode parent = nodes.get(task.parentId());
+            // 잘려서 상위 Task가 빠진 경우에는 버림
+            if (parent != null) {
+                parent.children().add(node);
+            }
+        }
+
+        return new TaskTreeResponse(roots, tasks.size(), truncated);
+    }
+
+    /**
+     * 경로의 조상 ID 목록 ("/3/17/" → [3, 17])
+     */
+    private List<Long> ancestorIds(String path) {
+        List<Long> ids = new ArrayList<>();
+        int start = 1;
+        for (int i = 1; i < path.length(); i++) {
+            if (path.charAt(i) == '/') {
+                ids.add(Long.parseLong(path.substring(start, i)));
+                start = i + 1;
+            }
+        }
+        return ids;
+    }
+}
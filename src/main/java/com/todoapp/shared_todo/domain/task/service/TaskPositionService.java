@@ -0,0 +1,170 @@
+package com.todoapp.shared_todo.domain.task.service;
+
+import com.todoapp.shared_todo.domain.board.entity.Board;
+import com.todoapp.shared_todo.domain.board.entity.BoardChangeType;
+import com.todoapp.shared_todo.domain.board.repository.BoardRepository;
+import com.todoapp.shared_todo.domain.board.service.BoardChangeRecorder;
+import com.todoapp.shared_todo.domain.boardEvent.dto.BoardEvent;
+import com.todoapp.shared_todo.domain.boardEvent.dto.BoardEventType;
+import com.todoapp.shared_todo.domain.task.dto.TaskMoveRequest;
+import com.todoapp.shared_todo.domain.task.dto.TaskResponse;
+import com.todoapp.shared_todo.domain.task.repository.TaskPositionJdbcRepository;
+import com.todoapp.shared_todo.domain.task.repository.TaskRepository;
+import com.todoapp.shared_todo.global.util.FractionalIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Task 순서(정렬 키) 관리
+ * - 순서는 분수 인덱스 문자열(position)로 저장하며, 이동은 옮긴 Task 한 행만 변경합니다.
+ * - 정렬 키를 만드는 작업은 보드 행을 잠근 상태에서 하므로 같은 키가 두 번 만들어지지 않습니다.
+ * - 키가 너무 길어진 보드는 재정렬 대상으로 모아 두었다가 백그라운드에서 짧은 키로 다시 매깁니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TaskPositionService {
+
+    private final TaskRepository taskRepository;
+    private final TaskPositionJdbcRepository taskPositionJdbcRepository;
+    private final BoardRepository boardRepository;
+    private final BoardChangeRecorder boardChangeRecorder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Set<Long> rebalanceRequests = ConcurrentHashMap.newKeySet();
+
+    @Value("${board.task-position.rebalance-key-length:20}")
+    private int rebalanceKeyLength;
+
+    /**
+     * 보드 맨 뒤에 붙일 정렬 키 count개 생성
+     * 호출하는 쪽에서 보드 행을 잠근 상태여야 합니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<String> appendPositions(Long boardId, int count) {
+        String last = taskRepository.findLastPositionByBoardId(boardId).orElse(null);
+        List<String> positions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            last = FractionalIndex.after(last);
+            positions.add(last);
+        }
+        checkKeyLength(boardId, last);
+        return positions;
+    }
+
+    /**
+     * Task 순서 이동
+     * 요구사항: Task 수정과 동일하게 보드 접근 권한 확인 (소유자)
+     */
+    @Transactional
+    public TaskResponse moveTask(Long boardId, Long taskId, Long userId, TaskMoveRequest request) {
+        lockBoardAsOwner(boardId, userId);
+
+        if (taskRepository.findPositionByBoardIdAndId(boardId, taskId).isEmpty()) {
+            throw new IllegalArgumentException("Task를 찾을 수 없습니다.");
+        }
+
+        Long prevTaskId = request.prevTaskId();
+        String before = null;
+        List<String> next;
+        if (prevTaskId == null) {
+            next = taskRepository.findFirstPositions(boardId, taskId, Limit.of(1));
+        } else {
+            if (prevTaskId.equals(taskId)) {
+                throw new IllegalArgumentException("Task를 자기 자신 뒤로 옮길 수 없습니다.");
+            }
+            before = taskRepository.findPositionByBoardIdAndId(boardId, prevTaskId)
+                    .orElseThrow(() -> new IllegalArgumentException("기준 Task를 찾을 수 없습니다."));
+            next = taskRepository.findNextPositions(boardId, before, prevTaskId, taskId, Limit.of(1));
+        }
+        String after = next.isEmpty() ? null : next.get(0);
+
+        if (before != null && before.equals(after)) {
+            // 정렬 키가 겹친 경우 (재정렬 전 데이터): 재정렬 후 다시 시도하도록 안내
+            requestRebalance(boardId);
+            throw new IllegalArgumentException("Task 순서를 정리하는 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        String position = FractionalIndex.between(before, after);
+        taskRepository.updatePosition(boardId, taskId, position, LocalDateTime.now());
+        checkKeyLength(boardId, position);
+
+        TaskResponse response = taskRepository.findResponseByBoardIdAndId(boardId, taskId)
+                .orElseThrow(() -> new IllegalArgumentException("Task를 찾을 수 없습니다."));
+        long changeVersion = boardChangeRecorder.recordTaskChanges(
+                boardId, BoardChangeType.TASK_UPDATED, List.of(taskId), 0, 0);
+        eventPublisher.publishEvent(BoardEvent.task(
+                boardId, BoardEventType.TASK_MOVED, changeVersion, userId, taskId, response.status()));
+
+        return response;
+    }
+
+    /**
+     * 보드의 정렬 키를 현재 순서 그대로 짧은 키로 다시 매김
+     */
+    @Transactional
+    public void rebalance(Long boardId) {
+        if (boardRepository.findByIdForUpdate(boardId).isEmpty()) {
+            return;
+        }
+
+        List<Long> taskIds = taskRepository.findIdsByBoardIdOrderByPosition(boardId);
+        if (taskIds.isEmpty()) {
+            return;
+        }
+
+        taskPositionJdbcRepository.updatePositions(taskIds, FractionalIndex.evenlySpaced(taskIds.size()));
+
+        // 모든 Task의 위치가 바뀌었으므로 델타 동기화 클라이언트도 전부 다시 받도록 기록
+        long changeVersion = boardChangeRecorder.recordTaskChanges(
+                boardId, BoardChangeType.TASK_UPDATED, taskIds, 0, 0);
+        eventPublisher.publishEvent(BoardEvent.board(boardId, BoardEventType.BOARD_UPDATED, changeVersion, null));
+    }
+
+    /**
+     * 보드 행을 잠그고 소유자 권한 확인
+     * 정렬 키를 만드는 동안 같은 보드의 다른 생성/이동이 끼어들지 않도록 잠급니다.
+     * (이후 카운터 갱신에서도 같은 행을 잠그므로 잠금 구간만 앞당겨짐)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Board lockBoardAsOwner(Long boardId, Long userId) {
+        Board board = boardRepository.findByIdForUpdate(boardId)
+                .orElseThrow(() -> new IllegalArgumentException("보드를 찾을 수 없습니다."));
+
+        // 권한 확인: 소유자만 접근 가능
+        if (!board.getAuthor().getId().equals(userId)) {
+            throw new IllegalArgumentException("보드에 접근할 권한이 없습니다.");
+        }
+
+        return board;
+    }
+
+    /**
+     * 재정렬 대기 중인 보드 목록을 꺼냄
+     */
+    public List<Long> drainRebalanceRequests() {
+        List<Long> boardIds = new ArrayList<>(rebalanceRequests);
+        rebalanceRequests.removeAll(boardIds);
+        return boardIds;
+    }
+
+    private void checkKeyLength(Long boardId, String position) {
+        if (position != null && position.length() > rebalanceKeyLength) {
+            requestRebalance(boardId);
+        }
+    }
+
+    private void requestRebalance(Long boardId) {
+        rebalanceRequests.add(boardId);
+    }
+}
@@ -0,0 +1,160 @@
+package com.todoapp.shared_todo.domain.task.service;
+
+import com.todoapp.shared_todo.domain.board.entity.BoardChangeType;
+import com.todoapp.shared_todo.domain.board.repository.BoardRepository;
+import com.todoapp.shared_todo.domain.board.service.BoardChangeRecorder;
+import com.todoapp.shared_todo.domain.boardEvent.dto.BoardEvent;
+import com.todoapp.shared_todo.domain.boardEvent.dto.BoardEventType;
+import com.todoapp.shared_todo.domain.boardMember.repository.BoardMemberRepository;
+import com.todoapp.shared_todo.domain.task.dto.TaskOccurrenceResponse;
+import com.todoapp.shared_todo.domain.task.dto.TaskOccurrencesResponse;
+import com.todoapp.shared_todo.domain.task.dto.TaskRecurrenceView;
+import com.todoapp.shared_todo.domain.task.dto.TaskResponse;
+import com.todoapp.shared_todo.domain.task.entity.TaskStatus;
+import com.todoapp.shared_todo.domain.task.repository.TaskRepository;
+import com.todoapp.shared_todo.global.util.RecurrenceRule;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 반복 Task
+ * 반복 Task는 행 하나만 저장하고, dueDate는 현재 발생을 가리킵니다.
+ * - 기간 조회: 이후 발생은 규칙으로 계산해 응답에만 포함합니다. (행을 미리 만들지 않음)
+ * - 다음 발생으로 넘기기: 다음 발생 시각이 다가오면 TaskRecurrenceRoller가 같은 행의 마감일을 옮기고 미완료로 되돌립니다.
+ *   따라서 매일 반복하는 Task가 200개여도 task 행은 200개로 유지됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TaskRecurrenceService {
+
+    private static final int DEFAULT_RANGE_DAYS = 14;
+    // 매일 반복 Task가 많은 보드에서 응답이 커지지 않도록 구간과 개수를 제한
+    private static final int MAX_RANGE_DAYS = 90;
+    private static final int MAX_OCCURRENCES = 1000;
+
+    private final TaskRepository taskRepository;
+    private final BoardRepository boardRepository;
+    private final BoardMemberRepository boardMemberRepository;
+    private final BoardChangeRecorder boardChangeRecorder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskAssigneeService taskAssigneeService;
+
+    /**
+     * 보드의 기간 내 Task 발생 조회 (반복 Task의 이후 발생 포함)
+     * 요구사항: Task 목록 조회와 동일하게 보드 멤버만 조회 가능
+     *
+     * @param from  조회 시작 시각 (미지정 시 현재 시각)
+     * @param until 조회 종료 시각, 미포함 (미지정 시 from + 14일)
+     */
+    public TaskOccurrencesResponse getOccurrences(Long boardId, Long userId, LocalDateTime from, LocalDateTime until) {
+        if (!boardRepository.existsById(boardId)) {
+            throw new IllegalArgumentException("보드를 찾을 수 없습니다.");
+        }
+
+        // 권한 확인: 보드 멤버만 접근 가능
+        if (!boardMemberRepository.existsByBoardIdAndUserId(boardId, userId)) {
+            throw new IllegalArgumentException("보드에 접근할 권한이 없습니다.");
+        }
+
+        LocalDateTime start = from == null ? LocalDateTime.now() : from;
+        LocalDateTime end = until == null ? start.plusDays(DEFAULT_RANGE_DAYS) : until;
+        if (!end.isAfter(start)) {
+            throw new IllegalArgumentException("조회 종료 시각은 시작 시각 이후여야 합니다.");
+        }
+        if (Duration.between(start, end).toDays() > MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("최대 " + MAX_RANGE_DAYS + "일 구간까지 조회할 수 있습니다.");
+        }
+
+        List<TaskOccurrenceResponse> occurrences = new ArrayList<>();
+        taskRepository.findSingleTasksDueBetween(boardId, EnumSet.allOf(TaskStatus.class), start, end,
+                        Limit.of(MAX_OCCURRENCES + 1))
+                .forEach(task -> occurrences.add(TaskOccurrenceResponse.stored(task)));
+
+        for (TaskResponse series : taskRepository.findRecurringTasksStartingBefore(boardId, end)) {
+            RecurrenceRule rule = RecurrenceRule.parse(series.recurrenceRule());
+            for (LocalDateTime dueDate : rule.occurrencesBetween(series.dueDate(), start, end, MAX_OCCURRENCES + 1)) {
+                occurrences.add(dueDate.equals(series.dueDate())
+                        ? TaskOccurrenceResponse.stored(series)
+                        : TaskOccurrenceResponse.projected(series, dueDate));
+            }
+        }
+
+        occurrences.sort(Comparator.comparing(TaskOccurrenceResponse::dueDate)
+                .thenComparing(TaskOccurrenceResponse::taskId));
+        boolean truncated = occurrences.size() > MAX_OCCURRENCES;
+        return new TaskOccurrencesResponse(
+                truncated ? occurrences.subList(0, MAX_OCCURRENCES) : occurrences, truncated);
+    }
+
+    /**
+     * 다음 발생 시각이 horizon 이전인 반복 Task를 최대 limit건 다음 발생으로 넘김 (한 청크 = 한 트랜잭션)
+     * 작업이 멈춰 있던 동안 지나간 발생은 건너뛰고 horizon 이전의 마지막 발생으로 옮깁니다.
+     * 보드 행은 보관 작업과 같은 방식(ID 순서, SKIP LOCKED)으로 잠가 보드 삭제와 엇갈려 기다리지 않게 합니다.
+     *
+     * @return 넘긴 Task 수 (limit보다 작으면 남은 대상이 없거나 건너뛴 행이 있으므로 다음 실행으로 넘김)
+     */
+    @Transactional
+    public int rollChunk(LocalDateTime horizon, int limit) {
+        List<TaskRecurrenceView> dueTasks = taskRepository.lockRecurrenceDue(horizon, limit);
+        if (dueTasks.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> boardIds = new HashSet<>();
+        dueTasks.forEach(task -> boardIds.add(task.getBoardId()));
+        Set<Long> lockedBoardIds = new HashSet<>(boardRepository.lockIdsInSkipLocked(boardIds));
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, List<Long>> taskIdsByBoard = new TreeMap<>();
+        Map<Long, Integer> checkedDeltaByBoard = new TreeMap<>();
+        int rolled = 0;
+        for (TaskRecurrenceView task : dueTasks) {
+            if (!lockedBoardIds.contains(task.getBoardId())) {
+                continue;
+            }
+
+            RecurrenceRule rule = RecurrenceRule.parse(task.getRecurrenceRule());
+            LocalDateTime dueDate = task.getRecurrenceNextAt();
+            LocalDateTime next = rule.next(dueDate);
+            while (next != null && !next.isAfter(horizon)) {
+                dueDate = next;
+                next = rule.next(dueDate);
+            }
+            taskRepository.rollRecurrence(task.getId(), dueDate, next, now);
+
+            taskIdsByBoard.computeIfAbsent(task.getBoardId(), id -> new ArrayList<>()).add(task.getId());
+            if (TaskStatus.valueOf(task.getStatus()) == TaskStatus.CHECKED) {
+                checkedDeltaByBoard.merge(task.getBoardId(), -1, Integer::sum);
+            }
+            rolled++;
+        }
+
+        taskAssigneeService.syncTasks(taskIdsByBoard.values().stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toList()));
+        taskIdsByBoard.forEach((boardId, ids) -> {
+            long changeVersion = boardChangeRecorder.recordTaskChanges(
+                    boardId, BoardChangeType.TASK_UPDATED, ids, 0, checkedDeltaByBoard.getOrDefault(boardId, 0));
+            ids.forEach(taskId -> eventPublisher.publishEvent(BoardEvent.task(
+                    boardId, BoardEventType.TASK_UPDATED, changeVersion, null, taskId, TaskStatus.UNCHECKED)));
+        });
+
+        return rolled;
+    }
+}
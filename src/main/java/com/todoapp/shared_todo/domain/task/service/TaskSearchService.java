@@ -0,0 +1,60 @@
+package com.todoapp.shared_todo.domain.task.service;
+
+import com.todoapp.shared_todo.domain.task.dto.TaskSearchResponse;
+import com.todoapp.shared_todo.domain.task.dto.TaskSearchResult;
+import com.todoapp.shared_todo.domain.task.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Task 전문 검색 서비스
+ * 관련도 순 결과는 키셋으로 이어 읽기 어려워 page/size 로 나누되, 깊은 페이지는 막아 스캔 비용을 제한합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TaskSearchService {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 50;
+    // 관련도 상위 결과만 의미가 있으므로 OFFSET이 커지지 않도록 제한
+    private static final int MAX_RESULT_WINDOW = 1000;
+    // ngram 인덱스의 토큰 길이(ngram_token_size 기본값 2)보다 짧은 검색어는 매칭되지 않음
+    private static final int MIN_QUERY_LENGTH = 2;
+    private static final int MAX_QUERY_LENGTH = 100;
+
+    private final TaskRepository taskRepository;
+
+    /**
+     * 사용자가 속한 모든 보드에서 Task 검색
+     */
+    public TaskSearchResponse searchTasks(Long userId, String query, Integer page, Integer size) {
+        String keyword = query == null ? "" : query.strip();
+        if (keyword.length() < MIN_QUERY_LENGTH || keyword.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException(
+                    "검색어는 " + MIN_QUERY_LENGTH + "자 이상 " + MAX_QUERY_LENGTH + "자 이하로 입력해주세요.");
+        }
+
+        int pageSize = (size == null || size <= 0) ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        int pageNumber = (page == null || page < 0) ? 0 : page;
+        // 큰 page 값에서 int 곱셈이 넘치지 않도록 long으로 계산한 뒤 범위를 확인
+        long end = ((long) pageNumber + 1) * pageSize;
+        if (end > MAX_RESULT_WINDOW) {
+            throw new IllegalArgumentException("검색 결과는 상위 " + MAX_RESULT_WINDOW + "건까지만 조회할 수 있습니다.");
+        }
+        int offset = pageNumber * pageSize;
+
+        List<TaskSearchResult> results = taskRepository
+                .searchByMemberUserId(userId, keyword, pageSize + 1, offset).stream()
+                .map(TaskSearchResult::from)
+                .toList();
+
+        boolean hasNext = results.size() > pageSize && offset + pageSize < MAX_RESULT_WINDOW;
+        List<TaskSearchResult> pageResults = results.size() > pageSize ? results.subList(0, pageSize) : results;
+
+        return new TaskSearchResponse(pageResults, pageNumber, pageSize, hasNext);
+    }
+}
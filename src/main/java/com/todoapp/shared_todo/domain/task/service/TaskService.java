@@ -1,20 +1,39 @@
 package com.todoapp.shared_todo.domain.task.service;
 
 import com.todoapp.shared_todo.domain.board.entity.Board;
-import com.todoapp.shared_todo.domain.board.repository.BoardRepository;
+import com.todoapp.shared_todo.domain.board.entity.BoardChangeType;
+import com.todoapp.shared_todo.domain.board.service.BoardChangeRecorder;
+import com.todoapp.shared_todo.domain.boardEvent.dto.BoardEvent;
+import com.todoapp.shared_todo.domain.boardEvent.dto.BoardEventType;
 import com.todoapp.shared_todo.domain.boardMember.repository.BoardMemberRepository;
+import com.todoapp.shared_todo.domain.task.dto.TaskBatchCreateRequest;
+import com.todoapp.shared_todo.domain.task.dto.TaskBulkStatusRequest;
+import com.todoapp.shared_todo.domain.task.dto.TaskBulkStatusResponse;
 import com.todoapp.shared_todo.domain.task.dto.TaskCreateRequest;
+import com.todoapp.shared_todo.domain.task.dto.TaskPageResponse;
 import com.todoapp.shared_todo.domain.task.dto.TaskResponse;
+import com.todoapp.shared_todo.domain.task.dto.TaskStateView;
 import com.todoapp.shared_todo.domain.task.dto.TaskUpdateRequest;
 import com.todoapp.shared_todo.domain.task.entity.Task;
+import com.todoapp.shared_todo.domain.task.entity.TaskStatus;
 import com.todoapp.shared_todo.domain.task.repository.TaskRepository;
 
-import jakarta.persistence.OptimisticLockException;
+import com.todoapp.shared_todo.global.exception.ErrorCode;
+import com.todoapp.shared_todo.global.exception.GeneralException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,52 +41,131 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class TaskService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final String CURSOR_DELIMITER = "_";
+
     private final TaskRepository taskRepository;
-    private final BoardRepository boardRepository;
     private final BoardMemberRepository boardMemberRepository;
+    private final BoardChangeRecorder boardChangeRecorder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskPositionService taskPositionService;
+    private final TaskHierarchyService taskHierarchyService;
+    private final TaskAssigneeService taskAssigneeService;
+    private final TaskDescriptionService taskDescriptionService;
 
     /**
      * Task 생성
      * 요구사항: Task 생성 시 보드 접근 권한 확인 (소유자)
+     * 보드 맨 뒤 순서로 추가합니다. parentId를 주면 그 Task의 하위 Task로 만들고 조상 카운터를 올립니다.
      */
     @Transactional
     public TaskResponse createTask(Long boardId, Long userId, TaskCreateRequest request) {
-        Board board = boardRepository.findById(boardId)
-                .orElseThrow(() -> new IllegalArgumentException("보드를 찾을 수 없습니다."));
-
-        // 권한 확인: 소유자만 접근 가능
-        if (!board.getAuthor().getId().equals(userId)) {
-            throw new IllegalArgumentException("보드에 접근할 권한이 없습니다.");
-        }
+        Board board = taskPositionService.lockBoardAsOwner(boardId, userId);
 
         Task task = Task.create(request.getDescription(), board, request.getDueDate());
+        taskHierarchyService.attach(task, boardId, request.getParentId());
+        task.applyRecurrence(request.getRecurrenceRule());
+        task.setPosition(taskPositionService.appendPositions(boardId, 1).get(0));
         Task savedTask = taskRepository.save(task);
+        taskDescriptionService.storeNew(savedTask, request.getDescription());
+        long changeVersion = boardChangeRecorder.recordTaskChanges(
+                boardId, BoardChangeType.TASK_CREATED, List.of(savedTask.getId()), 1, 0);
+        boardChangeRecorder.recordRelatedTaskUpdates(
+                boardId, changeVersion, taskHierarchyService.applyToAncestors(savedTask.getPath(), 1, 0));
+        eventPublisher.publishEvent(BoardEvent.task(
+                boardId, BoardEventType.TASK_CREATED, changeVersion, userId, savedTask.getId(), savedTask.getStatus()));
 
-        return TaskResponse.from(savedTask);
+        return TaskResponse.from(savedTask, request.getDescription());
     }
 
     /**
-     * 보드의 Task 리스트 조회
-     * 요구사항: Task 목록 조회 시 보드 접근 권한 확인
+     * Task 일괄 생성
+     * 요구사항: Task 생성과 동일하게 보드 접근 권한 확인 (소유자)
+     * ID를 미리 할당받으므로 INSERT가 hibernate.jdbc.batch_size 단위로 묶여 전송됩니다.
      */
-    public List<TaskResponse> getTasks(Long boardId, Long userId) {
-        Board board = boardRepository.findById(boardId)
-                .orElseThrow(() -> new IllegalArgumentException("보드를 찾을 수 없습니다."));
-
-        // 권한 확인: 소유자만 접근 가능
-        boolean exists = boardMemberRepository.existsByBoardIdAndUserId(boardId, userId);
-        // 권한 확인: 소유자만 접근 가능
-        if (!exists) {
-            throw new IllegalArgumentException("보드에 접근할 권한이 없습니다.");
+    @Transactional
+    public List<TaskResponse> createTasks(Long boardId, Long userId, TaskBatchCreateRequest request) {
+        long totalDescriptionLength = request.getTasks().stream()
+                .mapToLong(item -> item.getDescription().length())
+                .sum();
+        if (totalDescriptionLength > TaskBatchCreateRequest.MAX_TOTAL_DESCRIPTION_LENGTH) {
+            throw new IllegalArgumentException("일괄 생성하는 Task 내용은 합계 "
+                    + TaskBatchCreateRequest.MAX_TOTAL_DESCRIPTION_LENGTH + "자 이하여야 합니다.");
         }
 
-        List<Task> tasks = taskRepository.findByBoardId(boardId);
+        Board board = taskPositionService.lockBoardAsOwner(boardId, userId);
+
+        List<String> positions = taskPositionService.appendPositions(boardId, request.getTasks().size());
+        List<Task> tasks = new ArrayList<>(positions.size());
+        for (int i = 0; i < positions.size(); i++) {
+            TaskCreateRequest item = request.getTasks().get(i);
+            Task task = Task.create(item.getDescription(), board, item.getDueDate());
+            taskHierarchyService.attach(task, boardId, item.getParentId());
+            task.applyRecurrence(item.getRecurrenceRule());
+            task.setPosition(positions.get(i));
+            tasks.add(task);
+        }
+        List<Task> savedTasks = taskRepository.saveAll(tasks);
+        for (int i = 0; i < savedTasks.size(); i++) {
+            taskDescriptionService.storeNew(savedTasks.get(i), request.getTasks().get(i).getDescription());
+        }
+        List<Long> savedTaskIds = savedTasks.stream()
+                .map(Task::getId)
+                .collect(Collectors.toList());
+        long changeVersion = boardChangeRecorder.recordTaskChanges(
+                boardId, BoardChangeType.TASK_CREATED, savedTaskIds, savedTasks.size(), 0);
+        List<TaskHierarchyService.SubtaskDelta> deltas = savedTasks.stream()
+                .map(task -> new TaskHierarchyService.SubtaskDelta(task.getPath(), 1, 0))
+                .collect(Collectors.toList());
+        boardChangeRecorder.recordRelatedTaskUpdates(
+                boardId, changeVersion, taskHierarchyService.applyToAncestors(deltas));
+        savedTasks.forEach(task -> eventPublisher.publishEvent(BoardEvent.task(
+                boardId, BoardEventType.TASK_CREATED, changeVersion, userId, task.getId(), task.getStatus())));
 
-        return tasks.stream()
+        return savedTasks.stream()
                 .map(TaskResponse::from)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 보드의 Task 리스트 조회 (커서 기반 페이지네이션, 권한 확인 없음)
+     * 요구사항: Task 목록 조회 시 보드 접근 권한 확인
+     * 권한은 호출하는 쪽에서 확인합니다. (목록 API는 ETag용 BoardService#getChangeVersion 이 보드/멤버를 함께 확인)
+     * size + 1 건을 읽어 다음 페이지 존재 여부를 판단합니다.
+     */
+    public TaskPageResponse getPage(Long boardId, String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+        List<TaskResponse> tasks;
+        if (cursor == null || cursor.isBlank()) {
+            tasks = taskRepository.findPageByBoardId(boardId, limit);
+        } else {
+            // 커서 형식: {position}_{taskId}
+            int delimiter = cursor.lastIndexOf(CURSOR_DELIMITER);
+            Long cursorId;
+            try {
+                cursorId = Long.parseLong(cursor.substring(delimiter + 1));
+            } catch (NumberFormatException | IndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            if (delimiter <= 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            tasks = taskRepository.findPageByBoardIdAfter(boardId, cursor.substring(0, delimiter), cursorId, limit);
+        }
+
+        return toPage(tasks, pageSize);
+    }
+
+    /**
+     * 보드의 Task 첫 페이지 조회 (권한 확인 없음)
+     * 보드 스냅샷처럼 호출하는 쪽에서 이미 멤버 여부를 확인한 경우에만 사용합니다.
+     */
+    public TaskPageResponse getFirstPage(Long boardId, Integer size) {
+        return getPage(boardId, null, size);
+    }
+
     /**
      * Task 단건 조회
      * 요구사항: Task 단건 조회 시 보드 접근 권한 확인
@@ -75,7 +173,8 @@ public class TaskService {
     public TaskResponse getTask(Long boardId, Long taskId, Long userId) {
         Task task = validateTaskAndBoardAccess(boardId, taskId, userId);
 
-        return TaskResponse.from(task);
+        // 단건 조회만 잘린 설명의 전체 내용을 풀어서 반환
+        return TaskResponse.from(task, taskDescriptionService.getFullDescription(task));
     }
 
     /**
@@ -84,41 +183,209 @@ public class TaskService {
      */
     @Transactional
     public TaskResponse updateTask(Long boardId, Long taskId, Long userId, TaskUpdateRequest request) {
+        // 다른 쓰기 작업과 같은 순서(보드 → Task)로, 보드 행을 잠근 뒤 Task를 읽음
+        // (먼저 읽으면 그사이 커밋된 토글로 버전이 어긋나 flush 때 충돌함)
+        taskPositionService.lockBoardAsOwner(boardId, userId);
         Task task = validateTaskAndBoardAccess(boardId, taskId, userId);
 
-        task.setDescription(request.getDescription());
+        boolean wasTruncated = task.isDescriptionTruncated();
+        int previousLength = task.getDescriptionLength();
+        Long previousChecksum = task.getDescriptionChecksum();
+        task.applyDescription(request.getDescription());
+        // 길이와 SHA-256 체크섬이 그대로면 전체 설명도 그대로이므로 다시 압축해 쓰지 않음 (마감일만 바꾸는 수정 등)
+        boolean descriptionUnchanged = wasTruncated && task.isDescriptionTruncated()
+                && previousLength == task.getDescriptionLength()
+                && Objects.equals(previousChecksum, task.getDescriptionChecksum());
+        if ((wasTruncated || task.isDescriptionTruncated()) && !descriptionUnchanged) {
+            taskDescriptionService.store(task, request.getDescription());
+        }
+        if (!Objects.equals(task.getDueDate(), request.getDueDate())) {
+            // 마감일이 바뀌면 새 마감일 기준으로 다시 알림
+            task.setRemindedAt(null);
+        }
         task.setDueDate(request.getDueDate());
+        // 마감일이 바뀌었을 수 있으므로 다음 발생 시각도 새 마감일 기준으로 다시 계산
+        task.applyRecurrence(request.getRecurrenceRule());
         Task updatedTask = taskRepository.save(task);
+        taskAssigneeService.syncTasks(List.of(taskId));
+        long changeVersion = boardChangeRecorder.recordTaskChanges(
+                boardId, BoardChangeType.TASK_UPDATED, List.of(taskId), 0, 0);
+        eventPublisher.publishEvent(BoardEvent.task(
+                boardId, BoardEventType.TASK_UPDATED, changeVersion, userId, taskId, updatedTask.getStatus()));
 
-        return TaskResponse.from(updatedTask);
+        return TaskResponse.from(updatedTask, request.getDescription());
     }
 
     /**
      * Task 상태 변경 (토글)
      * 요구사항: Task 상태 변경 - 토글 방식
+     * 권한 확인, 버전 비교, 상태 변경을 UPDATE 한 문장으로 처리하고 Task 엔티티는 로딩하지 않습니다.
+     * 변경된 행이 없을 때만 원인(없음/권한/버전 충돌)을 구분하기 위해 다시 조회합니다.
      */
     @Transactional
     public TaskResponse toggleTaskStatus(Long boardId, Long taskId, Long userId, Long requestVersion) {
-        Task task = validateTaskAndBoardAccess(boardId, taskId, userId);
+        // 보드 행을 먼저 잠가 Task 생성/삭제/일괄 변경과 잠금 순서(보드 → Task → 조상 Task)를 맞춤
+        // (Task 행을 먼저 잠그면 상위 Task 토글이나 하위 Task 추가와 서로 기다리며 교착될 수 있음)
+        taskPositionService.lockBoardAsOwner(boardId, userId);
+        int updated = taskRepository.toggleStatusIfVersionMatches(
+                boardId, taskId, userId, requestVersion, LocalDateTime.now());
 
-        if(!task.getVersion().equals(requestVersion)) {
-            throw new OptimisticLockException("Task 버전이 충돌하였습니다.");
+        if (updated == 0) {
+            // Task 없음/보드 불일치/권한 없음이면 여기서 예외, 통과하면 버전 충돌
+            validateTaskAndBoardAccess(boardId, taskId, userId);
+            throw new GeneralException(ErrorCode.TASK_VERSION_CONFLICT);
         }
 
-        task.toggleStatus();
+        TaskResponse response = taskRepository.findResponseByBoardIdAndId(boardId, taskId)
+                .orElseThrow(() -> new IllegalArgumentException("Task를 찾을 수 없습니다."));
+
+        taskAssigneeService.syncTasks(List.of(taskId));
+        int checkedDelta = response.status() == TaskStatus.CHECKED ? 1 : -1;
+        long changeVersion = boardChangeRecorder.recordTaskChanges(boardId, BoardChangeType.TASK_UPDATED, List.of(taskId),
+                0, checkedDelta);
+        if (response.parentId() != null) {
+            String path = taskRepository.findPathByBoardIdAndId(boardId, taskId)
+                    .orElseThrow(() -> new IllegalArgumentException("Task를 찾을 수 없습니다."));
+            boardChangeRecorder.recordRelatedTaskUpdates(
+                    boardId, changeVersion, taskHierarchyService.applyToAncestors(path, 0, checkedDelta));
+        }
+        eventPublisher.publishEvent(BoardEvent.task(
+                boardId, BoardEventType.TASK_TOGGLED, changeVersion, userId, taskId, response.status()));
 
-        // flush 시 JPA가 version으로 최종 검증 → 영속 상태이므로 트랜잭션 종료 시 flush, save() 호출이 없어도 됨
-        return TaskResponse.from(task);
+        return response;
+    }
+
+    /**
+     * Task 상태 일괄 변경
+     * 요구사항: Task 상태 변경과 동일하게 보드 접근 권한 확인 (소유자)
+     * 대상 행을 한 번에 잠가 버전을 비교한 뒤, 목표 상태별로 UPDATE ... WHERE id IN (...) 한 문장씩 실행합니다.
+     * 버전이 맞지 않는 항목은 건너뛰고 CONFLICT로 응답합니다.
+     */
+    @Transactional
+    public TaskBulkStatusResponse updateTaskStatuses(Long boardId, Long userId, TaskBulkStatusRequest request) {
+        // 대상 Task 행보다 보드 행을 먼저 잠금 (다른 쓰기 작업과 같은 순서)
+        taskPositionService.lockBoardAsOwner(boardId, userId);
+
+        // 같은 taskId가 여러 번 오면 마지막 항목을 기준으로 처리
+        Map<Long, TaskBulkStatusRequest.Item> itemsById = new LinkedHashMap<>();
+        for (TaskBulkStatusRequest.Item item : request.items()) {
+            itemsById.put(item.taskId(), item);
+        }
+
+        Map<Long, TaskStateView> currentStates = taskRepository
+                .lockStatesByBoardIdAndIdIn(boardId, itemsById.keySet()).stream()
+                .collect(Collectors.toMap(TaskStateView::getId, Function.identity()));
+
+        Map<TaskStatus, List<Long>> idsByTargetStatus = new EnumMap<>(TaskStatus.class);
+        List<TaskBulkStatusResponse.Result> results = new ArrayList<>(itemsById.size());
+        int conflictCount = 0;
+        int checkedDelta = 0;
+        List<TaskHierarchyService.SubtaskDelta> subtaskDeltas = new ArrayList<>();
+
+        for (TaskBulkStatusRequest.Item item : itemsById.values()) {
+            TaskStateView current = currentStates.get(item.taskId());
+
+            if (current == null) {
+                results.add(new TaskBulkStatusResponse.Result(
+                        item.taskId(), TaskBulkStatusResponse.Outcome.NOT_FOUND, null, null));
+                continue;
+            }
+
+            if (!current.getVersion().equals(item.expectedVersion())) {
+                conflictCount++;
+                results.add(new TaskBulkStatusResponse.Result(
+                        item.taskId(), TaskBulkStatusResponse.Outcome.CONFLICT,
+                        current.getVersion(), TaskStatus.valueOf(current.getStatus())));
+                continue;
+            }
+
+            idsByTargetStatus.computeIfAbsent(item.targetStatus(), status -> new ArrayList<>()).add(item.taskId());
+            int itemCheckedDelta = checkedDelta(TaskStatus.valueOf(current.getStatus()), item.targetStatus());
+            checkedDelta += itemCheckedDelta;
+            if (current.getParentId() != null) {
+                subtaskDeltas.add(new TaskHierarchyService.SubtaskDelta(current.getPath(), 0, itemCheckedDelta));
+            }
+            results.add(new TaskBulkStatusResponse.Result(
+                    item.taskId(), TaskBulkStatusResponse.Outcome.UPDATED,
+                    current.getVersion() + 1, item.targetStatus()));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int updatedCount = 0;
+        List<Long> updatedTaskIds = new ArrayList<>();
+        for (Map.Entry<TaskStatus, List<Long>> entry : idsByTargetStatus.entrySet()) {
+            updatedCount += taskRepository.updateStatusByIds(boardId, entry.getValue(), entry.getKey(), now);
+            updatedTaskIds.addAll(entry.getValue());
+        }
+        if (updatedCount > 0) {
+            taskAssigneeService.syncTasks(updatedTaskIds);
+            long changeVersion = boardChangeRecorder.recordTaskChanges(
+                    boardId, BoardChangeType.TASK_UPDATED, updatedTaskIds, 0, checkedDelta);
+            boardChangeRecorder.recordRelatedTaskUpdates(
+                    boardId, changeVersion, taskHierarchyService.applyToAncestors(subtaskDeltas));
+            idsByTargetStatus.forEach((status, ids) -> ids.forEach(id -> eventPublisher.publishEvent(BoardEvent.task(
+                    boardId, BoardEventType.TASK_TOGGLED, changeVersion, userId, id, status))));
+        }
+
+        return new TaskBulkStatusResponse(updatedCount, conflictCount, results);
     }
 
     /**
      * Task 삭제
      * 요구사항: Task 삭제 시 보드 접근 권한 확인
+     * 하위 Task가 있으면 삭제할 수 없습니다. (조상 카운터와 휴지통 복원을 단순하게 유지)
      */
     @Transactional
     public void deleteTask(Long boardId, Long taskId, Long userId) {
+        // 하위 Task 추가/토글과 엇갈리지 않도록 보드 행을 먼저 잠근 뒤 Task를 읽고 확인
+        // (상태와 경로를 잠금 이후의 최신 행에서 읽어 완료 카운터 증감이 어긋나지 않게 함)
+        taskPositionService.lockBoardAsOwner(boardId, userId);
         Task task = validateTaskAndBoardAccess(boardId, taskId, userId);
-        taskRepository.delete(task);
+        taskHierarchyService.ensureNoSubtasks(boardId, taskId);
+        // 바로 지우지 않고 휴지통으로 이동 (보관 기간이 지나면 TaskTrashPurger가 영구 삭제)
+        task.setDeletedAt(LocalDateTime.now());
+        int checkedDelta = task.getStatus() == TaskStatus.CHECKED ? -1 : 0;
+        long changeVersion = boardChangeRecorder.recordTaskChanges(boardId, BoardChangeType.TASK_DELETED, List.of(taskId),
+                -1, checkedDelta);
+        boardChangeRecorder.recordRelatedTaskUpdates(
+                boardId, changeVersion, taskHierarchyService.applyToAncestors(task.getPath(), -1, checkedDelta));
+        eventPublisher.publishEvent(BoardEvent.task(
+                boardId, BoardEventType.TASK_DELETED, changeVersion, userId, taskId, null));
+    }
+
+    /**
+     * 상태 변경에 따른 완료 카운터 증감값
+     */
+    private int checkedDelta(TaskStatus from, TaskStatus to) {
+        if (from == to) {
+            return 0;
+        }
+        return to == TaskStatus.CHECKED ? 1 : -1;
+    }
+
+    /**
+     * size + 1 건 조회 결과를 페이지 응답으로 변환 (다음 커서: {position}_{taskId})
+     */
+    private TaskPageResponse toPage(List<TaskResponse> tasks, int pageSize) {
+        boolean hasNext = tasks.size() > pageSize;
+        List<TaskResponse> page = hasNext ? tasks.subList(0, pageSize) : tasks;
+        String nextCursor = null;
+        if (hasNext) {
+            TaskResponse last = page.get(page.size() - 1);
+            nextCursor = last.position() + CURSOR_DELIMITER + last.id();
+        }
+
+        return new TaskPageResponse(page, nextCursor, hasNext);
+    }
+
+    /**
+     * 페이지 크기 보정 (미지정 시 기본값, 최대값 제한)
+     */
+    private int resolvePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
     }
 
     /**
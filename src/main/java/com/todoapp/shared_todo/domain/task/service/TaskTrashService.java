@@ -0,0 +1,100 @@
+package com.todoapp.shared_todo.domain.task.service;
+
+import com.todoapp.shared_todo.domain.board.entity.Board;
+import com.todoapp.shared_todo.domain.board.entity.BoardChangeType;
+import com.todoapp.shared_todo.domain.board.repository.BoardRepository;
+import com.todoapp.shared_todo.domain.board.service.BoardChangeRecorder;
+import com.todoapp.shared_todo.domain.boardEvent.dto.BoardEvent;
+import com.todoapp.shared_todo.domain.boardEvent.dto.BoardEventType;
+import com.todoapp.shared_todo.domain.task.dto.TaskResponse;
+import com.todoapp.shared_todo.domain.task.dto.TaskStateView;
+import com.todoapp.shared_todo.domain.task.dto.TrashedTaskPageResponse;
+import com.todoapp.shared_todo.domain.task.dto.TrashedTaskResponse;
+import com.todoapp.shared_todo.domain.task.entity.TaskStatus;
+import com.todoapp.shared_todo.domain.task.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Task 휴지통 (삭제된 Task 조회/복원)
+ * 영구 삭제는 보관 기간이 지난 뒤 TaskTrashPurger가 처리합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TaskTrashService {
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private final TaskRepository taskRepository;
+    private final BoardRepository boardRepository;
+    private final TaskPositionService taskPositionService;
+    private final TaskHierarchyService taskHierarchyService;
+    private final BoardChangeRecorder boardChangeRecorder;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 보드 휴지통 조회 (최근 삭제순, 커서 기반)
+     * 요구사항: 복원 권한과 동일하게 보드 소유자만 조회 가능
+     */
+    public TrashedTaskPageResponse getTrash(Long boardId, Long userId, Long cursor, Integer size) {
+        Board board = boardRepository.findById(boardId)
+                .orElseThrow(() -> new IllegalArgumentException("보드를 찾을 수 없습니다."));
+
+        // 권한 확인: 소유자만 접근 가능
+        if (!board.getAuthor().getId().equals(userId)) {
+            throw new IllegalArgumentException("보드에 접근할 권한이 없습니다.");
+        }
+
+        int pageSize = (size == null || size <= 0) ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        List<TrashedTaskResponse> tasks = taskRepository
+                .findTrashByBoardId(boardId, cursor == null ? Long.MAX_VALUE : cursor, pageSize + 1).stream()
+                .map(TrashedTaskResponse::from)
+                .toList();
+
+        boolean hasNext = tasks.size() > pageSize;
+        List<TrashedTaskResponse> page = hasNext ? tasks.subList(0, pageSize) : tasks;
+        Long nextCursor = hasNext ? page.get(page.size() - 1).id() : null;
+
+        return new TrashedTaskPageResponse(page, nextCursor, hasNext);
+    }
+
+    /**
+     * 휴지통의 Task 복원 (보드 맨 뒤 순서로 복원)
+     * 요구사항: Task 삭제와 동일하게 보드 접근 권한 확인 (소유자)
+     * 하위 Task는 상위 Task가 사용 중일 때만 복원할 수 있습니다.
+     */
+    @Transactional
+    public TaskResponse restoreTask(Long boardId, Long taskId, Long userId) {
+        taskPositionService.lockBoardAsOwner(boardId, userId);
+
+        TaskStateView trashed = taskRepository.findTrashedState(boardId, taskId)
+                .orElseThrow(() -> new IllegalArgumentException("휴지통에서 Task를 찾을 수 없습니다."));
+        if (trashed.getParentId() != null) {
+            // 상위 Task가 휴지통에 있거나 영구 삭제되었으면 여기서 예외
+            taskHierarchyService.lockParentPath(boardId, trashed.getParentId());
+        }
+
+        // 삭제 이후 같은 키가 새로 쓰였을 수 있으므로 복원 시 새 정렬 키를 받음
+        String position = taskPositionService.appendPositions(boardId, 1).get(0);
+        taskRepository.restoreFromTrash(boardId, taskId, position, LocalDateTime.now());
+
+        TaskResponse response = taskRepository.findResponseByBoardIdAndId(boardId, taskId)
+                .orElseThrow(() -> new IllegalArgumentException("Task를 찾을 수 없습니다."));
+        boolean checked = TaskStatus.valueOf(trashed.getStatus()) == TaskStatus.CHECKED;
+        long changeVersion = boardChangeRecorder.recordTaskChanges(
+                boardId, BoardChangeType.TASK_CREATED, List.of(taskId), 1, checked ? 1 : 0);
+        boardChangeRecorder.recordRelatedTaskUpdates(boardId, changeVersion,
+                taskHierarchyService.applyToAncestors(trashed.getPath(), 1, checked ? 1 : 0));
+        eventPublisher.publishEvent(BoardEvent.task(
+                boardId, BoardEventType.TASK_RESTORED, changeVersion, userId, taskId, response.status()));
+
+        return response;
+    }
+}
@@ -0,0 +1,10 @@
+package com.todoapp.shared_todo.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Scheduled 배치 작업 활성화 (카운터 보정 등)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
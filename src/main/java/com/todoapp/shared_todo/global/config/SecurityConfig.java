@@ -6,6 +6,7 @@ import com.todoapp.shared_todo.domain.auth.service.CustomOAuth2UserService;
 import com.todoapp.shared_todo.global.security.JwtAuthenticationFilter;
 import com.todoapp.shared_todo.global.security.JwtProvider;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -17,6 +18,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 
 //필터는 다음 단계에서 만들꺼임. 지금은 이름만 만들어둘꺼임
 @Configuration
@@ -29,6 +31,10 @@ public class SecurityConfig {
     private final CustomOAuth2UserService customOAuth2UserService;
     private final OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler;
 
+    //액추에이터 전용 관리 포트 (내부망에만 열어 둠, 미설정 시 -1)
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     //비밀번호 암호화
     @Bean
     public PasswordEncoder passwordEncoder() {
@@ -56,6 +62,10 @@ public class SecurityConfig {
                                 "/swagger-ui/**", //스웨거
                                 "/swagger-ui.html") //스웨거
                         .permitAll()
+                        //액추에이터: 헬스 체크는 공개, 메트릭 등 나머지는 관리 포트로 들어온 요청만 허용
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                        .requestMatchers(managementPortRequest()).permitAll()
+                        .requestMatchers("/actuator/**").denyAll()
                         .anyRequest().authenticated()
                 )
                 .oauth2Login(oauth2 -> oauth2.userInfoEndpoint(userInfo -> userInfo.userService(customOAuth2UserService))
@@ -67,4 +77,11 @@ public class SecurityConfig {
         
         return http.build();
     }
+
+    //관리 포트로 들어온 액추에이터 요청 (서비스 포트로 들어온 요청은 해당 없음)
+    private RequestMatcher managementPortRequest() {
+        return request -> managementPort > 0
+                && request.getLocalPort() == managementPort
+                && request.getRequestURI().startsWith("/actuator/");
+    }
 }
@@ -40,6 +40,10 @@ public enum ErrorCode {
     NOT_BOARD_MEMBER(HttpStatus.FORBIDDEN, "BOARD_TASK_003","해당 보드의 멤버가 아닙니다."),
     TASK_NOT_FOUND(HttpStatus.NOT_FOUND, "BOARD_TASK_004","존재하지 않는 할 일(Task)입니다."),
     TASK_ALREADY_COMPLETED(HttpStatus.BAD_REQUEST, "BOARD_TASK_005","이미 완료된 할 일입니다."),
+    TASK_VERSION_CONFLICT(HttpStatus.CONFLICT, "BOARD_TASK_006","다른 사용자가 먼저 수정한 할 일입니다. 새로고침 후 다시 시도해주세요."),
+
+    /* --- 보드 (Board) --- */
+    BOARD_SNAPSHOT_TIMEOUT(HttpStatus.SERVICE_UNAVAILABLE, "BOARD_001","보드를 불러오는 데 시간이 너무 오래 걸립니다. 잠시 후 다시 시도해주세요."),
 
     /* --- 초대 (Invitation) [cite: 78] --- */
     INVITATION_NOT_FOUND(HttpStatus.NOT_FOUND, "INVITAION_001","초대장이 존재하지 않거나 만료되었습니다."),
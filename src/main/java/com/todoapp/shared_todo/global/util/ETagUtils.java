@@ -0,0 +1,12 @@
+package com.todoapp.shared_todo.global.util;
+
+public class ETagUtils {
+
+    /**
+     * 보드 변경 버전으로 강한(strong) ETag 값을 만듭니다.
+     * 보드의 제목/멤버/Task가 바뀔 때마다 버전이 올라가므로, 버전이 같으면 응답 내용도 같습니다.
+     */
+    public static String boardETag(Long boardId, Long changeVersion) {
+        return "\"board-" + boardId + "-v" + changeVersion + "\"";
+    }
+}
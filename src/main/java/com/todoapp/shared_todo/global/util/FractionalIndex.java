@@ -0,0 +1,134 @@
+package com.todoapp.shared_todo.global.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 분수 인덱스(fractional index) 정렬 키 생성기
+ * - 키는 0-9A-Za-z (base62) 문자열이며 사전순 비교가 곧 정렬 순서입니다. (DB 컬럼은 바이너리 콜레이션 필요)
+ * - 키를 0과 1 사이 소수의 소수점 이하 자리로 보고, 두 키 사이의 중간값을 만들어 한 행만 바꿔 순서를 옮깁니다.
+ * - 끝자리가 '0'인 키는 만들지 않으므로 어떤 키 앞에도 항상 새 키를 넣을 수 있습니다.
+ */
+public final class FractionalIndex {
+
+    private static final String DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+
+    private FractionalIndex() {
+    }
+
+    /**
+     * before 와 after 사이의 키 (null 은 각각 맨 앞/맨 뒤)
+     */
+    public static String between(String before, String after) {
+        if (before != null) {
+            validate(before);
+        }
+        if (after != null) {
+            validate(after);
+        }
+        if (before != null && after != null && before.compareTo(after) >= 0) {
+            throw new IllegalArgumentException("정렬 키 순서가 올바르지 않습니다: " + before + " >= " + after);
+        }
+        if (before != null && after == null) {
+            return after(before);
+        }
+        return midpoint(before == null ? "" : before, after);
+    }
+
+    /**
+     * before 바로 뒤에 붙일 키 (맨 뒤에 추가할 때 사용)
+     * 중간값 대신 끝자리를 1 올려, 연속으로 추가해도 키 길이가 천천히 늘어나게 합니다.
+     */
+    public static String after(String before) {
+        if (before == null) {
+            return String.valueOf(DIGITS.charAt(BASE / 2));
+        }
+        validate(before);
+
+        char[] digits = before.toCharArray();
+        for (int i = digits.length - 1; i >= 0; i--) {
+            int digit = DIGITS.indexOf(digits[i]);
+            if (digit < BASE - 1) {
+                digits[i] = DIGITS.charAt(digit + 1);
+                return new String(digits, 0, i + 1);
+            }
+        }
+        // 모든 자리가 최댓값이면 한 자리 늘림
+        return before + DIGITS.charAt(1);
+    }
+
+    /**
+     * count 개의 키를 같은 길이, 같은 간격으로 생성 (재정렬용)
+     * 뒤쪽 절반은 비워 두어 재정렬 직후 맨 뒤 추가가 키를 늘리지 않게 합니다.
+     */
+    public static List<String> evenlySpaced(int count) {
+        List<String> keys = new ArrayList<>(count);
+        if (count <= 0) {
+            return keys;
+        }
+
+        // 키 사이 간격이 BASE 이상이 되도록 길이를 정함 (사이에 여러 번 끼워 넣어도 길이가 유지되도록)
+        int length = 1;
+        long space = BASE;
+        while (space / 2 / (count + 1L) < BASE && length < 10) {
+            length++;
+            space *= BASE;
+        }
+
+        long step = Math.max(1, space / 2 / (count + 1L));
+        for (int i = 1; i <= count; i++) {
+            keys.add(encode(step * i, length));
+        }
+        return keys;
+    }
+
+    private static String midpoint(String a, String b) {
+        if (b != null) {
+            // 공통 접두사는 그대로 두고 나머지에서 중간값을 구함 (a는 뒤에 '0'이 이어진다고 봄)
+            int n = 0;
+            while (n < b.length() && (n < a.length() ? a.charAt(n) : DIGITS.charAt(0)) == b.charAt(n)) {
+                n++;
+            }
+            if (n > 0) {
+                return b.substring(0, n) + midpoint(n < a.length() ? a.substring(n) : "", b.substring(n));
+            }
+        }
+
+        int digitA = a.isEmpty() ? 0 : DIGITS.indexOf(a.charAt(0));
+        int digitB = b != null ? DIGITS.indexOf(b.charAt(0)) : BASE;
+        if (digitB - digitA > 1) {
+            return String.valueOf(DIGITS.charAt((digitA + digitB + 1) / 2));
+        }
+        // 첫 자리가 이웃한 경우
+        if (b != null && b.length() > 1) {
+            return b.substring(0, 1);
+        }
+        return DIGITS.charAt(digitA) + midpoint(a.isEmpty() ? "" : a.substring(1), null);
+    }
+
+    private static String encode(long value, int length) {
+        char[] digits = new char[length];
+        long remaining = value;
+        for (int i = length - 1; i >= 0; i--) {
+            digits[i] = DIGITS.charAt((int) (remaining % BASE));
+            remaining /= BASE;
+        }
+        int end = length;
+        while (end > 1 && digits[end - 1] == DIGITS.charAt(0)) {
+            end--;
+        }
+        return new String(digits, 0, end);
+    }
+
+    private static void validate(String key) {
+        if (key.isEmpty() || key.charAt(key.length() - 1) == DIGITS.charAt(0)) {
+            throw new IllegalArgumentException("올바르지 않은 정렬 키입니다: " + key);
+        }
+        for (int i = 0; i < key.length(); i++) {
+            if (DIGITS.indexOf(key.charAt(i)) < 0) {
+                throw new IllegalArgumentException("올바르지 않은 정렬 키입니다: " + key);
+            }
+        }
+    }
+}
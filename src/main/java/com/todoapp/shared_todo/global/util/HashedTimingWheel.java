@@ -0,0 +1,97 @@
+package com.todoapp.shared_todo.global.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * 해시 타이밍 휠
+ * 만료 시각을 tick 단위로 잘라 고정 크기 버킷 배열에 나눠 담습니다.
+ * 등록은 O(1), 한 tick 진행은 해당 버킷 크기만큼의 비용만 듭니다.
+ * 버킷 수보다 먼 시각도 등록할 수 있으며, 해당 버킷을 지날 때 자기 tick 이 아니면 그대로 남습니다.
+ *
+ * @param <T> 만료 시 돌려받을 항목 타입
+ */
+public class HashedTimingWheel<T> {
+
+    private final long tickMillis;
+    private final long startMillis;
+    private final int mask;
+    private final Deque<Entry<T>>[] buckets;
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param tickMillis  tick 간격 (ms)
+     * @param wheelSize   버킷 수 (2의 거듭제곱으로 올림)
+     * @param startMillis 휠 기준 시각 (ms)
+     */
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tickMillis와 wheelSize는 0보다 커야 합니다.");
+        }
+        int normalizedSize = Integer.highestOneBit(wheelSize - 1 == 0 ? 1 : (wheelSize - 1) << 1);
+        this.tickMillis = tickMillis;
+        this.startMillis = startMillis;
+        this.mask = normalizedSize - 1;
+        this.buckets = new Deque[normalizedSize];
+        for (int i = 0; i < normalizedSize; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+    }
+
+    /**
+     * 항목 등록 (이미 지난 시각이면 다음 advance 에서 바로 만료)
+     */
+    public synchronized void schedule(T item, long deadlineMillis) {
+        long tick = Math.max(Math.floorDiv(deadlineMillis - startMillis + tickMillis - 1, tickMillis), currentTick);
+        buckets[(int) (tick & mask)].add(new Entry<>(item, tick));
+        size++;
+    }
+
+    /**
+     * nowMillis 까지 휠을 진행하고 만료된 항목을 반환
+     */
+    public synchronized List<T> advance(long nowMillis) {
+        long targetTick = Math.floorDiv(nowMillis - startMillis, tickMillis);
+        List<T> expired = new ArrayList<>();
+        if (targetTick < currentTick) {
+            return expired;
+        }
+
+        if (targetTick - currentTick >= buckets.length) {
+            // 오래 멈춰 있었던 경우: 한 바퀴 이상이면 모든 버킷을 한 번씩만 훑음
+            for (Deque<Entry<T>> bucket : buckets) {
+                expire(bucket, targetTick, expired);
+            }
+        } else {
+            for (long tick = currentTick; tick <= targetTick; tick++) {
+                expire(buckets[(int) (tick & mask)], targetTick, expired);
+            }
+        }
+        currentTick = targetTick + 1;
+        return expired;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private void expire(Deque<Entry<T>> bucket, long targetTick, List<T> expired) {
+        Iterator<Entry<T>> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Entry<T> entry = iterator.next();
+            if (entry.tick <= targetTick) {
+                iterator.remove();
+                size--;
+                expired.add(entry.item);
+            }
+        }
+    }
+
+    private record Entry<T>(T item, long tick) {
+    }
+}
@@ -0,0 +1,262 @@
+package com.todoapp.shared_todo.global.util;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 반복 규칙 (RFC 5545 RRULE 일부)
+ * - 지원: FREQ=DAILY|WEEKLY|MONTHLY, INTERVAL, BYDAY(WEEKLY 전용, 요일만), COUNT, UNTIL
+ * - 주의 시작은 월요일(WKST=MO)로 고정합니다.
+ * - 다음 발생 시각은 직전 발생 시각(anchor)을 기준으로 계산하므로, 시작 시각 대신 가장 최근 발생만 알면 됩니다.
+ *   COUNT는 이 방식으로 셀 수 없으므로 {@link #normalize(LocalDateTime)} 에서 UNTIL로 바꿔 저장합니다.
+ */
+public final class RecurrenceRule {
+
+    public enum Frequency {
+        DAILY, WEEKLY, MONTHLY
+    }
+
+    public static final int MAX_LENGTH = 255;
+    private static final int MAX_INTERVAL = 366;
+    private static final int MAX_COUNT = 1000;
+    // 한 번의 계산에서 건너뛸 수 있는 최대 발생 수 (잘못된 입력으로 무한히 도는 것 방지)
+    private static final int MAX_STEPS = 10_000;
+
+    private static final DateTimeFormatter UNTIL_DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter UNTIL_DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss");
+    private static final List<String> DAY_CODES = List.of("MO", "TU", "WE", "TH", "FR", "SA", "SU");
+
+    private final Frequency frequency;
+    private final int interval;
+    private final Set<DayOfWeek> byDay;
+    private final Integer count;
+    private final LocalDateTime until;
+
+    private RecurrenceRule(Frequency frequency, int interval, Set<DayOfWeek> byDay, Integer count, LocalDateTime until) {
+        this.frequency = frequency;
+        this.interval = interval;
+        this.byDay = byDay;
+        this.count = count;
+        this.until = until;
+    }
+
+    /**
+     * 규칙 문자열 파싱 (예: "FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,WE", 앞의 "RRULE:" 은 생략 가능)
+     *
+     * @throws IllegalArgumentException 형식이 잘못되었거나 지원하지 않는 항목이 있는 경우
+     */
+    public static RecurrenceRule parse(String rule) {
+        if (rule == null || rule.isBlank()) {
+            throw new IllegalArgumentException("반복 규칙이 비어 있습니다.");
+        }
+        if (rule.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException("반복 규칙이 너무 깁니다.");
+        }
+
+        String body = rule.trim().toUpperCase(Locale.ROOT);
+        if (body.startsWith("RRULE:")) {
+            body = body.substring("RRULE:".length());
+        }
+
+        Frequency frequency = null;
+        int interval = 1;
+        Set<DayOfWeek> byDay = EnumSet.noneOf(DayOfWeek.class);
+        Integer count = null;
+        LocalDateTime until = null;
+
+        for (String part : body.split(";")) {
+            int eq = part.indexOf('=');
+            if (eq <= 0 || eq == part.length() - 1) {
+                throw new IllegalArgumentException("반복 규칙 형식이 올바르지 않습니다: " + part);
+            }
+            String key = part.substring(0, eq);
+            String value = part.substring(eq + 1);
+            switch (key) {
+                case "FREQ" -> frequency = parseFrequency(value);
+                case "INTERVAL" -> interval = parseNumber(key, value, MAX_INTERVAL);
+                case "BYDAY" -> byDay = parseDays(value);
+                case "COUNT" -> count = parseNumber(key, value, MAX_COUNT);
+                case "UNTIL" -> until = parseUntil(value);
+                default -> throw new IllegalArgumentException("지원하지 않는 반복 규칙 항목입니다: " + key);
+            }
+        }
+
+        if (frequency == null) {
+            throw new IllegalArgumentException("반복 규칙에 FREQ가 없습니다.");
+        }
+        if (!byDay.isEmpty() && frequency != Frequency.WEEKLY) {
+            throw new IllegalArgumentException("BYDAY는 FREQ=WEEKLY에서만 사용할 수 있습니다.");
+        }
+        if (count != null && until != null) {
+            throw new IllegalArgumentException("COUNT와 UNTIL은 함께 사용할 수 없습니다.");
+        }
+        return new RecurrenceRule(frequency, interval, byDay, count, until);
+    }
+
+    /**
+     * 저장용 규칙으로 변환 (COUNT → 마지막 발생 시각의 UNTIL)
+     *
+     * @param start 첫 발생 시각 (Task 마감일)
+     */
+    public RecurrenceRule normalize(LocalDateTime start) {
+        if (count == null) {
+            return this;
+        }
+        LocalDateTime last = start;
+        for (int i = 1; i < count; i++) {
+            last = step(last);
+        }
+        return new RecurrenceRule(frequency, interval, byDay, null, last);
+    }
+
+    /**
+     * occurrence 다음 발생 시각 (UNTIL을 넘으면 null)
+     *
+     * @param occurrence 직전 발생 시각
+     */
+    public LocalDateTime next(LocalDateTime occurrence) {
+        LocalDateTime next = step(occurrence);
+        return (until != null && next.isAfter(until)) ? null : next;
+    }
+
+    /**
+     * [from, to) 구간의 발생 시각 (anchor부터 차례로 계산, 최대 limit개)
+     *
+     * @param anchor 기준이 되는 발생 시각 (자신도 구간 안이면 포함)
+     */
+    public List<LocalDateTime> occurrencesBetween(LocalDateTime anchor, LocalDateTime from, LocalDateTime to, int limit) {
+        List<LocalDateTime> occurrences = new ArrayList<>();
+        LocalDateTime current = anchor;
+        int steps = 0;
+        while (current != null && current.isBefore(to) && occurrences.size() < limit && steps++ < MAX_STEPS) {
+            if (!current.isBefore(from)) {
+                occurrences.add(current);
+            }
+            current = next(current);
+        }
+        return occurrences;
+    }
+
+    public Frequency getFrequency() {
+        return frequency;
+    }
+
+    public LocalDateTime getUntil() {
+        return until;
+    }
+
+    /**
+     * 규칙 문자열 (항목 순서와 표기를 고정해 같은 규칙은 같은 문자열이 되도록 함)
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("FREQ=").append(frequency.name());
+        if (interval != 1) {
+            sb.append(";INTERVAL=").append(interval);
+        }
+        if (!byDay.isEmpty()) {
+            sb.append(";BYDAY=").append(byDay.stream()
+                    .map(day -> DAY_CODES.get(day.getValue() - 1))
+                    .collect(Collectors.joining(",")));
+        }
+        if (count != null) {
+            sb.append(";COUNT=").append(count);
+        }
+        if (until != null) {
+            sb.append(";UNTIL=").append(until.format(UNTIL_DATE_TIME));
+        }
+        return sb.toString();
+    }
+
+    private LocalDateTime step(LocalDateTime occurrence) {
+        return switch (frequency) {
+            case DAILY -> occurrence.plusDays(interval);
+            case WEEKLY -> stepWeekly(occurrence);
+            case MONTHLY -> stepMonthly(occurrence);
+        };
+    }
+
+    private LocalDateTime stepWeekly(LocalDateTime occurrence) {
+        if (byDay.isEmpty()) {
+            return occurrence.plusWeeks(interval);
+        }
+        // 같은 주에 남은 요일이 있으면 그날, 없으면 interval 주 뒤의 첫 요일
+        for (DayOfWeek day : byDay) {
+            if (day.compareTo(occurrence.getDayOfWeek()) > 0) {
+                return occurrence.with(TemporalAdjusters.nextOrSame(day));
+            }
+        }
+        LocalDateTime weekStart = occurrence.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        return weekStart.plusWeeks(interval).with(TemporalAdjusters.nextOrSame(byDay.iterator().next()));
+    }
+
+    private LocalDateTime stepMonthly(LocalDateTime occurrence) {
+        // 해당 날짜가 없는 달(예: 31일)은 건너뜀 (RFC 5545와 동일)
+        int dayOfMonth = occurrence.getDayOfMonth();
+        LocalDate firstOfMonth = occurrence.toLocalDate().withDayOfMonth(1);
+        for (int i = 1; i <= MAX_STEPS; i++) {
+            LocalDate month = firstOfMonth.plusMonths((long) interval * i);
+            if (dayOfMonth <= month.lengthOfMonth()) {
+                return LocalDateTime.of(month.withDayOfMonth(dayOfMonth), occurrence.toLocalTime());
+            }
+        }
+        throw new IllegalStateException("다음 발생 시각을 계산할 수 없습니다.");
+    }
+
+    private static Frequency parseFrequency(String value) {
+        try {
+            return Frequency.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 반복 주기입니다: " + value);
+        }
+    }
+
+    private static int parseNumber(String key, String value, int max) {
+        try {
+            int number = Integer.parseInt(value);
+            if (number < 1 || number > max) {
+                throw new IllegalArgumentException(key + "는 1~" + max + " 사이여야 합니다.");
+            }
+            return number;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(key + " 값이 올바르지 않습니다: " + value);
+        }
+    }
+
+    private static Set<DayOfWeek> parseDays(String value) {
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        for (String code : value.split(",")) {
+            int index = DAY_CODES.indexOf(code);
+            if (index < 0) {
+                throw new IllegalArgumentException("지원하지 않는 BYDAY 값입니다: " + code);
+            }
+            days.add(DayOfWeek.of(index + 1));
+        }
+        return days;
+    }
+
+    private static LocalDateTime parseUntil(String value) {
+        // 끝의 Z(UTC 표기)는 서버 로컬 시각으로 취급
+        String text = value.endsWith("Z") ? value.substring(0, value.length() - 1) : value;
+        try {
+            if (text.length() == 8) {
+                // 날짜만 주면 그날 전체를 포함
+                return LocalDate.parse(text, UNTIL_DATE).atTime(LocalTime.MAX.withNano(0));
+            }
+            return LocalDateTime.parse(text, UNTIL_DATE_TIME);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("UNTIL 값이 올바르지 않습니다: " + value);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.todoapp.shared_todo.global.util;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 긴 텍스트 압축/해제 (MySQL COMPRESS() 와 같은 형식)
+ * - 형식: 원문 UTF-8 바이트 수(4바이트, little-endian) + zlib 스트림, 빈 문자열은 빈 배열
+ * - 같은 형식이라 DB 안에서도 UNCOMPRESS() 로 풀 수 있습니다. (보관 테이블로 옮길 때처럼 INSERT ... SELECT 에서 사용)
+ */
+public final class TextCompressor {
+
+    private static final int HEADER_LENGTH = 4;
+
+    private TextCompressor() {
+    }
+
+    public static byte[] compress(String text) {
+        byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+        if (raw.length == 0) {
+            return new byte[0];
+        }
+
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(HEADER_LENGTH + raw.length / 4 + 64);
+            out.write(raw.length);
+            out.write(raw.length >>> 8);
+            out.write(raw.length >>> 16);
+            out.write(raw.length >>> 24);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int written = deflater.deflate(buffer);
+                out.write(buffer, 0, written);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    public static String decompress(byte[] data) {
+        if (data.length == 0) {
+            return "";
+        }
+        if (data.length <= HEADER_LENGTH) {
+            throw new IllegalArgumentException("압축된 내용이 올바르지 않습니다.");
+        }
+
+        int length = (data[0] & 0xFF) | (data[1] & 0xFF) << 8 | (data[2] & 0xFF) << 16 | (data[3] & 0xFF) << 24;
+        if (length <= 0) {
+            throw new IllegalArgumentException("압축된 내용이 올바르지 않습니다.");
+        }
+
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data, HEADER_LENGTH, data.length - HEADER_LENGTH);
+            byte[] raw = new byte[length];
+            int read = 0;
+            while (read < length && !inflater.finished()) {
+                int inflated = inflater.inflate(raw, read, length - read);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                read += inflated;
+            }
+            if (read != length || !inflater.finished()) {
+                throw new IllegalArgumentException("압축된 내용이 올바르지 않습니다.");
+            }
+            return new String(raw, StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("압축된 내용이 올바르지 않습니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
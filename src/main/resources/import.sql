@@ -0,0 +1,5 @@
+-- ddl-auto(create/create-drop)로 스키마 생성 직후 Hibernate가 실행하는 스크립트 (한 줄에 한 문장)
+-- Task 내용 전문 검색용 FULLTEXT 인덱스 (한글 검색을 위해 ngram 파서 사용)
+ALTER TABLE task ADD FULLTEXT INDEX ft_task_description (description) WITH PARSER ngram;
+-- 미리보기보다 긴 설명의 전체 내용 전문 검색용 (task.description 에는 미리보기만 있음)
+ALTER TABLE task_description ADD FULLTEXT INDEX ft_task_description_search_text (search_text) WITH PARSER ngram;
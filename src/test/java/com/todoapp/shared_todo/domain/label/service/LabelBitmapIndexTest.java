@@ -0,0 +1,151 @@
+package com.todoapp.shared_todo.domain.label.service;
+
+import com.todoapp.shared_todo.domain.task.entity.TaskStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LabelBitmapIndexTest {
+
+    private static final long RED = 1L;
+    private static final long BLUE = 2L;
+    private static final long GREEN = 3L;
+
+    @Test
+    @DisplayName("이전 버전은 건너뛰고, 같은 버전과 바로 다음 버전만 반영해야 한다")
+    void stepRules() {
+        LabelBitmapIndex index = new LabelBitmapIndex(10, 4);
+        index.addTask(1L, TaskStatus.UNCHECKED);
+
+        // SKIP: 인덱스를 만들 때 이미 포함된 변경
+        assertThat(index.applyTaskCreated(9, 2L, TaskStatus.UNCHECKED)).isTrue();
+        assertThat(filterAll(index)).containsExactly(1L);
+        assertThat(index.getVersion()).isEqualTo(10);
+
+        // APPLY: 같은 버전(같은 트랜잭션의 다른 변경)
+        assertThat(index.applyTaskCreated(10, 3L, TaskStatus.UNCHECKED)).isTrue();
+        // APPLY: 바로 다음 버전
+        assertThat(index.applyTaskCreated(11, 4L, TaskStatus.CHECKED)).isTrue();
+        assertThat(filterAll(index)).containsExactly(1L, 3L, 4L);
+        assertThat(index.getVersion()).isEqualTo(11);
+
+        // GAP: 중간 버전을 놓침
+        assertThat(index.applyTaskCreated(13, 5L, TaskStatus.UNCHECKED)).isFalse();
+        assertThat(index.applyUnrelated(13)).isFalse();
+        assertThat(filterAll(index)).containsExactly(1L, 3L, 4L);
+        assertThat(index.getVersion()).isEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("라벨 변경은 Task의 라벨을 통째로 바꿔야 한다")
+    void applyLabelsReplacesTaskLabels() {
+        LabelBitmapIndex index = new LabelBitmapIndex(1, 2);
+        index.addTask(1L, TaskStatus.UNCHECKED);
+        index.addTask(2L, TaskStatus.UNCHECKED);
+        index.addLabel(1L, RED);
+        index.addLabel(1L, BLUE);
+        index.addLabel(2L, RED);
+
+        assertThat(index.applyLabels(2, 1L, Set.of(GREEN))).isTrue();
+
+        assertThat(index.filter(List.of(RED), List.of(), List.of(), null, 0, 10)).containsExactly(2L);
+        assertThat(index.filter(List.of(BLUE), List.of(), List.of(), null, 0, 10)).isEmpty();
+        assertThat(index.filter(List.of(GREEN), List.of(), List.of(), null, 0, 10)).containsExactly(1L);
+        // 인덱스에 없는 Task는 반영할 수 없음
+        assertThat(index.applyLabels(3, 99L, Set.of(RED))).isFalse();
+    }
+
+    @Test
+    @DisplayName("all/any/none 조건과 상태 조건을 함께 적용해야 한다")
+    void filterCombinesLabelAndStatusConditions() {
+        LabelBitmapIndex index = new LabelBitmapIndex(1, 5);
+        index.addTask(1L, TaskStatus.UNCHECKED);
+        index.addTask(2L, TaskStatus.CHECKED);
+        index.addTask(3L, TaskStatus.UNCHECKED);
+        index.addTask(4L, TaskStatus.CHECKED);
+        index.addTask(5L, TaskStatus.UNCHECKED);
+        index.addLabel(1L, RED);
+        index.addLabel(1L, BLUE);
+        index.addLabel(2L, RED);
+        index.addLabel(2L, BLUE);
+        index.addLabel(3L, RED);
+        index.addLabel(3L, GREEN);
+        index.addLabel(4L, BLUE);
+        index.addLabel(5L, GREEN);
+
+        assertThat(index.filter(List.of(RED, BLUE), List.of(), List.of(), null, 0, 10)).containsExactly(1L, 2L);
+        assertThat(index.filter(List.of(), List.of(BLUE, GREEN), List.of(), null, 0, 10))
+                .containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(index.filter(List.of(RED), List.of(), List.of(GREEN), null, 0, 10)).containsExactly(1L, 2L);
+        assertThat(index.filter(List.of(), List.of(BLUE), List.of(RED), TaskStatus.CHECKED, 0, 10))
+                .containsExactly(4L);
+        assertThat(index.filter(List.of(), List.of(RED, GREEN), List.of(), TaskStatus.UNCHECKED, 0, 10))
+                .containsExactly(1L, 3L, 5L);
+        // 없는 라벨을 all 조건에 주면 결과 없음
+        assertThat(index.filter(List.of(RED, 99L), List.of(), List.of(), null, 0, 10)).isEmpty();
+
+        // 상태 변경과 삭제 반영
+        assertThat(index.applyStatus(2, 1L, TaskStatus.CHECKED)).isTrue();
+        assertThat(index.applyTaskRemoved(3, 2L)).isTrue();
+        assertThat(index.filter(List.of(RED), List.of(), List.of(), TaskStatus.CHECKED, 0, 10)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("커서 다음부터 limit개씩 id 오름차순으로 이어 읽어야 한다")
+    void cursorPaging() {
+        LabelBitmapIndex index = new LabelBitmapIndex(1, 100);
+        for (long id = 1; id <= 100; id++) {
+            index.addTask(id, TaskStatus.UNCHECKED);
+            if (id % 3 == 0) {
+                index.addLabel(id, RED);
+            }
+        }
+
+        List<Long> ids = readAllPages(index, 7);
+
+        List<Long> expected = new ArrayList<>();
+        for (long id = 3; id <= 100; id += 3) {
+            expected.add(id);
+        }
+        assertThat(ids).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("더 작은 id가 나중에 추가되어도 id 오름차순으로 이어 읽어야 한다")
+    void cursorPagingWithOutOfOrderIds() {
+        LabelBitmapIndex index = new LabelBitmapIndex(1, 10);
+        for (long id : new long[]{10, 20, 30}) {
+            index.addTask(id, TaskStatus.UNCHECKED);
+            index.addLabel(id, RED);
+        }
+        assertThat(index.applyTaskCreated(2, 15L, TaskStatus.UNCHECKED)).isTrue();
+        assertThat(index.applyLabels(2, 15L, Set.of(RED))).isTrue();
+        assertThat(index.applyTaskCreated(3, 5L, TaskStatus.UNCHECKED)).isTrue();
+        assertThat(index.applyLabels(3, 5L, Set.of(RED))).isTrue();
+
+        assertThat(readAllPages(index, 2)).containsExactly(5L, 10L, 15L, 20L, 30L);
+    }
+
+    private static List<Long> filterAll(LabelBitmapIndex index) {
+        return index.filter(List.of(), List.of(), List.of(), null, 0, Integer.MAX_VALUE);
+    }
+
+    private static List<Long> readAllPages(LabelBitmapIndex index, int pageSize) {
+        List<Long> ids = new ArrayList<>();
+        long cursor = 0;
+        while (true) {
+            List<Long> page = index.filter(List.of(RED), List.of(), List.of(), null, cursor, pageSize);
+            assertThat(page).hasSizeLessThanOrEqualTo(pageSize).isSorted();
+            ids.addAll(page);
+            if (page.size() < pageSize) {
+                return ids;
+            }
+            cursor = page.get(page.size() - 1);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.todoapp.shared_todo.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FractionalIndexTest {
+
+    @Test
+    @DisplayName("임의 위치에 계속 끼워 넣어도 키 순서가 유지되어야 한다")
+    void betweenKeepsOrder() {
+        Random random = new Random(42);
+        List<String> keys = new ArrayList<>(List.of(FractionalIndex.after(null)));
+
+        for (int i = 0; i < 5_000; i++) {
+            int index = random.nextInt(keys.size() + 1);
+            String before = index == 0 ? null : keys.get(index - 1);
+            String after = index == keys.size() ? null : keys.get(index);
+            keys.add(index, FractionalIndex.between(before, after));
+        }
+
+        assertThat(keys).isSorted().doesNotHaveDuplicates();
+        assertThat(keys).noneMatch(key -> key.endsWith("0"));
+    }
+
+    @Test
+    @DisplayName("재정렬 키는 같은 길이로 정렬되어 생성되어야 한다")
+    void evenlySpacedKeysAreSortedAndShort() {
+        List<String> keys = FractionalIndex.evenlySpaced(10_000);
+
+        assertThat(keys).hasSize(10_000).isSorted().doesNotHaveDuplicates();
+        assertThat(keys).allMatch(key -> key.length() <= 4);
+    }
+
+    @Test
+    @DisplayName("순서가 뒤바뀐 키 사이에는 키를 만들 수 없다")
+    void betweenRejectsReversedBounds() {
+        assertThatThrownBy(() -> FractionalIndex.between("b", "a"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,45 @@
+package com.todoapp.shared_todo.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashedTimingWheelTest {
+
+    @Test
+    @DisplayName("만료 시각이 된 항목만 반환되어야 한다")
+    void advanceReturnsOnlyExpiredItems() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(100, 8, 0);
+        wheel.schedule("a", 250);
+        wheel.schedule("b", 500);
+
+        assertThat(wheel.advance(200)).isEmpty();
+        assertThat(wheel.advance(300)).containsExactly("a");
+        assertThat(wheel.advance(500)).containsExactly("b");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("버킷 수보다 먼 시각의 항목은 한 바퀴 뒤에 만료되어야 한다")
+    void itemBeyondOneRotationWaitsForItsTick() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(100, 4, 0);
+        wheel.schedule("far", 1_000);
+
+        assertThat(wheel.advance(500)).isEmpty();
+        assertThat(wheel.advance(900)).isEmpty();
+        assertThat(wheel.advance(1_000)).containsExactly("far");
+    }
+
+    @Test
+    @DisplayName("이미 지난 시각과 오래 멈춘 뒤의 진행도 빠짐없이 만료되어야 한다")
+    void overdueAndLongPauseAreExpired() {
+        HashedTimingWheel<String> wheel = new HashedTimingWheel<>(100, 4, 0);
+        wheel.advance(1_000);
+        wheel.schedule("overdue", 0);
+        wheel.schedule("later", 3_000);
+
+        assertThat(wheel.advance(1_100)).containsExactly("overdue");
+        assertThat(wheel.advance(10_000)).containsExactly("later");
+    }
+}
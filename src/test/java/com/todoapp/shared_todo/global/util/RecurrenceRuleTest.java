@@ -0,0 +1,56 @@
+package com.todoapp.shared_todo.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecurrenceRuleTest {
+
+    @Test
+    @DisplayName("격주 BYDAY 규칙은 같은 주의 남은 요일 다음에 interval 주를 건너뛰어야 한다")
+    void weeklyByDayWithInterval() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,WE");
+        LocalDateTime monday = LocalDateTime.of(2026, 1, 5, 9, 0);
+
+        assertThat(rule.occurrencesBetween(monday, monday, LocalDateTime.of(2026, 1, 31, 0, 0), 10))
+                .containsExactly(
+                        LocalDateTime.of(2026, 1, 5, 9, 0),
+                        LocalDateTime.of(2026, 1, 7, 9, 0),
+                        LocalDateTime.of(2026, 1, 19, 9, 0),
+                        LocalDateTime.of(2026, 1, 21, 9, 0));
+    }
+
+    @Test
+    @DisplayName("매월 31일 규칙은 31일이 없는 달을 건너뛰어야 한다")
+    void monthlySkipsShortMonths() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=MONTHLY");
+
+        assertThat(rule.next(LocalDateTime.of(2026, 1, 31, 18, 0))).isEqualTo(LocalDateTime.of(2026, 3, 31, 18, 0));
+    }
+
+    @Test
+    @DisplayName("COUNT는 마지막 발생 시각의 UNTIL로 바뀌고 그 뒤로는 발생하지 않아야 한다")
+    void countIsNormalizedToUntil() {
+        LocalDateTime start = LocalDateTime.of(2026, 3, 1, 8, 30);
+        RecurrenceRule rule = RecurrenceRule.parse("RRULE:FREQ=DAILY;INTERVAL=2;COUNT=3").normalize(start);
+
+        assertThat(rule.toString()).isEqualTo("FREQ=DAILY;INTERVAL=2;UNTIL=20260305T083000");
+        assertThat(rule.next(LocalDateTime.of(2026, 3, 3, 8, 30))).isEqualTo(LocalDateTime.of(2026, 3, 5, 8, 30));
+        assertThat(rule.next(LocalDateTime.of(2026, 3, 5, 8, 30))).isNull();
+        assertThat(RecurrenceRule.parse(rule.toString()).toString()).isEqualTo(rule.toString());
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 항목이나 잘못된 조합은 거부해야 한다")
+    void rejectsUnsupportedRules() {
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=YEARLY")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=DAILY;BYDAY=MO")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=1MO")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecurrenceRule.parse("FREQ=DAILY;COUNT=2;UNTIL=20260101")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecurrenceRule.parse("INTERVAL=2")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
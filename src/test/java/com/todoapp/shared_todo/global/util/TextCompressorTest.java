@@ -0,0 +1,55 @@
+package com.todoapp.shared_todo.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TextCompressorTest {
+
+    @Test
+    @DisplayName("압축한 내용을 풀면 원문과 같아야 한다")
+    void roundTrip() {
+        String text = "2024-05-01 12:00:00 ERROR 배포 실패 - connection refused\n".repeat(2_000) + "끝 😀";
+
+        byte[] compressed = TextCompressor.compress(text);
+
+        assertThat(TextCompressor.decompress(compressed)).isEqualTo(text);
+        assertThat(compressed.length).isLessThan(text.getBytes(StandardCharsets.UTF_8).length / 10);
+    }
+
+    @Test
+    @DisplayName("앞 4바이트는 원문 UTF-8 바이트 수(little-endian)여야 한다 (MySQL COMPRESS 형식)")
+    void headerIsLittleEndianLength() {
+        String text = "가".repeat(100);
+
+        byte[] compressed = TextCompressor.compress(text);
+
+        int length = (compressed[0] & 0xFF) | (compressed[1] & 0xFF) << 8
+                | (compressed[2] & 0xFF) << 16 | (compressed[3] & 0xFF) << 24;
+        assertThat(length).isEqualTo(300);
+        // zlib 헤더 (CMF = deflate, 32K 윈도우)
+        assertThat(compressed[4]).isEqualTo((byte) 0x78);
+    }
+
+    @Test
+    @DisplayName("빈 문자열은 빈 배열로 압축되어야 한다")
+    void emptyText() {
+        assertThat(TextCompressor.compress("")).isEmpty();
+        assertThat(TextCompressor.decompress(new byte[0])).isEmpty();
+    }
+
+    @Test
+    @DisplayName("잘린 압축 데이터는 거부해야 한다")
+    void rejectsTruncatedData() {
+        byte[] compressed = TextCompressor.compress("abc".repeat(1_000));
+        byte[] truncated = Arrays.copyOf(compressed, compressed.length - 4);
+
+        assertThatThrownBy(() -> TextCompressor.decompress(truncated))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}